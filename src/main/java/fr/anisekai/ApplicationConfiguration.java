@@ -1,12 +1,18 @@
 package fr.anisekai;
 
+import fr.anisekai.server.enums.TaskPipeline;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @ConfigurationProperties(prefix = "anisekai")
@@ -15,6 +21,7 @@ public class ApplicationConfiguration {
     private final Api     api     = new Api();
     private final Library library = new Library();
     private final Discord discord = new Discord();
+    private final Tasking tasking = new Tasking();
 
     public Api getApi() {
 
@@ -31,6 +38,11 @@ public class ApplicationConfiguration {
         return this.discord;
     }
 
+    public Tasking getTasking() {
+
+        return this.tasking;
+    }
+
     public static class Api {
 
         private String signingKey;
@@ -167,4 +179,144 @@ public class ApplicationConfiguration {
 
     }
 
+    public static class Tasking {
+
+        private final Map<TaskPipeline, Integer> concurrency    = new EnumMap<>(TaskPipeline.class);
+        private final Retention                  retention      = new Retention();
+        private       String                     nodeId;
+        private       Duration                   aging          = Duration.ofMinutes(10);
+        private       Set<TaskPipeline>          virtualThreads = EnumSet.of(TaskPipeline.MESSAGING);
+
+        public Map<TaskPipeline, Integer> getConcurrency() {
+
+            return this.concurrency;
+        }
+
+        public Retention getRetention() {
+
+            return this.retention;
+        }
+
+        /**
+         * Retrieve the time a {@link TaskPipeline} task must wait to gain one priority level, preventing low priority
+         * tasks from starving under a sustained high priority load.
+         *
+         * @return The aging interval.
+         */
+        public Duration getAging() {
+
+            return this.aging;
+        }
+
+        public void setAging(Duration aging) {
+
+            this.aging = aging;
+        }
+
+        /**
+         * Retrieve the {@link TaskPipeline}s executing each of their tasks on a dedicated virtual thread instead of a
+         * pool of platform threads. This is meant for pipelines whose tasks mostly wait on I/O.
+         *
+         * @return A {@link Set} of {@link TaskPipeline}.
+         */
+        public Set<TaskPipeline> getVirtualThreads() {
+
+            return this.virtualThreads;
+        }
+
+        public void setVirtualThreads(Set<TaskPipeline> virtualThreads) {
+
+            this.virtualThreads = virtualThreads;
+        }
+
+        /**
+         * Check if the provided {@link TaskPipeline} executes its tasks on virtual threads.
+         *
+         * @param pipeline
+         *         The {@link TaskPipeline} to check.
+         *
+         * @return True if the {@link TaskPipeline} uses virtual threads, false otherwise.
+         */
+        public boolean isVirtual(TaskPipeline pipeline) {
+
+            return this.virtualThreads != null && this.virtualThreads.contains(pipeline);
+        }
+
+        public String getNodeId() {
+
+            return this.nodeId;
+        }
+
+        public void setNodeId(String nodeId) {
+
+            this.nodeId = nodeId;
+        }
+
+        /**
+         * Retrieve the amount of workers allowed to run at the same time in the provided {@link TaskPipeline}, falling
+         * back to {@link TaskPipeline#getDefaultConcurrency()} when nothing valid has been configured.
+         *
+         * @param pipeline
+         *         The {@link TaskPipeline} for which the concurrency should be retrieved.
+         *
+         * @return The amount of concurrent workers.
+         */
+        public int getConcurrency(TaskPipeline pipeline) {
+
+            Integer value = this.concurrency.get(pipeline);
+            if (value == null || value < 1) return pipeline.getDefaultConcurrency();
+            return value;
+        }
+
+        public static class Retention {
+
+            private boolean  enabled   = true;
+            private boolean  archive   = true;
+            private Duration maxAge    = Duration.ofDays(30);
+            private int      batchSize = 500;
+
+            public boolean isEnabled() {
+
+                return this.enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+
+                this.enabled = enabled;
+            }
+
+            public boolean isArchive() {
+
+                return this.archive;
+            }
+
+            public void setArchive(boolean archive) {
+
+                this.archive = archive;
+            }
+
+            public Duration getMaxAge() {
+
+                return this.maxAge;
+            }
+
+            public void setMaxAge(Duration maxAge) {
+
+                this.maxAge = maxAge;
+            }
+
+            public int getBatchSize() {
+
+                return this.batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+
+                this.batchSize = batchSize;
+            }
+
+        }
+
+    }
+
 }
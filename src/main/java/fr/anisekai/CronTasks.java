@@ -8,6 +8,7 @@ import fr.anisekai.library.tasks.factories.TorrentSourcingFactory;
 import fr.anisekai.library.tasks.factories.TorrentSynchronizationFactory;
 import fr.anisekai.server.services.SettingService;
 import fr.anisekai.server.services.TaskService;
+import fr.anisekai.server.tasking.TaskFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -36,9 +37,7 @@ public class CronTasks {
 //                    .create()
 //                    .execute(new NoopTimedAction(), new AnisekaiJson());
 
-        this.service.getFactory(TorrentRetentionControlFactory.class)
-                    .create()
-                    .execute(new NoopTimedAction(), new AnisekaiJson());
+        this.run(this.service.getFactory(TorrentRetentionControlFactory.class), new AnisekaiJson());
     }
 
     @Scheduled(cron = "0/1 * * * * *")
@@ -54,9 +53,7 @@ public class CronTasks {
             return;
         }
 
-        this.service.getFactory(TorrentSynchronizationFactory.class)
-                    .create()
-                    .execute(new NoopTimedAction(), new AnisekaiJson());
+        this.run(this.service.getFactory(TorrentSynchronizationFactory.class), new AnisekaiJson());
     }
 
     @Scheduled(cron = "0 */15 * * * *")
@@ -82,9 +79,13 @@ public class CronTasks {
         AnisekaiJson arguments = new AnisekaiJson();
         arguments.put(TorrentSourcingTask.OPTION_SOURCE, optionalSource.get());
 
-        this.service.getFactory(TorrentSourcingFactory.class)
-                    .create()
-                    .execute(new NoopTimedAction(), arguments);
+        this.run(this.service.getFactory(TorrentSourcingFactory.class), arguments);
+    }
+
+    private void run(TaskFactory<?> factory, AnisekaiJson arguments) throws Exception {
+
+        // Executed in place rather than queued, the arguments still go through the schema of the factory.
+        factory.create().execute(new NoopTimedAction(), factory.getArgumentCodec().read(arguments));
     }
 
 }
@@ -18,7 +18,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -33,6 +32,21 @@ import java.util.stream.Stream;
  */
 public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID extends Serializable> implements Scheduler<T, E, ID> {
 
+    /**
+     * Time span occupied by a {@link Planifiable}, ending excluded.
+     *
+     * @param startingAt
+     *         The {@link Instant} at which the span starts.
+     * @param endingAt
+     *         The {@link Instant} at which the span ends.
+     */
+    private record Span(Instant startingAt, Instant endingAt) {
+
+        private static final Comparator<Span> ORDER = Comparator.comparing(Span::startingAt)
+                                                                .thenComparing(Span::endingAt);
+
+    }
+
     /**
      * If two {@link Planifiable} are of the following duration apart, they will be merged once scheduled. The duration
      * is done by comparing one {@link Planifiable#getStartingAt()} with the endpoint of another {@link Planifiable},
@@ -40,11 +54,28 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
      */
     public static final Duration MERGE_MAGNET_LIMIT = Duration.ofMinutes(10);
 
-    private final Set<E>          state;
-    private final Function<E, ID> idExtractor;
+    /**
+     * From this amount of {@link Planifiable} in the state, {@link #calibrate()} spreads the {@link WatchTarget}s over
+     * the common fork-join pool. Below it, splitting the work costs more than it saves.
+     */
+    public static final int PARALLEL_CALIBRATION_THRESHOLD = 2_048;
+
+    private final Set<E>                                 state;
+    private final Map<ID, E>                             entities;
+    private final NavigableMap<Instant, List<E>>         timeline;
+    private final Map<T, NavigableMap<Instant, List<E>>> targetTimelines;
+    private final Function<E, ID>                        idExtractor;
 
     /**
      * Create a new instance of {@link Scheduler}.
+     * <p>
+     * The provided {@link Planifiable} are indexed by {@link Planifiable#getStartingAt()}, globally and per
+     * {@link WatchTarget}, so that every lookup is logarithmic. The index is only updated by
+     * {@link #apply(SchedulingPlan, Function)}: moving a {@link Planifiable} outside of it is only supported as long as
+     * it keeps its position relative to the others, otherwise a new {@link EventScheduler} must be created.
+     * <p>
+     * The state is compared by identity, so that entities which are not persisted yet, and are thus equal to each
+     * other, can still be scheduled together.
      *
      * @param items
      *         Default collection of {@link Planifiable} that will populate the state.
@@ -53,38 +84,142 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
      */
     public EventScheduler(Collection<E> items, Function<E, ID> idExtractor) {
 
-        this.state       = new HashSet<>(items);
-        this.idExtractor = idExtractor;
+        this.state           = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.entities        = new HashMap<>();
+        this.timeline        = new TreeMap<>();
+        this.targetTimelines = new HashMap<>();
+        this.idExtractor     = idExtractor;
+
+        items.forEach(this::add);
+    }
+
+    /**
+     * Add the provided {@link Planifiable} to the state and its indexes.
+     *
+     * @param item
+     *         The {@link Planifiable} to add.
+     */
+    private void add(E item) {
+
+        if (!this.state.add(item)) {
+            return;
+        }
+
+        ID id = this.idExtractor.apply(item);
+        if (id != null) {
+            this.entities.put(id, item);
+        }
+
+        index(this.timeline, item);
+        index(this.targetTimelines.computeIfAbsent(item.getWatchTarget(), key -> new TreeMap<>()), item);
+    }
+
+    /**
+     * Remove the provided {@link Planifiable} from the state and its indexes.
+     *
+     * @param item
+     *         The {@link Planifiable} to remove.
+     */
+    private void remove(E item) {
+
+        this.state.remove(item);
+        this.entities.remove(this.idExtractor.apply(item));
+        unindex(this.timeline, item);
+
+        NavigableMap<Instant, List<E>> targetTimeline = this.targetTimelines.get(item.getWatchTarget());
+        if (targetTimeline != null && unindex(targetTimeline, item) && targetTimeline.isEmpty()) {
+            this.targetTimelines.remove(item.getWatchTarget());
+        }
     }
 
     /**
-     * Create a {@link Stream} of the current {@link EventScheduler} state, where every item will be filtered based on
-     * the return value of {@link ScheduleSpotData#getStartingAt()}. If the returned value is before the provided
-     * {@link Instant}, the item will be kept.
+     * Retrieve the {@link Planifiable} of the state identified by the provided identifier.
+     *
+     * @param id
+     *         The identifier of the {@link Planifiable}.
      *
-     * @param when
-     *         The {@link Instant} delimiting item filtering.
+     * @return The {@link Planifiable}.
      *
-     * @return A filtered {@link Stream} of the current state.
+     * @throws NoSuchElementException
+     *         If no {@link Planifiable} of the state has this identifier.
      */
-    private Stream<E> findPreviousQuery(Instant when) {
+    private E require(ID id) {
 
-        return this.getState().stream().filter(item -> item.getStartingAt().isBefore(when));
+        E item = this.entities.get(id);
+        if (item == null) {
+            throw new NoSuchElementException("No scheduled item has the identifier " + id);
+        }
+        return item;
+    }
+
+    /**
+     * Add the provided {@link Planifiable} to the provided timeline. {@link Planifiable} starting at the same
+     * {@link Instant} share the same entry.
+     *
+     * @param timeline
+     *         The timeline into which the {@link Planifiable} should be added.
+     * @param item
+     *         The {@link Planifiable} to add.
+     */
+    private static <E extends Planifiable<?>> void index(NavigableMap<Instant, List<E>> timeline, E item) {
+
+        timeline.computeIfAbsent(item.getStartingAt(), key -> new ArrayList<>(1)).add(item);
     }
 
     /**
-     * Create a {@link Stream} of the current {@link EventScheduler} state, where every item will be filtered based on
-     * the return value of {@link ScheduleSpotData#getStartingAt()}. If the returned value is after the provided
-     * {@link Instant}, the item will be kept.
+     * Remove the provided {@link Planifiable} from the provided timeline.
      *
-     * @param when
-     *         The {@link Instant} delimiting item filtering.
+     * @param timeline
+     *         The timeline from which the {@link Planifiable} should be removed.
+     * @param item
+     *         The {@link Planifiable} to remove.
      *
-     * @return A filtered {@link Stream} of the current state.
+     * @return True if the {@link Planifiable} was part of the timeline, false otherwise.
      */
-    private Stream<E> findAfterQuery(Instant when) {
+    private static <E extends Planifiable<?>> boolean unindex(NavigableMap<Instant, List<E>> timeline, E item) {
 
-        return this.getState().stream().filter(item -> item.getStartingAt().isAfter(when));
+        List<E> entry = timeline.get(item.getStartingAt());
+        if (entry == null || !entry.removeIf(candidate -> candidate == item)) {
+            return false;
+        }
+        if (entry.isEmpty()) {
+            timeline.remove(item.getStartingAt());
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve the latest {@link Instant} between the provided one and the end of the provided {@link Planifiable}s.
+     *
+     * @param instant
+     *         The {@link Instant} to compare.
+     * @param items
+     *         The {@link Planifiable}s to compare.
+     *
+     * @return The latest {@link Instant}.
+     */
+    private static Instant latestEnd(Instant instant, List<? extends Planifiable<?>> items) {
+
+        Instant latest = instant;
+        for (Planifiable<?> item : items) {
+            if (item.getEndingAt().isAfter(latest)) {
+                latest = item.getEndingAt();
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Retrieve the {@link Planifiable} of the provided timeline entry.
+     *
+     * @param entry
+     *         The timeline entry, or {@code null} if there is none.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    private static <E> Optional<E> first(Map.Entry<Instant, List<E>> entry) {
+
+        return entry == null ? Optional.empty() : Optional.of(entry.getValue().getFirst());
     }
 
     @Override
@@ -96,29 +231,27 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
     @Override
     public Optional<E> findPrevious(Instant when) {
 
-        return this.findPreviousQuery(when).max(Comparator.comparing(Planifiable::getStartingAt));
+        return first(this.timeline.lowerEntry(when));
     }
 
     @Override
     public Optional<E> findNext(Instant when) {
 
-        return this.findAfterQuery(when).min(Comparator.comparing(Planifiable::getStartingAt));
+        return first(this.timeline.higherEntry(when));
     }
 
     @Override
     public Optional<E> findPrevious(Instant when, T target) {
 
-        return this.findPreviousQuery(when)
-                   .filter(item -> item.getWatchTarget().equals(target))
-                   .max(Comparator.comparing(Planifiable::getStartingAt));
+        NavigableMap<Instant, List<E>> targetTimeline = this.targetTimelines.get(target);
+        return targetTimeline == null ? Optional.empty() : first(targetTimeline.lowerEntry(when));
     }
 
     @Override
     public Optional<E> findNext(Instant when, T target) {
 
-        return this.findAfterQuery(when)
-                   .filter(item -> item.getWatchTarget().equals(target))
-                   .min(Comparator.comparing(Planifiable::getStartingAt));
+        NavigableMap<Instant, List<E>> targetTimeline = this.targetTimelines.get(target);
+        return targetTimeline == null ? Optional.empty() : first(targetTimeline.higherEntry(when));
     }
 
     @Override
@@ -143,6 +276,140 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
         return !prevOverlap && !nextOverlap;
     }
 
+    @Override
+    public List<Instant> findAvailableSlots(T target, Duration duration, Instant after, Instant before, Duration step, int limit) {
+
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidSchedulingDurationException();
+        }
+
+        if (step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("The step between two slots must be positive.");
+        }
+
+        List<Instant> merges  = new ArrayList<>();
+        List<Instant> stepped = new ArrayList<>();
+
+        if (limit <= 0) {
+            return merges;
+        }
+
+        for (Span gap : this.findGaps(duration, after, before)) {
+            Instant latest = gap.endingAt().minus(duration);
+
+            // Both ends of a gap are the only places where the spot may be glued to its neighbours.
+            for (Instant start : List.of(gap.startingAt(), latest)) {
+                if (this.isMergePoint(target, start, duration) && !merges.contains(start)) {
+                    merges.add(start);
+                }
+            }
+
+            for (Instant start = gap.startingAt(); !start.isAfter(latest) && stepped.size() < limit; start = nextStep(start, step)) {
+                if (!this.isMergePoint(target, start, duration)) {
+                    stepped.add(start);
+                }
+            }
+        }
+
+        merges.addAll(stepped);
+        return merges.size() > limit ? new ArrayList<>(merges.subList(0, limit)) : merges;
+    }
+
+    /**
+     * Find every free gap of the schedule between the two provided {@link Instant}s that is long enough to hold the
+     * provided {@link Duration}.
+     *
+     * @param duration
+     *         The minimum {@link Duration} of a gap.
+     * @param after
+     *         The {@link Instant} before which no gap may start.
+     * @param before
+     *         The {@link Instant} after which no gap may end.
+     *
+     * @return The gaps, in chronological order.
+     */
+    private List<Span> findGaps(Duration duration, Instant after, Instant before) {
+
+        List<Span> gaps = new ArrayList<>();
+
+        // Earliest free instant so far, pushed back by every event running past it.
+        Instant cursor = after;
+
+        Map.Entry<Instant, List<E>> running = this.timeline.floorEntry(after);
+        if (running != null) {
+            cursor = latestEnd(cursor, running.getValue());
+        }
+
+        for (Map.Entry<Instant, List<E>> entry : this.timeline.tailMap(after, false).entrySet()) {
+            if (cursor.plus(duration).isAfter(before)) {
+                return gaps;
+            }
+
+            Instant gapEnd = DateTimeUtils.isBeforeOrEquals(entry.getKey(), before) ? entry.getKey() : before;
+            if (!cursor.plus(duration).isAfter(gapEnd)) {
+                gaps.add(new Span(cursor, gapEnd));
+            }
+            cursor = latestEnd(cursor, entry.getValue());
+        }
+
+        if (!cursor.plus(duration).isAfter(before)) {
+            gaps.add(new Span(cursor, before));
+        }
+        return gaps;
+    }
+
+    /**
+     * Check if a spot of the provided {@link WatchTarget} starting at the provided {@link Instant} would be merged with
+     * one of its neighbours once scheduled, see {@link #schedule(ScheduleSpotData)}.
+     *
+     * @param target
+     *         The {@link WatchTarget} of the spot.
+     * @param start
+     *         The {@link Instant} at which the spot starts.
+     * @param duration
+     *         The {@link Duration} of the spot.
+     *
+     * @return True if the spot would be merged, false otherwise.
+     */
+    private boolean isMergePoint(T target, Instant start, Duration duration) {
+
+        Instant end = start.plus(duration);
+
+        boolean mergesPrevious = this.findPrevious(start)
+                                     .filter(item -> Objects.equals(item.getWatchTarget(), target))
+                                     .map(item -> isWithinMagnet(item.getEndingAt(), start))
+                                     .orElse(false);
+
+        boolean mergesNext = this.findNext(start)
+                                 .filter(item -> Objects.equals(item.getWatchTarget(), target))
+                                 .map(item -> isWithinMagnet(end, item.getStartingAt()))
+                                 .orElse(false);
+
+        return mergesPrevious || mergesNext;
+    }
+
+    private static boolean isWithinMagnet(Instant end, Instant start) {
+
+        return Duration.between(end, start).compareTo(MERGE_MAGNET_LIMIT) <= 0;
+    }
+
+    /**
+     * Retrieve the first multiple of the provided step strictly after the provided {@link Instant}, so that candidates
+     * fall on round times no matter where their gap starts.
+     *
+     * @param instant
+     *         The current candidate.
+     * @param step
+     *         The interval between two candidates.
+     *
+     * @return The next candidate.
+     */
+    private static Instant nextStep(Instant instant, Duration step) {
+
+        long seconds = step.toSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), seconds) * seconds + seconds);
+    }
+
     @Override
     public SchedulingPlan<ID> schedule(ScheduleSpotData<T> spot) {
 
@@ -222,23 +489,36 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
 
         Instant to = from.plus(interval);
 
-        List<E> events = this.getState()
-                             .stream()
-                             .filter(item -> DateTimeUtils.isAfterOrEquals(item.getStartingAt(), from))
-                             .filter(item -> DateTimeUtils.isBeforeOrEquals(item.getEndingAt(), to))
-                             .toList();
+        if (to.isBefore(from)) {
+            return new SchedulingPlan<>();
+        }
+
+        List<E> events = this.timeline.subMap(from, true, to, true)
+                                      .values()
+                                      .stream()
+                                      .flatMap(List::stream)
+                                      .filter(item -> DateTimeUtils.isBeforeOrEquals(item.getEndingAt(), to))
+                                      .toList();
 
-        // Creating a temporary state excluding events to delay to check for overlaps
-        List<E> temporaryState = this.getState().stream().filter(item -> !events.contains(item)).toList();
+        Set<E>     delayed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Span> moved   = new ArrayList<>(events.size());
+        List<Span> still   = new ArrayList<>(this.state.size());
+
+        for (E event : events) {
+            delayed.add(event);
+            moved.add(new Span(event.getStartingAt().plus(delay), event.getEndingAt().plus(delay)));
+        }
 
-        // Check if nothing overlaps the temporary state with the delay
-        if (events
-                .stream()
-                .map(item -> (Planifiable<T>) new BookedPlanifiable<>(item))
-                .peek(item -> item.setStartingAt(item.getStartingAt().plus(delay)))
-                .anyMatch(item -> temporaryState.stream().anyMatch(state -> isOverlapping(item, state)))
-        ) {
+        for (List<E> entry : this.timeline.values()) {
+            for (E item : entry) {
+                if (!delayed.contains(item)) {
+                    still.add(new Span(item.getStartingAt(), item.getEndingAt()));
+                }
+            }
+        }
 
+        // Check if nothing overlaps the events that are not delayed once the delay is applied
+        if (hasOverlap(moved, still)) {
             throw new DelayOverlapException("One of the event cannot be delayed without conflict.");
         }
 
@@ -251,39 +531,57 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public SchedulingPlan<ID> calibrate() {
 
-        SchedulingPlan<ID> plan = new SchedulingPlan<>();
+        // Events are numbered in the order of the schedule, and split by watch target.
+        List<E>               ordered    = new ArrayList<>(this.state.size());
+        Map<T, List<Integer>> partitions = new HashMap<>(this.targetTimelines.size());
+
+        for (List<E> entry : this.timeline.values()) {
+            for (E event : entry) {
+                partitions.computeIfAbsent(event.getWatchTarget(), key -> new ArrayList<>()).add(ordered.size());
+                ordered.add(event);
+            }
+        }
+
+        // Each watch target is then calibrated independently, filling the slots of its own events.
+        SchedulingAction<ID>[] actions = new SchedulingAction[ordered.size()];
+        Stream<List<Integer>>  stream  = ordered.size() < PARALLEL_CALIBRATION_THRESHOLD ?
+                partitions.values().stream() :
+                partitions.values().parallelStream();
 
-        // Store the max possible episode for each target
-        Map<T, Integer> targetMaxEpisode = this
-                .getState()
-                .stream()
-                .map(ScheduleSpotData::getWatchTarget)
-                .distinct()
-                .collect(Collectors.toMap(Function.identity(), WatchTarget::getTotal));
-
-        // Store the progress for each target
-        Map<T, Integer> targetProgression = this
-                .getState()
-                .stream()
-                .map(ScheduleSpotData::getWatchTarget)
-                .distinct()
-                .collect(Collectors.toMap(Function.identity(), WatchTarget::getWatched));
-
-        List<E> sorted = this.getState()
-                             .stream()
-                             .sorted(Comparator.comparing(ScheduleSpotData::getStartingAt))
-                             .toList();
-
-        for (E event : sorted) {
-
-            int maxEpisode  = targetMaxEpisode.get(event.getWatchTarget());
-            int progression = targetProgression.get(event.getWatchTarget());
-
-            if (maxEpisode < 0) { // Support for "estimate" amount of episode, which are represented by negative number.
-                maxEpisode = maxEpisode * -1;
+        stream.forEach(indexes -> this.calibrate(ordered, indexes, actions));
+
+        SchedulingPlan<ID> plan = new SchedulingPlan<>();
+        for (SchedulingAction<ID> action : actions) {
+            if (action != null) {
+                plan.addAction(action);
             }
+        }
+        return plan;
+    }
+
+    /**
+     * Calibrate the {@link Planifiable}s of a single {@link WatchTarget}, see {@link #calibrate()}.
+     *
+     * @param ordered
+     *         Every {@link Planifiable} of the state, in the order of the schedule.
+     * @param indexes
+     *         The positions of the {@link Planifiable}s of the {@link WatchTarget}, in ascending order.
+     * @param actions
+     *         The {@link SchedulingAction} of each {@link Planifiable}, by position. Only the positions of the
+     *         {@link WatchTarget} are written to.
+     */
+    private void calibrate(List<E> ordered, List<Integer> indexes, SchedulingAction<ID>[] actions) {
+
+        T   target      = ordered.get(indexes.getFirst()).getWatchTarget();
+        // Support for "estimate" amount of episode, which are represented by negative number.
+        int maxEpisode  = Math.abs(target.getTotal());
+        int progression = target.getWatched();
+
+        for (int index : indexes) {
+            E event = ordered.get(index);
 
             boolean correctFirstEpisode = event.getFirstEpisode() == progression + 1;
             boolean correctEpisodeCount = (event.getFirstEpisode() + event.getEpisodeCount()) - 1 <= maxEpisode;
@@ -293,25 +591,51 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
 
             // Don't keep overflowing events
             if (fixedFirstEpisode > maxEpisode) {
-                plan.addAction(new SchedulingAction.DeleteAction<>(this.idExtractor.apply(event)));
+                actions[index] = new SchedulingAction.DeleteAction<>(this.idExtractor.apply(event));
                 continue;
             }
 
             // If we require at least one thing to be updated, start the update
             if (!correctEpisodeCount || !correctFirstEpisode) {
-                plan.addAction(new SchedulingAction.UpdateAction<>(
+                actions[index] = new SchedulingAction.UpdateAction<>(
                         this.idExtractor.apply(event), item -> {
                     item.setFirstEpisode(fixedFirstEpisode);
                     item.setEpisodeCount(fixedEpisodeCount);
                 }
-                ));
+                );
             }
 
             // Keep track of our movement throughout the schedule
-            targetProgression.put(event.getWatchTarget(), fixedFirstEpisode + fixedEpisodeCount - 1);
+            progression = fixedFirstEpisode + fixedEpisodeCount - 1;
         }
+    }
 
-        return plan;
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<E> apply(SchedulingPlan<ID> plan, Function<Planifiable<T>, E> creator) {
+
+        List<E> changed = new ArrayList<>();
+        for (SchedulingAction<ID> action : plan.getActions()) {
+            switch (action) {
+                case SchedulingAction.CreateAction<ID> createAction -> {
+                    E created = creator.apply((Planifiable<T>) createAction.data());
+                    this.add(created);
+                    changed.add(created);
+                }
+                case SchedulingAction.UpdateAction<ID> updateAction -> {
+                    E target = this.require(updateAction.targetId());
+                    // Unindexed first, as the update may move it.
+                    this.remove(target);
+                    updateAction.updateHook().accept(target);
+                    this.add(target);
+                    changed.add(target);
+                }
+                case SchedulingAction.DeleteAction<ID> deleteAction -> {
+                    this.remove(this.require(deleteAction.targetId()));
+                }
+            }
+        }
+        return changed;
     }
 
     /**
@@ -336,6 +660,50 @@ public class EventScheduler<T extends WatchTarget, E extends Planifiable<T>, ID
         return isWithinMagnetTime && isSameGroup;
     }
 
+    /**
+     * Check if any {@link Span} of the first list overlaps a {@link Span} of the second one, {@link Span}s of the same
+     * list being allowed to overlap each other.
+     * <p>
+     * Both lists are sorted and swept together in chronological order, keeping track of the latest end of each list
+     * seen so far: a {@link Span} overlaps the other list if it starts before that list's latest end. This makes the
+     * check {@code O(n log n)} instead of comparing every pair.
+     *
+     * @param one
+     *         The first list of {@link Span}.
+     * @param two
+     *         The second list of {@link Span}.
+     *
+     * @return True if both lists overlap, false otherwise.
+     */
+    private static boolean hasOverlap(List<Span> one, List<Span> two) {
+
+        // Spans sharing their start are swept shortest first: an empty span never overlaps one starting with it.
+        one.sort(Span.ORDER);
+        two.sort(Span.ORDER);
+
+        Instant oneEnd = null;
+        Instant twoEnd = null;
+        int     i      = 0;
+        int     j      = 0;
+
+        while (i < one.size() || j < two.size()) {
+            if (j == two.size() || (i < one.size() && Span.ORDER.compare(one.get(i), two.get(j)) <= 0)) {
+                Span span = one.get(i++);
+                if (twoEnd != null && twoEnd.isAfter(span.startingAt())) {
+                    return true;
+                }
+                oneEnd = oneEnd == null || span.endingAt().isAfter(oneEnd) ? span.endingAt() : oneEnd;
+            } else {
+                Span span = two.get(j++);
+                if (oneEnd != null && oneEnd.isAfter(span.startingAt())) {
+                    return true;
+                }
+                twoEnd = twoEnd == null || span.endingAt().isAfter(twoEnd) ? span.endingAt() : twoEnd;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if provided {@link ScheduleSpotData} overlap one another.
      *
@@ -0,0 +1,111 @@
+package fr.anisekai.core.internal.plannifier;
+
+import fr.anisekai.core.internal.plannifier.interfaces.ScheduleSpotData;
+import fr.anisekai.core.internal.plannifier.interfaces.SchedulePlanner;
+import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.core.internal.plannifier.interfaces.entities.WatchTarget;
+import fr.anisekai.core.internal.plannifier.plan.SchedulingPlan;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable {@link SchedulePlanner} over a fixed state, which can be shared between any number of threads without
+ * locking.
+ * <p>
+ * Plans can be generated from it, but never applied to it: changes are made on a separate {@link EventScheduler}, and
+ * published as a new {@link SchedulerSnapshot}. The {@link Planifiable}s of the state must not be modified once the
+ * snapshot has been created, as they are shared by every reader.
+ *
+ * @param <T>
+ *         The watch target type.
+ * @param <E>
+ *         The entity type.
+ * @param <ID>
+ *         The type of the entity's identifier.
+ */
+public final class SchedulerSnapshot<T extends WatchTarget, E extends Planifiable<T>, ID extends Serializable> implements SchedulePlanner<T, E, ID> {
+
+    private final EventScheduler<T, E, ID> scheduler;
+
+    /**
+     * Create a new {@link SchedulerSnapshot}.
+     *
+     * @param items
+     *         The {@link Planifiable}s of the state, which must not be modified afterward.
+     * @param idExtractor
+     *         A function to extract the identifier from an entity.
+     */
+    public SchedulerSnapshot(Collection<E> items, Function<E, ID> idExtractor) {
+
+        // Never exposed, so the index can only be read once built.
+        this.scheduler = new EventScheduler<>(items, idExtractor);
+    }
+
+    @Override
+    public Set<E> getState() {
+
+        return this.scheduler.getState();
+    }
+
+    @Override
+    public Optional<E> findPrevious(Instant when) {
+
+        return this.scheduler.findPrevious(when);
+    }
+
+    @Override
+    public Optional<E> findNext(Instant when) {
+
+        return this.scheduler.findNext(when);
+    }
+
+    @Override
+    public Optional<E> findPrevious(Instant when, T target) {
+
+        return this.scheduler.findPrevious(when, target);
+    }
+
+    @Override
+    public Optional<E> findNext(Instant when, T target) {
+
+        return this.scheduler.findNext(when, target);
+    }
+
+    @Override
+    public boolean canSchedule(ScheduleSpotData<T> spot) {
+
+        return this.scheduler.canSchedule(spot);
+    }
+
+    @Override
+    public List<Instant> findAvailableSlots(T target, Duration duration, Instant after, Instant before, Duration step, int limit) {
+
+        return this.scheduler.findAvailableSlots(target, duration, after, before, step, limit);
+    }
+
+    @Override
+    public SchedulingPlan<ID> schedule(ScheduleSpotData<T> spot) {
+
+        return this.scheduler.schedule(spot);
+    }
+
+    @Override
+    public SchedulingPlan<ID> delay(Instant from, Duration interval, Duration delay) {
+
+        return this.scheduler.delay(from, interval, delay);
+    }
+
+    @Override
+    public SchedulingPlan<ID> calibrate() {
+
+        return this.scheduler.calibrate();
+    }
+
+}
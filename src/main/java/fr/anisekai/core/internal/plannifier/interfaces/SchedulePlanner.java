@@ -0,0 +1,164 @@
+package fr.anisekai.core.internal.plannifier.interfaces;
+
+import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.core.internal.plannifier.interfaces.entities.WatchTarget;
+import fr.anisekai.core.internal.plannifier.plan.SchedulingPlan;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Defines the read side of a {@link Scheduler}: temporal navigation and validation over a scheduled state, and the
+ * generation of {@link SchedulingPlan}s from it. A {@link SchedulePlanner} never changes its own state, so plans it
+ * generates must be applied elsewhere, usually by persisting them.
+ *
+ * @param <T>
+ *         The type of {@link WatchTarget} being scheduled.
+ * @param <E>
+ *         The final entity type being scheduled.
+ * @param <ID>
+ *         The type of the entity's identifier.
+ *
+ * @see Scheduler
+ */
+public interface SchedulePlanner<T extends WatchTarget, E extends Planifiable<T>, ID extends Serializable> {
+
+    // <editor-fold desc="State Queries">
+
+    /**
+     * Retrieve the current immutable state of scheduled entities managed by this {@link SchedulePlanner}.
+     *
+     * @return A state
+     */
+    Set<E> getState();
+
+    /**
+     * Check in the current state for a {@link Planifiable} starting right before the provided {@link Instant}.
+     *
+     * @param when
+     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    Optional<E> findPrevious(Instant when);
+
+    /**
+     * Check in the current state for a {@link Planifiable} starting right after the provided {@link Instant}.
+     *
+     * @param when
+     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    Optional<E> findNext(Instant when);
+
+    /**
+     * Check in the current state for a {@link Planifiable} starting right before the provided {@link Instant} while
+     * matching the provided {@link WatchTarget}.
+     *
+     * @param when
+     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
+     * @param target
+     *         {@link WatchTarget} further filtering possible {@link Planifiable}.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    Optional<E> findPrevious(Instant when, T target);
+
+    /**
+     * Check in the current state for a {@link Planifiable} starting right after the provided {@link Instant} while
+     * matching the provided {@link WatchTarget}.
+     *
+     * @param when
+     *         {@link Instant} filtering all planifiable possible in the state.
+     * @param target
+     *         {@link WatchTarget} further filtering possible {@link Planifiable}.
+     *
+     * @return An optional {@link Planifiable}.
+     */
+    Optional<E> findNext(Instant when, T target);
+
+    /**
+     * Check whether the given {@link ScheduleSpotData} can be scheduled without overlapping existing state or violating
+     * constraints.
+     *
+     * @param spot
+     *         {@link ScheduleSpotData} to validate for schedulability.
+     *
+     * @return True if the provided {@link ScheduleSpotData} can be scheduled, false otherwise.
+     */
+    boolean canSchedule(ScheduleSpotData<T> spot);
+
+    /**
+     * Find the {@link Instant}s at which something of the provided {@link WatchTarget} lasting the provided
+     * {@link Duration} could be scheduled between the two provided {@link Instant}s without overlapping the current
+     * state.
+     * <p>
+     * Merge points come first: the {@link Instant}s right after or right before a {@link Planifiable} of the same
+     * {@link WatchTarget}, where the new spot would be merged into it. They are followed by the start of each free gap
+     * long enough, and then by every multiple of the provided step fitting in it. Stepped candidates close enough to a
+     * {@link Planifiable} of the same {@link WatchTarget} to be merged into it are left out, as they would end up as
+     * one of the merge points anyway.
+     *
+     * @param target
+     *         The {@link WatchTarget} to schedule.
+     * @param duration
+     *         The {@link Duration} of the slot to find.
+     * @param after
+     *         The {@link Instant} before which no slot may start.
+     * @param before
+     *         The {@link Instant} after which no slot may end.
+     * @param step
+     *         The interval between two candidates of the same gap.
+     * @param limit
+     *         The maximum amount of candidates to return.
+     *
+     * @return The candidate starting {@link Instant}s, merge points first, each group in chronological order.
+     */
+    List<Instant> findAvailableSlots(T target, Duration duration, Instant after, Instant before, Duration step, int limit);
+
+    // </editor-fold>
+
+    // <editor-fold desc="State Plans">
+
+    /**
+     * Generates a plan to schedule the provided {@link ScheduleSpotData} within this {@link SchedulePlanner}.
+     *
+     * @param spot
+     *         {@link ScheduleSpotData} to use as source for scheduling data.
+     *
+     * @return The scheduling plan containing the necessary operations.
+     */
+    SchedulingPlan<ID> schedule(ScheduleSpotData<T> spot);
+
+    /**
+     * Generates a plan to delay every {@link Planifiable} being in the specified interval.
+     *
+     * @param from
+     *         {@link Instant} defining the start of the interval
+     * @param interval
+     *         {@link Duration} defining the length of the interval
+     * @param delay
+     *         {@link Duration} defining the length of the delay to apply to every matching {@link Planifiable}.
+     *
+     * @return A scheduling plan containing the update operations.
+     */
+    SchedulingPlan<ID> delay(Instant from, Duration interval, Duration delay);
+
+    /**
+     * Generates a plan by reprocessing all scheduled entities to ensure consistency. This process may trim or adjust
+     * entries that are misaligned or redundant.
+     * <p>
+     * Existing events will not be merged.
+     *
+     * @return A {@link SchedulingPlan} summarizing the number of updates and deletions to be performed.
+     */
+    SchedulingPlan<ID> calibrate();
+
+    // </editor-fold>
+
+}
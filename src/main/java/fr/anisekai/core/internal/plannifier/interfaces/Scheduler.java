@@ -5,15 +5,13 @@ import fr.anisekai.core.internal.plannifier.interfaces.entities.WatchTarget;
 import fr.anisekai.core.internal.plannifier.plan.SchedulingPlan;
 
 import java.io.Serializable;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Optional;
-import java.util.Set;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Defines a generic scheduler capable of managing and orchestrating {@link Planifiable} entities over time for a given
- * {@link WatchTarget} type. A {@link  Scheduler} provides both querying and modification capabilities over a scheduled
- * state, including temporal navigation, validation, insertion, and recalibration of planned events.
+ * {@link WatchTarget} type. On top of the querying and planning capabilities of {@link SchedulePlanner}, a
+ * {@link Scheduler} can apply the plans it generates to its own state.
  *
  * @param <T>
  *         The type of {@link WatchTarget} being scheduled.
@@ -22,114 +20,27 @@ import java.util.Set;
  * @param <ID>
  *         The type of the entity's identifier.
  *
+ * @see SchedulePlanner
  * @see Planifiable
  * @see ScheduleSpotData
  */
-public interface Scheduler<T extends WatchTarget, E extends Planifiable<T>, ID extends Serializable> {
-
-    // <editor-fold desc="State Queries">
-
-    /**
-     * Retrieve the current immutable state of scheduled entities managed by this {@link Scheduler}.
-     *
-     * @return A state
-     */
-    Set<E> getState();
-
-    /**
-     * Check in the current state for a {@link Planifiable} starting right before the provided {@link Instant}.
-     *
-     * @param when
-     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
-     *
-     * @return An optional {@link Planifiable}.
-     */
-    Optional<E> findPrevious(Instant when);
-
-    /**
-     * Check in the current state for a {@link Planifiable} starting right after the provided {@link Instant}.
-     *
-     * @param when
-     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
-     *
-     * @return An optional {@link Planifiable}.
-     */
-    Optional<E> findNext(Instant when);
-
-    /**
-     * Check in the current state for a {@link Planifiable} starting right before the provided {@link Instant} while
-     * matching the provided {@link WatchTarget}.
-     *
-     * @param when
-     *         {@link Instant} filtering all {@link Planifiable} possible in the state.
-     * @param target
-     *         {@link WatchTarget} further filtering possible {@link Planifiable}.
-     *
-     * @return An optional {@link Planifiable}.
-     */
-    Optional<E> findPrevious(Instant when, T target);
-
-    /**
-     * Check in the current state for a {@link Planifiable} starting right after the provided {@link Instant} while
-     * matching the provided {@link WatchTarget}.
-     *
-     * @param when
-     *         {@link Instant} filtering all planifiable possible in the state.
-     * @param target
-     *         {@link WatchTarget} further filtering possible {@link Planifiable}.
-     *
-     * @return An optional {@link Planifiable}.
-     */
-    Optional<E> findNext(Instant when, T target);
-
-    /**
-     * Check whether the given {@link ScheduleSpotData} can be scheduled without overlapping existing state or violating
-     * constraints.
-     *
-     * @param spot
-     *         {@link ScheduleSpotData} to validate for schedulability.
-     *
-     * @return True if the provided {@link ScheduleSpotData} can be scheduled, false otherwise.
-     */
-    boolean canSchedule(ScheduleSpotData<T> spot);
-
-    // </editor-fold>
+public interface Scheduler<T extends WatchTarget, E extends Planifiable<T>, ID extends Serializable> extends SchedulePlanner<T, E, ID> {
 
     // <editor-fold desc="State Actions">
 
     /**
-     * Generates a plan to schedule the provided {@link ScheduleSpotData} within this {@link Scheduler}.
-     *
-     * @param spot
-     *         {@link ScheduleSpotData} to use as source for scheduling data.
-     *
-     * @return The scheduling plan containing the necessary operations.
-     */
-    SchedulingPlan<ID> schedule(ScheduleSpotData<T> spot);
-
-    /**
-     * Generates a plan to delay every {@link Planifiable} being in the specified interval.
-     *
-     * @param from
-     *         {@link Instant} defining the start of the interval
-     * @param interval
-     *         {@link Duration} defining the length of the interval
-     * @param delay
-     *         {@link Duration} defining the length of the delay to apply to every matching {@link Planifiable}.
+     * Apply the provided {@link SchedulingPlan} to the state of this {@link Scheduler}, so that plans generated
+     * afterward take it into account without having to reload the state. Nothing is persisted.
      *
-     * @return A scheduling plan containing the update operations.
-     */
-    SchedulingPlan<ID> delay(Instant from, Duration interval, Duration delay);
-
-    /**
-     * Generates a plan by reprocessing all scheduled entities to ensure consistency. This process may trim or adjust
-     * entries that are misaligned or redundant.
-     * <p>
-     * Existing events will not be merged.
+     * @param plan
+     *         The {@link SchedulingPlan} to apply, generated by this {@link Scheduler}.
+     * @param creator
+     *         The {@link Function} creating the entity of each created {@link Planifiable}. Later plans can only target
+     *         it if it has an identifier, which may be a provisional one until the entity is persisted.
      *
-     * @return A {@link SchedulingPlan} summarizing the number of updates and deletions to be performed.
+     * @return The created and updated entities, in the order of the plan actions.
      */
-    SchedulingPlan<ID> calibrate();
+    List<E> apply(SchedulingPlan<ID> plan, Function<Planifiable<T>, E> creator);
 
     // </editor-fold>
 
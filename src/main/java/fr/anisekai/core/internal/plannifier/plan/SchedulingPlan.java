@@ -1,9 +1,10 @@
 package fr.anisekai.core.internal.plannifier.plan;
 
+import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
+
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Represents a set of instructions generated by the EventScheduler to be executed by a service.
@@ -36,4 +37,40 @@ public class SchedulingPlan<ID extends Serializable> {
         return Collections.unmodifiableList(this.actions);
     }
 
+    /**
+     * Create a compacted copy of this plan, holding at most one action per target: every
+     * {@link SchedulingAction.UpdateAction} of the same target are merged into one, running their hooks in the order of
+     * this plan, and a target that ends up deleted only keeps its {@link SchedulingAction.DeleteAction}.
+     * {@link SchedulingAction.CreateAction}s are kept as-is.
+     *
+     * @return A new {@link SchedulingPlan}.
+     */
+    public SchedulingPlan<ID> compact() {
+
+        Map<ID, Consumer<Planifiable<?>>> updates = new LinkedHashMap<>();
+        Set<ID>                           deletes = new LinkedHashSet<>();
+        List<SchedulingAction<ID>>        creates = new ArrayList<>();
+
+        for (SchedulingAction<ID> action : this.actions) {
+            switch (action) {
+                case SchedulingAction.CreateAction<ID> createAction -> creates.add(createAction);
+                case SchedulingAction.UpdateAction<ID> updateAction -> {
+                    if (!deletes.contains(updateAction.targetId())) {
+                        updates.merge(updateAction.targetId(), updateAction.updateHook(), Consumer::andThen);
+                    }
+                }
+                case SchedulingAction.DeleteAction<ID> deleteAction -> {
+                    updates.remove(deleteAction.targetId());
+                    deletes.add(deleteAction.targetId());
+                }
+            }
+        }
+
+        SchedulingPlan<ID> plan = new SchedulingPlan<>();
+        updates.forEach((id, hook) -> plan.addAction(new SchedulingAction.UpdateAction<>(id, hook)));
+        deletes.forEach(id -> plan.addAction(new SchedulingAction.DeleteAction<>(id)));
+        creates.forEach(plan::addAction);
+        return plan;
+    }
+
 }
@@ -0,0 +1,92 @@
+package fr.anisekai.discord.completions;
+
+import fr.alexpado.interactions.interfaces.routing.Request;
+import fr.alexpado.interactions.providers.interactions.slash.interfaces.CompletionProvider;
+import fr.anisekai.discord.annotations.CompletionBean;
+import fr.anisekai.server.domain.entities.Anime;
+import fr.anisekai.server.services.AnimeService;
+import fr.anisekai.server.services.BroadcastService;
+import fr.anisekai.utils.DateTimeUtils;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@CompletionBean(BroadcastTimeCompletion.NAME)
+public class BroadcastTimeCompletion implements CompletionProvider {
+
+    public static final String NAME = "completion:broadcast-time";
+
+    private static final int      MAX_CHOICES = 25;
+    private static final Duration STEP        = Duration.ofMinutes(15);
+
+    private final AnimeService     animeService;
+    private final BroadcastService broadcastService;
+
+    public BroadcastTimeCompletion(AnimeService animeService, BroadcastService broadcastService) {
+
+        this.animeService     = animeService;
+        this.broadcastService = broadcastService;
+    }
+
+    @Override
+    public boolean isFiltered() {
+
+        return true;
+    }
+
+    @Override
+    public Stream<Command.Choice> complete(Request<CommandAutoCompleteInteraction> request) {
+
+        CommandAutoCompleteInteraction event          = request.getEvent();
+        String                         value          = event.getFocusedOption().getValue().strip();
+        OptionMapping                  animeOption    = event.getOption("anime");
+        OptionMapping                  amountOption   = event.getOption("amount");
+        OptionMapping                  startingOption = event.getOption("starting");
+
+        if (animeOption == null) {
+            return Stream.empty();
+        }
+
+        Optional<Anime> anime;
+        int             amount;
+        Instant         dayStart;
+
+        try {
+            anime    = this.animeService.getRepository().findById(animeOption.getAsLong());
+            amount   = amountOption == null ? 1 : Math.max(amountOption.getAsInt(), 1);
+            dayStart = DateTimeUtils.of("00:00", startingOption == null ? null : startingOption.getAsString());
+        } catch (NumberFormatException | DateTimeException e) {
+            // Other options are still being typed.
+            return Stream.empty();
+        }
+
+        if (anime.isEmpty() || anime.get().getEpisodeDuration() <= 0) {
+            return Stream.empty();
+        }
+
+        // Times are picked by the minute, and none can be in the past.
+        Instant now   = DateTimeUtils.now().truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES);
+        Instant after = dayStart.isAfter(now) ? dayStart : now;
+        Instant until = dayStart.plus(1, ChronoUnit.DAYS);
+
+        if (!after.isBefore(until)) {
+            return Stream.empty();
+        }
+
+        // Every candidate of the day is listed, as the typed prefix may only match the later ones.
+        return this.broadcastService.findAvailableSlots(anime.get(), amount, after, until, STEP, Integer.MAX_VALUE)
+                                    .stream()
+                                    .map(DateTimeUtils::formatTime)
+                                    .filter(time -> time.startsWith(value))
+                                    .limit(MAX_CHOICES)
+                                    .map(time -> new Command.Choice(time, time));
+    }
+
+}
@@ -4,6 +4,7 @@ import fr.alexpado.interactions.annotations.*;
 import fr.anisekai.discord.annotations.DiscordBean;
 import fr.anisekai.discord.annotations.RequireAdmin;
 import fr.anisekai.discord.completions.AnimeCompletion;
+import fr.anisekai.discord.completions.BroadcastTimeCompletion;
 import fr.anisekai.discord.completions.FrequencyCompletion;
 import fr.anisekai.discord.interfaces.InteractionResponse;
 import fr.anisekai.discord.responses.DiscordResponse;
@@ -49,7 +50,8 @@ public class BroadcastSchedulingSlashInteraction {
                             name = "time",
                             description = "Heure à laquelle sera planifié la séance. (Format: HH:MM)",
                             type = OptionType.STRING,
-                            required = true
+                            required = true,
+                            completion = @Completion(named = BroadcastTimeCompletion.NAME)
                     ),
                     @Option(
                             name = "amount",
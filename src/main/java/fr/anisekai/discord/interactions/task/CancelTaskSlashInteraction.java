@@ -0,0 +1,43 @@
+package fr.anisekai.discord.interactions.task;
+
+import fr.alexpado.interactions.annotations.Option;
+import fr.alexpado.interactions.annotations.Param;
+import fr.alexpado.interactions.annotations.Slash;
+import fr.anisekai.discord.annotations.DiscordBean;
+import fr.anisekai.discord.annotations.RequireAdmin;
+import fr.anisekai.discord.interfaces.InteractionResponse;
+import fr.anisekai.discord.responses.DiscordResponse;
+import fr.anisekai.server.services.TaskService;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+
+@DiscordBean
+@RequireAdmin
+public class CancelTaskSlashInteraction {
+
+    private final TaskService service;
+
+    public CancelTaskSlashInteraction(TaskService service) {
+
+        this.service = service;
+    }
+
+    @Slash(
+            name = "task/cancel",
+            description = "\uD83D\uDD12 — Annule une tâche planifiée ou en cours d'exécution.",
+            options = @Option(
+                    name = "task",
+                    description = "Identifiant de la tâche à annuler.",
+                    type = OptionType.INTEGER,
+                    required = true,
+                    minInt = 1
+            )
+    )
+    public InteractionResponse execute(@Param("task") long taskId) {
+
+        if (this.service.cancel(taskId)) {
+            return DiscordResponse.success("La tâche a été annulée.");
+        }
+        return DiscordResponse.error("Cette tâche n'est ni planifiée, ni en cours d'exécution.");
+    }
+
+}
@@ -65,9 +65,7 @@ public class WatchlistTaskSlashInteraction {
             return DiscordResponse.error("Le salon des watchlist n'a pas été configuré.");
         }
 
-        for (AnimeList status : statuses) {
-            this.service.getFactory(WatchlistUpdateFactory.class).queue(status, Task.PRIORITY_MANUAL_HIGH);
-        }
+        this.service.getFactory(WatchlistUpdateFactory.class).queueAll(statuses, Task.PRIORITY_MANUAL_HIGH);
 
         return DiscordResponse.success(
                 "Les listes vont être actualisées."
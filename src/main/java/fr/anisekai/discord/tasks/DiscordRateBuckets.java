@@ -0,0 +1,35 @@
+package fr.anisekai.discord.tasks;
+
+import fr.anisekai.server.tasking.TaskFactory;
+
+/**
+ * Discord rate buckets targeted by the Discord {@link TaskFactory}s, see {@link TaskFactory#rateBucket()}.
+ * <p>
+ * Discord rate limits each route separately, and message routes are further split per channel. Those constants group
+ * tasks by the route they mostly hit, so that a saturated one does not stall tasks hitting the others.
+ */
+public final class DiscordRateBuckets {
+
+    /**
+     * Messages sent or edited in the watchlist channel.
+     */
+    public static final String WATCHLIST_CHANNEL = "discord:watchlist-channel";
+
+    /**
+     * Messages sent or edited in the announcement channel.
+     */
+    public static final String ANNOUNCEMENT_CHANNEL = "discord:announcement-channel";
+
+    /**
+     * Channel settings updates, such as the topic. This route is heavily rate limited by Discord.
+     */
+    public static final String CHANNEL_SETTINGS = "discord:channel-settings";
+
+    /**
+     * Guild scheduled events creation, update and deletion.
+     */
+    public static final String GUILD_EVENTS = "discord:guild-events";
+
+    private DiscordRateBuckets() {}
+
+}
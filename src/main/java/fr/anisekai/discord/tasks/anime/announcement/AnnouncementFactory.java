@@ -2,11 +2,13 @@ package fr.anisekai.discord.tasks.anime.announcement;
 
 import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.server.domain.entities.Anime;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.InterestService;
 import fr.anisekai.server.services.TaskService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskFactory;
 
@@ -32,12 +34,24 @@ public abstract class AnnouncementFactory<T extends AnnouncementTask> implements
         return PREFIX;
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return AnnouncementTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return true;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.ANNOUNCEMENT_CHANNEL;
+    }
+
     public TaskService getService() {
 
         return this.service;
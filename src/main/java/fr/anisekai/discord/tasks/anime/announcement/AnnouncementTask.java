@@ -1,7 +1,5 @@
 package fr.anisekai.discord.tasks.anime.announcement;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.discord.exceptions.tasks.UndefinedAnnouncementChannelException;
@@ -11,6 +9,8 @@ import fr.anisekai.server.domain.entities.Anime;
 import fr.anisekai.server.domain.entities.Interest;
 import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.InterestService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
@@ -21,6 +21,10 @@ public abstract class AnnouncementTask implements TaskExecutor {
 
     public static final String OPTION_ANIME = "anime";
 
+    public static final TaskArgumentCodec ARGUMENTS = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_ANIME, TaskArgumentCodec.Type.LONG)
+    );
+
     private final AnimeService    animeService;
     private final InterestService interestService;
     private final JDAStore        store;
@@ -38,7 +42,7 @@ public abstract class AnnouncementTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) {
+    public void execute(ITimedAction timer, TaskArguments params) {
 
         TextChannel      channel   = this.getAnnouncementChannel();
         Role             role      = this.getAnnouncementRole();
@@ -51,14 +55,6 @@ public abstract class AnnouncementTask implements TaskExecutor {
 
     public abstract void doAnnouncementStuff(TextChannel channel, Role role, Anime anime, List<Interest> interests, AnimeCardMessage card);
 
-    @Override
-    public void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPTION_ANIME, true, int.class, long.class, Integer.class, Long.class)
-        );
-    }
-
     private TextChannel getAnnouncementChannel() {
 
         return this.store.getAnnouncementChannel().orElseThrow(UndefinedAnnouncementChannelException::new);
@@ -10,10 +10,13 @@ import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class AnnouncementUpdateFactory extends AnnouncementFactory<AnnouncementUpdateTask> {
 
-    public static final String NAME = "update";
+    public static final String   NAME     = "update";
+    public static final Duration DEBOUNCE = Duration.ofSeconds(5);
 
     public AnnouncementUpdateFactory(TaskService service, JDAStore store, AnimeService animeService, InterestService interestService) {
 
@@ -32,6 +35,17 @@ public class AnnouncementUpdateFactory extends AnnouncementFactory<AnnouncementU
         return new AnnouncementUpdateTask(this.getAnimeService(), this.getInterestService(), this.getStore());
     }
 
+    /**
+     * Announcements are edited on every interest vote, so bursts are collapsed into a single update.
+     *
+     * @return The debounce window.
+     */
+    @Override
+    public Duration debounce() {
+
+        return DEBOUNCE;
+    }
+
     @PostConstruct
     public void postConstruct() {
 
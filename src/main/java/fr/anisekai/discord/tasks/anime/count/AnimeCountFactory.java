@@ -1,6 +1,7 @@
 package fr.anisekai.discord.tasks.anime.count;
 
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.AnimeService;
@@ -44,6 +45,12 @@ public class AnimeCountFactory implements TaskFactory<AnimeCountTask> {
         return false;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.CHANNEL_SETTINGS;
+    }
+
     public Task queue() {
 
         return this.queue(Task.PRIORITY_DEFAULT);
@@ -1,12 +1,12 @@
 package fr.anisekai.discord.tasks.anime.count;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.discord.exceptions.tasks.UndefinedWatchlistChannelException;
 import fr.anisekai.server.domain.entities.Anime;
 import fr.anisekai.server.domain.enums.AnimeList;
 import fr.anisekai.server.services.AnimeService;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 
@@ -24,7 +24,7 @@ public class AnimeCountTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) {
+    public void execute(ITimedAction timer, TaskArguments params) {
 
         timer.action("load", "Loading task data");
         List<Anime> animes  = this.service.getRepository().findAllByListIn(AnimeList.collect(AnimeList.Property.SHOW));
@@ -1,10 +1,12 @@
 package fr.anisekai.discord.tasks.broadcast;
 
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.library.Library;
 import fr.anisekai.server.domain.entities.Broadcast;
 import fr.anisekai.server.services.BroadcastService;
 import fr.anisekai.server.services.TaskService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskExecutor;
 import fr.anisekai.server.tasking.TaskFactory;
 
@@ -50,12 +52,24 @@ public abstract class BroadcastFactory<T extends TaskExecutor> implements TaskFa
         return this.store;
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return BroadcastTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return true;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.GUILD_EVENTS;
+    }
+
     @Override
     public boolean allowDuplicated() {
 
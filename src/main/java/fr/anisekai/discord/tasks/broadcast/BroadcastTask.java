@@ -1,12 +1,12 @@
 package fr.anisekai.discord.tasks.broadcast;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.library.Library;
 import fr.anisekai.server.domain.entities.Anime;
 import fr.anisekai.server.services.BroadcastService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Icon;
@@ -20,10 +20,14 @@ import java.time.ZoneOffset;
 public abstract class BroadcastTask implements TaskExecutor {
 
 
-    public static final String           OPT_BROADCAST = "broadcast";
-    private final       Library          library;
-    private final       JDAStore         store;
-    private final       BroadcastService service;
+    public static final String            OPT_BROADCAST = "broadcast";
+    public static final TaskArgumentCodec ARGUMENTS     = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPT_BROADCAST, TaskArgumentCodec.Type.LONG)
+    );
+
+    private final Library          library;
+    private final JDAStore         store;
+    private final BroadcastService service;
 
     public BroadcastTask(Library library, JDAStore store, BroadcastService service) {
 
@@ -54,14 +58,6 @@ public abstract class BroadcastTask implements TaskExecutor {
         return new EventData(this.library, planifiable);
     }
 
-    @Override
-    public void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPT_BROADCAST, true, int.class, long.class, Integer.class, Long.class)
-        );
-    }
-
     public static class EventData {
 
         private final Library        library;
@@ -1,12 +1,12 @@
 package fr.anisekai.discord.tasks.broadcast.cancel;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.discord.tasks.broadcast.BroadcastTask;
 import fr.anisekai.library.Library;
 import fr.anisekai.server.domain.entities.Broadcast;
 import fr.anisekai.server.services.BroadcastService;
+import fr.anisekai.server.tasking.TaskArguments;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.ScheduledEvent;
 import org.slf4j.Logger;
@@ -22,7 +22,7 @@ public class BroadcastCancelTask extends BroadcastTask {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
 
         Broadcast broadcast = this.getService().requireById(params.getLong(OPT_BROADCAST));
         Guild     guild     = this.getGuild();
@@ -1,6 +1,7 @@
 package fr.anisekai.discord.tasks.broadcast.cleaning;
 
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.BroadcastService;
@@ -42,6 +43,12 @@ public class BroadcastCleaningFactory implements TaskFactory<BroadcastCleaningTa
         return false;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.GUILD_EVENTS;
+    }
+
     public Task queue() {
 
         return this.queue(Task.PRIORITY_AUTOMATIC_LOW);
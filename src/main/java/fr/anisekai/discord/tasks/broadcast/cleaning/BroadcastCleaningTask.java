@@ -1,9 +1,9 @@
 package fr.anisekai.discord.tasks.broadcast.cleaning;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.server.services.BroadcastService;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 
 public class BroadcastCleaningTask implements TaskExecutor {
@@ -18,7 +18,7 @@ public class BroadcastCleaningTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
         // TODO
         throw new IllegalAccessException("Task not implemented yet");
     }
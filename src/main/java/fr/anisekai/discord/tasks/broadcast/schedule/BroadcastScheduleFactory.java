@@ -15,6 +15,9 @@ import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @Component
 public class BroadcastScheduleFactory extends BroadcastFactory<BroadcastScheduleTask> {
 
@@ -44,16 +47,28 @@ public class BroadcastScheduleFactory extends BroadcastFactory<BroadcastSchedule
 
     public Task queue(Broadcast broadcast, byte priority) {
 
+        return this.getService().queue(this.asTaskBuilder(broadcast, priority));
+    }
+
+    public List<Task> queueAll(Collection<Broadcast> broadcasts) {
+
+        return this.getService().queueAll(
+                broadcasts.stream()
+                          .map(broadcast -> this.asTaskBuilder(broadcast, Task.PRIORITY_AUTOMATIC_LOW))
+                          .toList()
+        );
+    }
+
+    private TaskBuilder asTaskBuilder(Broadcast broadcast, byte priority) {
+
         String       name      = this.asTaskName(broadcast);
         AnisekaiJson arguments = new AnisekaiJson();
         arguments.put(BroadcastTask.OPT_BROADCAST, broadcast.getId());
 
-        return this.getService().queue(
-                TaskBuilder.of(this)
-                           .name(name)
-                           .args(arguments)
-                           .priority(priority)
-        );
+        return TaskBuilder.of(this)
+                          .name(name)
+                          .args(arguments)
+                          .priority(priority);
     }
 
     @PostConstruct
@@ -1,6 +1,7 @@
 package fr.anisekai.discord.tasks.watchlist.create;
 
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.AnimeService;
@@ -51,6 +52,12 @@ public class WatchlistCreateFactory implements TaskFactory<WatchlistCreateTask>
         return false;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.WATCHLIST_CHANNEL;
+    }
+
     public Task queue() {
 
         return this.queue(Task.PRIORITY_AUTOMATIC_HIGH);
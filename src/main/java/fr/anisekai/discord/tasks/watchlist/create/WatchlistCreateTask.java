@@ -1,6 +1,5 @@
 package fr.anisekai.discord.tasks.watchlist.create;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.discord.responses.embeds.WatchlistEmbed;
@@ -10,6 +9,7 @@ import fr.anisekai.server.domain.entities.Watchlist;
 import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.InterestService;
 import fr.anisekai.server.services.WatchlistService;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
@@ -33,7 +33,7 @@ public class WatchlistCreateTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) {
+    public void execute(ITimedAction timer, TaskArguments params) {
 
         MessageChannel channel = this.store.requireWatchlistChannel();
 
@@ -2,6 +2,7 @@ package fr.anisekai.discord.tasks.watchlist.update;
 
 import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.discord.JDAStore;
+import fr.anisekai.discord.tasks.DiscordRateBuckets;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.domain.enums.AnimeList;
 import fr.anisekai.server.enums.TaskPipeline;
@@ -9,6 +10,7 @@ import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.InterestService;
 import fr.anisekai.server.services.TaskService;
 import fr.anisekai.server.services.WatchlistService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskExecutor;
 import fr.anisekai.server.tasking.TaskFactory;
@@ -16,10 +18,15 @@ import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
 @Component
 public class WatchlistUpdateFactory implements TaskFactory<WatchlistUpdateTask> {
 
-    public static final String NAME = "watchlist:update";
+    public static final String   NAME     = "watchlist:update";
+    public static final Duration DEBOUNCE = Duration.ofSeconds(5);
 
     private final TaskService      service;
     private final AnimeService     animeService;
@@ -63,12 +70,35 @@ public class WatchlistUpdateFactory implements TaskFactory<WatchlistUpdateTask>
         );
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return WatchlistUpdateTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return true;
     }
 
+    @Override
+    public String rateBucket() {
+
+        return DiscordRateBuckets.WATCHLIST_CHANNEL;
+    }
+
+    /**
+     * Watchlists are re-rendered on every vote or anime change, so bursts are collapsed into a single update.
+     *
+     * @return The debounce window.
+     */
+    @Override
+    public Duration debounce() {
+
+        return DEBOUNCE;
+    }
+
     public Task queue(AnimeList list) {
 
         return this.queue(list, Task.PRIORITY_AUTOMATIC_LOW);
@@ -76,16 +106,29 @@ public class WatchlistUpdateFactory implements TaskFactory<WatchlistUpdateTask>
 
     public Task queue(AnimeList list, byte priority) {
 
+        return this.service.queue(this.asTaskBuilder(list, priority));
+    }
+
+    public List<Task> queueAll(Collection<AnimeList> lists) {
+
+        return this.queueAll(lists, Task.PRIORITY_AUTOMATIC_LOW);
+    }
+
+    public List<Task> queueAll(Collection<AnimeList> lists, byte priority) {
+
+        return this.service.queueAll(lists.stream().map(list -> this.asTaskBuilder(list, priority)).toList());
+    }
+
+    private TaskBuilder asTaskBuilder(AnimeList list, byte priority) {
+
         String       name      = String.format("%s:%s", this.getName(), list.name().toLowerCase());
         AnisekaiJson arguments = new AnisekaiJson();
         arguments.put(WatchlistUpdateTask.OPTION_WATCHLIST, list.name().toLowerCase());
 
-        return this.service.queue(
-                TaskBuilder.of(this)
-                           .name(name)
-                           .args(arguments)
-                           .priority(priority)
-        );
+        return TaskBuilder.of(this)
+                          .name(name)
+                          .args(arguments)
+                          .priority(priority);
     }
 
     @PostConstruct
@@ -1,7 +1,5 @@
 package fr.anisekai.discord.tasks.watchlist.update;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.discord.JDAStore;
 import fr.anisekai.discord.responses.embeds.WatchlistEmbed;
@@ -12,6 +10,8 @@ import fr.anisekai.server.domain.enums.AnimeList;
 import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.InterestService;
 import fr.anisekai.server.services.WatchlistService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import fr.anisekai.utils.DiscordUtils;
 import net.dv8tion.jda.api.entities.Message;
@@ -24,6 +24,10 @@ public class WatchlistUpdateTask implements TaskExecutor {
 
     public static final String OPTION_WATCHLIST = "watchlist";
 
+    public static final TaskArgumentCodec ARGUMENTS = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_WATCHLIST, TaskArgumentCodec.Type.STRING)
+    );
+
     private final AnimeService     animeService;
     private final InterestService  interestService;
     private final WatchlistService watchlistService;
@@ -38,15 +42,7 @@ public class WatchlistUpdateTask implements TaskExecutor {
     }
 
     @Override
-    public void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPTION_WATCHLIST, true, String.class)
-        );
-    }
-
-    @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) {
+    public void execute(ITimedAction timer, TaskArguments params) {
 
         timer.action("load", "Loading task data");
         String         rawStatus = params.getString(OPTION_WATCHLIST);
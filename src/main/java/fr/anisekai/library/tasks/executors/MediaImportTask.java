@@ -1,7 +1,5 @@
 package fr.anisekai.library.tasks.executors;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.library.Library;
 import fr.anisekai.media.MediaFile;
@@ -17,7 +15,11 @@ import fr.anisekai.server.domain.entities.Episode;
 import fr.anisekai.server.domain.entities.Track;
 import fr.anisekai.server.services.EpisodeService;
 import fr.anisekai.server.services.TrackService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
+import fr.anisekai.server.tasking.TaskProgress;
+import fr.anisekai.utils.ProcessUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -42,9 +45,16 @@ public class MediaImportTask implements TaskExecutor {
     public static final String OPTION_EPISODE = "episode";
     public static final String OPTION_DELETE  = "delete";
 
+    public static final TaskArgumentCodec ARGUMENTS = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_SOURCE, TaskArgumentCodec.Type.STRING),
+            TaskArgumentCodec.Field.required(OPTION_EPISODE, TaskArgumentCodec.Type.LONG),
+            TaskArgumentCodec.Field.optional(OPTION_DELETE, TaskArgumentCodec.Type.BOOLEAN)
+    );
+
     private final Library        library;
     private final TrackService   trackService;
     private final EpisodeService episodeService;
+    private final Set<Path>      workingPaths = ConcurrentHashMap.newKeySet();
 
     private Episode   episode;
     private MediaFile media;
@@ -55,6 +65,7 @@ public class MediaImportTask implements TaskExecutor {
     private AccessScope subtitleScope;
 
     private IsolationSession context;
+    private TaskProgress     progress;
 
     public MediaImportTask(Library library, TrackService trackService, EpisodeService episodeService) {
 
@@ -64,23 +75,20 @@ public class MediaImportTask implements TaskExecutor {
     }
 
     @Override
-    public void validateParams(AnisekaiJson params) {
+    public void setProgress(TaskProgress progress) {
 
-        params.validate(
-                new JsonObjectRule(OPTION_SOURCE, true, String.class),
-                new JsonObjectRule(OPTION_EPISODE, true, int.class, Integer.class, long.class, Long.class),
-                new JsonObjectRule(OPTION_DELETE, false, boolean.class, Boolean.class)
-        );
+        this.progress = progress;
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws IOException, InterruptedException {
+    public void execute(ITimedAction timer, TaskArguments params) throws IOException, InterruptedException {
 
         Path    source = Path.of(params.getString(OPTION_SOURCE));
         boolean delete = params.optBoolean(OPTION_DELETE, false);
 
         this.episode = this.episodeService.requireById(params.getLong(OPTION_EPISODE));
         this.media   = MediaFile.of(source);
+        this.workingPaths.add(source);
 
         String taskName = String.format("%s:%s", this.episode.getAnime().getId(), this.episode.getNumber());
 
@@ -94,16 +102,19 @@ public class MediaImportTask implements TaskExecutor {
             this.context = context;
 
             LOGGER.info("[{}] Converting media {}...", taskName, source);
+            this.report(0, "Converting media");
             Path destination = this.convertFile();
             LOGGER.info("[{}] File converted to {}", taskName, destination);
 
             this.converted = MediaFile.of(destination);
 
             LOGGER.info("[{}] Creating MPD Meta and subtitle track files...", taskName);
+            this.report(0.8, "Creating MPD meta and subtitle tracks");
             this.prepareFileForLibrary();
             LOGGER.info("[{}] Done.", taskName);
 
             LOGGER.info("[{}] Committing files to library...", taskName);
+            this.report(0.95, "Committing files to library");
             context.commit();
             this.episodeService.mod(this.episode.getId(), entity -> entity.setReady(true));
             LOGGER.info("[{}] The media file has been imported.", taskName);
@@ -112,6 +123,23 @@ public class MediaImportTask implements TaskExecutor {
         if (delete) {
             Files.delete(source);
         }
+        this.report(1, "Imported");
+    }
+
+    @Override
+    public void cancel() {
+
+        // ffmpeg does not stop when the thread waiting for it is interrupted.
+        int destroyed = ProcessUtils.destroyWorkingOn(this.workingPaths);
+        LOGGER.info("Terminated {} ffmpeg process(es) after cancellation.", destroyed);
+    }
+
+    private void report(double ratio, String message) {
+
+        // ffmpeg does not expose its own progress, so the import is only reported stage by stage.
+        if (this.progress != null) {
+            this.progress.report(ratio, message);
+        }
     }
 
     private Track createTrack(MediaStream stream, Codec codec) {
@@ -171,12 +199,15 @@ public class MediaImportTask implements TaskExecutor {
 
         }).onlyIf((stream, codec) -> !CODEC_EXCLUSION.contains(stream.getCodec()));
 
+        Path destination = this.context.resolve(this.episodeScope);
+        this.workingPaths.add(destination);
+
         return FFMpeg.convert(this.media)
                      .video(VIDEO_CODEC)
                      .audio(AUDIO_CODEC)
                      .subtitle(SUBTITLE_CODEC)
                      .streamMapper(mapper)
-                     .file(this.context.resolve(this.episodeScope))
+                     .file(destination)
                      .timeout(3, TimeUnit.HOURS)
                      .run();
     }
@@ -1,7 +1,5 @@
 package fr.anisekai.library.tasks.executors;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.core.persistence.domain.Entity;
 import fr.anisekai.library.Library;
@@ -16,7 +14,10 @@ import fr.anisekai.sanctum.interfaces.isolation.IsolationSession;
 import fr.anisekai.server.domain.entities.Episode;
 import fr.anisekai.server.domain.entities.Track;
 import fr.anisekai.server.services.EpisodeService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
+import fr.anisekai.utils.ProcessUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -36,8 +38,13 @@ public class MediaUpdateTask implements TaskExecutor {
 
     public static final String OPTION_EPISODE = "episode";
 
+    public static final TaskArgumentCodec ARGUMENTS = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_EPISODE, TaskArgumentCodec.Type.LONG)
+    );
+
     private final Library        library;
     private final EpisodeService service;
+    private final Set<Path>      workingPaths = ConcurrentHashMap.newKeySet();
 
     public MediaUpdateTask(Library library, EpisodeService service) {
 
@@ -46,15 +53,7 @@ public class MediaUpdateTask implements TaskExecutor {
     }
 
     @Override
-    public void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPTION_EPISODE, true, int.class, Integer.class, long.class, Long.class)
-        );
-    }
-
-    @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
 
         Episode episode = this.service.requireById(params.getLong(OPTION_EPISODE));
 
@@ -70,6 +69,7 @@ public class MediaUpdateTask implements TaskExecutor {
         }
 
         MediaFile media = MediaFile.of(episodePath);
+        this.workingPaths.add(episodePath);
 
         Map<Long, Track> trackMap = episode.getTracks()
                                            .stream()
@@ -80,6 +80,7 @@ public class MediaUpdateTask implements TaskExecutor {
         try (IsolationSession context = this.library.createIsolation(scopes)) {
 
             Path scopedEpisodePath = context.resolve(episodeScope);
+            this.workingPaths.add(scopedEpisodePath);
 
             FFMpeg.convert(media)
                   .copyVideo()
@@ -106,6 +107,12 @@ public class MediaUpdateTask implements TaskExecutor {
         }
     }
 
+    @Override
+    public void cancel() {
+
+        ProcessUtils.destroyWorkingOn(this.workingPaths);
+    }
+
     private static @NotNull MediaStreamMapper getStreamMapper(Map<Long, Track> trackMap) {
 
         AtomicInteger counter = new AtomicInteger(0);
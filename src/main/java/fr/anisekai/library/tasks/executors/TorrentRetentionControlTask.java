@@ -1,6 +1,5 @@
 package fr.anisekai.library.tasks.executors;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.core.internal.services.Transmission;
 import fr.anisekai.library.Library;
@@ -10,6 +9,7 @@ import fr.anisekai.server.domain.entities.TorrentFile;
 import fr.anisekai.server.services.SettingService;
 import fr.anisekai.server.services.TorrentFileService;
 import fr.anisekai.server.services.TorrentService;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +39,7 @@ public class TorrentRetentionControlTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
 
         long retention = this.settingService.getDownloadRetention().orElse(0L);
         if (retention == 0) return;
@@ -1,7 +1,5 @@
 package fr.anisekai.library.tasks.executors;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.core.internal.services.Nyaa;
 import fr.anisekai.core.internal.services.Transmission;
@@ -11,6 +9,8 @@ import fr.anisekai.server.services.AnimeService;
 import fr.anisekai.server.services.EpisodeService;
 import fr.anisekai.server.services.TorrentFileService;
 import fr.anisekai.server.services.TorrentService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
 import fr.anisekai.server.tasking.TaskExecutor;
 
 import java.net.URI;
@@ -27,6 +27,10 @@ public class TorrentSourcingTask implements TaskExecutor {
 
     public static final String OPTION_SOURCE = "source";
 
+    public static final TaskArgumentCodec ARGUMENTS = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_SOURCE, TaskArgumentCodec.Type.STRING)
+    );
+
     private final AnimeService       animeService;
     private final EpisodeService     episodeService;
     private final TorrentService     torrentService;
@@ -41,16 +45,7 @@ public class TorrentSourcingTask implements TaskExecutor {
     }
 
     @Override
-    public void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPTION_PRIORITY, false, int.class, long.class, Integer.class, Long.class),
-                new JsonObjectRule(OPTION_SOURCE, true, String.class)
-        );
-    }
-
-    @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
 
         byte   priority = params.has(OPTION_PRIORITY) ? (byte) params.getInt(OPTION_PRIORITY) : Task.PRIORITY_AUTOMATIC_LOW;
         String source   = params.getString(OPTION_SOURCE);
@@ -1,6 +1,5 @@
 package fr.anisekai.library.tasks.executors;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.core.internal.services.Transmission;
 import fr.anisekai.library.services.SpringTransmissionClient;
@@ -8,8 +7,11 @@ import fr.anisekai.library.tasks.factories.MediaImportFactory;
 import fr.anisekai.server.domain.entities.Torrent;
 import fr.anisekai.server.services.TaskService;
 import fr.anisekai.server.services.TorrentService;
+import fr.anisekai.server.tasking.TaskArguments;
+import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskExecutor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +27,7 @@ public class TorrentSynchronizationTask implements TaskExecutor {
     }
 
     @Override
-    public void execute(ITimedAction timer, AnisekaiJson params) throws Exception {
+    public void execute(ITimedAction timer, TaskArguments params) throws Exception {
 
         timer.action("client-check", "Check the transmission client");
         SpringTransmissionClient client = this.torrentService.getClient();
@@ -43,6 +45,9 @@ public class TorrentSynchronizationTask implements TaskExecutor {
         timer.endAction();
         timer.endAction();
 
+        MediaImportFactory importFactory = this.taskService.getFactory(MediaImportFactory.class);
+        List<TaskBuilder>  imports       = new ArrayList<>();
+
         timer.action("sync-torrents", "Load remote torrents");
         for (Torrent downloadingTorrent : downloading) {
             timer.action("sync-torrent", "Sync torrent " + downloadingTorrent.getId());
@@ -65,9 +70,7 @@ public class TorrentSynchronizationTask implements TaskExecutor {
                 );
 
                 if (transmissionTorrent.status().isFinished()) {
-                    timer.action("submit-task", "Submit media importation task");
-                    this.taskService.getFactory(MediaImportFactory.class).queue(downloadingTorrent);
-                    timer.endAction();
+                    imports.addAll(importFactory.asTaskBuilders(downloadingTorrent));
                 }
             } else {
                 this.torrentService.mod(
@@ -79,6 +82,12 @@ public class TorrentSynchronizationTask implements TaskExecutor {
             timer.endAction();
         }
         timer.endAction();
+
+        if (!imports.isEmpty()) {
+            timer.action("submit-tasks", "Submit media importation tasks");
+            this.taskService.queueAll(imports);
+            timer.endAction();
+        }
     }
 
 }
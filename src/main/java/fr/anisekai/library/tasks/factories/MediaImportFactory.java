@@ -11,6 +11,7 @@ import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.EpisodeService;
 import fr.anisekai.server.services.TaskService;
 import fr.anisekai.server.services.TrackService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskFactory;
 import jakarta.annotation.PostConstruct;
@@ -18,6 +19,7 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,15 +57,52 @@ public class MediaImportFactory implements TaskFactory<MediaImportTask> {
         );
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return MediaImportTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return true;
     }
 
+    @Override
+    public Duration timeout() {
+
+        // Conversion alone may take up to 3 hours, followed by the MPD and subtitle extraction.
+        return Duration.ofHours(5);
+    }
+
     public List<Task> queue(Torrent torrent) {
 
-        List<Task> tasks = new ArrayList<>();
+        return this.service.queueAll(this.asTaskBuilders(torrent));
+    }
+
+    public Task queue(Path source, Episode episode) {
+
+        return this.queue(source, episode, Task.PRIORITY_AUTOMATIC_LOW);
+    }
+
+    public Task queue(Path source, Episode episode, byte priority) {
+
+        return this.service.queue(this.asImportChain(source, episode, priority));
+    }
+
+    /**
+     * Create the {@link TaskBuilder}s importing every file of the provided {@link Torrent}, each followed by the
+     * {@link Task} updating its {@link Episode}.
+     *
+     * @param torrent
+     *         The {@link Torrent} whose files should be imported.
+     *
+     * @return A {@link List} of {@link TaskBuilder}.
+     */
+    public List<TaskBuilder> asTaskBuilders(Torrent torrent) {
+
+        List<TaskBuilder> builders = new ArrayList<>();
         for (TorrentFile file : torrent.getFiles()) {
             Path source = this.library
                     .findDownload(file)
@@ -75,18 +114,26 @@ public class MediaImportFactory implements TaskFactory<MediaImportTask> {
                             )));
 
             Episode episode = file.getEpisode();
-            tasks.add(this.queue(source, episode, torrent.getPriority()));
+            builders.add(this.asImportChain(source, episode, torrent.getPriority()));
         }
 
-        return tasks;
-    }
-
-    public Task queue(Path source, Episode episode) {
-
-        return this.queue(source, episode, Task.PRIORITY_AUTOMATIC_LOW);
+        return builders;
     }
 
-    public Task queue(Path source, Episode episode, byte priority) {
+    /**
+     * Create the {@link TaskBuilder} importing the provided file as the provided {@link Episode}. Follow-up
+     * {@link Task}s can be chained to it with {@link TaskBuilder#then(TaskBuilder)}.
+     *
+     * @param source
+     *         The {@link Path} of the file to import.
+     * @param episode
+     *         The {@link Episode} to import the file into.
+     * @param priority
+     *         The priority of the {@link Task}.
+     *
+     * @return A {@link TaskBuilder}.
+     */
+    public TaskBuilder asTaskBuilder(Path source, Episode episode, byte priority) {
 
         String       name      = String.format("%s:%s", episode.getAnime().getId(), episode.getNumber());
         AnisekaiJson arguments = new AnisekaiJson();
@@ -94,12 +141,17 @@ public class MediaImportFactory implements TaskFactory<MediaImportTask> {
         arguments.put(MediaImportTask.OPTION_SOURCE, source.toString());
         arguments.put(MediaImportTask.OPTION_EPISODE, episode.getId());
 
-        return this.service.queue(
-                TaskBuilder.of(this)
-                           .name(name)
-                           .args(arguments)
-                           .priority(priority)
-        );
+        return TaskBuilder.of(this)
+                          .name(name)
+                          .args(arguments)
+                          .priority(priority);
+    }
+
+    private TaskBuilder asImportChain(Path source, Episode episode, byte priority) {
+
+        // The update only runs once the import succeeded, as it works on the imported tracks.
+        MediaUpdateFactory updateFactory = this.service.getFactory(MediaUpdateFactory.class);
+        return this.asTaskBuilder(source, episode, priority).then(updateFactory.asTaskBuilder(episode, priority));
     }
 
     @PostConstruct
@@ -10,12 +10,15 @@ import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.EpisodeService;
 import fr.anisekai.server.services.TaskService;
 import fr.anisekai.server.services.TrackService;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskFactory;
 import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class MediaUpdateFactory implements TaskFactory<MediaUpdateTask> {
 
@@ -47,12 +50,24 @@ public class MediaUpdateFactory implements TaskFactory<MediaUpdateTask> {
         );
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return MediaUpdateTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return true;
     }
 
+    @Override
+    public Duration timeout() {
+
+        // Tracks are only remuxed, never converted again.
+        return Duration.ofHours(1);
+    }
 
     public Task queue(Episode episode) {
 
@@ -61,17 +76,31 @@ public class MediaUpdateFactory implements TaskFactory<MediaUpdateTask> {
 
     public Task queue(Episode episode, byte priority) {
 
+        return this.service.queue(this.asTaskBuilder(episode, priority));
+    }
+
+    /**
+     * Create the {@link TaskBuilder} updating the provided {@link Episode}, allowing it to be chained after another
+     * {@link Task} with {@link TaskBuilder#then(TaskBuilder)}.
+     *
+     * @param episode
+     *         The {@link Episode} to update.
+     * @param priority
+     *         The priority of the {@link Task}.
+     *
+     * @return A {@link TaskBuilder}.
+     */
+    public TaskBuilder asTaskBuilder(Episode episode, byte priority) {
+
         String       name      = String.format("%s:%s", episode.getAnime().getId(), episode.getNumber());
         AnisekaiJson arguments = new AnisekaiJson();
 
         arguments.put(MediaImportTask.OPTION_EPISODE, episode.getId());
 
-        return this.service.queue(
-                TaskBuilder.of(this)
-                           .name(name)
-                           .args(arguments)
-                           .priority(priority)
-        );
+        return TaskBuilder.of(this)
+                          .name(name)
+                          .args(arguments)
+                          .priority(priority);
     }
 
     @PostConstruct
@@ -5,12 +5,15 @@ import fr.anisekai.library.tasks.executors.TorrentSourcingTask;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.services.*;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
 import fr.anisekai.server.tasking.TaskBuilder;
 import fr.anisekai.server.tasking.TaskFactory;
 import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class TorrentSourcingFactory implements TaskFactory<TorrentSourcingTask> {
 
@@ -48,12 +51,25 @@ public class TorrentSourcingFactory implements TaskFactory<TorrentSourcingTask>
         );
     }
 
+    @Override
+    public TaskArgumentCodec getArgumentCodec() {
+
+        return TorrentSourcingTask.ARGUMENTS;
+    }
+
     @Override
     public boolean hasNamedTask() {
 
         return false;
     }
 
+    @Override
+    public Duration timeout() {
+
+        // A single RSS feed is fetched, anything longer means the source is stuck.
+        return Duration.ofMinutes(10);
+    }
+
     public Task queue(String source) {
 
         return this.queue(source, Task.PRIORITY_AUTOMATIC_LOW);
@@ -11,6 +11,8 @@ import jakarta.annotation.PostConstruct;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class TorrentSynchronizationFactory implements TaskFactory<TorrentSynchronizationTask> {
 
@@ -42,6 +44,20 @@ public class TorrentSynchronizationFactory implements TaskFactory<TorrentSynchro
         return false;
     }
 
+    @Override
+    public Duration retryDelay() {
+
+        // Transmission is usually unreachable for a while when this fails, no need to insist.
+        return Duration.ofMinutes(1);
+    }
+
+    @Override
+    public Duration timeout() {
+
+        // Only a few calls to Transmission, which should not leave the worker stuck if it stops answering.
+        return Duration.ofMinutes(10);
+    }
+
     public Task queue() {
 
         return this.queue(Task.PRIORITY_AUTOMATIC_LOW);
@@ -237,9 +237,8 @@ public class EventListeners {
 
         this.registry.withEventContext(() -> {
             // TODO: Optimisation possible, only select watchlist where the user has at least a single interest
-            for (AnimeList status : AnimeList.collect(AnimeList.Property.SHOW)) {
-                this.taskService.getFactory(WatchlistUpdateFactory.class).queue(status);
-            }
+            this.taskService.getFactory(WatchlistUpdateFactory.class)
+                            .queueAll(AnimeList.collect(AnimeList.Property.SHOW));
         });
     }
 
@@ -1,15 +1,14 @@
 package fr.anisekai.server.domain.entities;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.persistence.domain.IncrementableEntity;
 import fr.anisekai.server.domain.enums.TaskStatus;
-import fr.anisekai.server.types.JSONType;
 import fr.anisekai.utils.EntityUtils;
 import jakarta.persistence.*;
-import org.hibernate.annotations.Type;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.sql.Types;
 import java.time.Instant;
 import java.util.Objects;
 
@@ -37,18 +36,46 @@ public class Task extends IncrementableEntity {
     @Column(nullable = false)
     private byte priority = 0;
 
-    @Type(JSONType.class)
-    private AnisekaiJson arguments;
+    @Lob
+    @JdbcTypeCode(Types.LONGVARCHAR)
+    private String arguments;
+
+    @Lob
+    @Column(name = "arguments_data")
+    private byte[] argumentsData;
+
+    @Column(name = "parent_id")
+    private Long parentId;
 
     @Column(name = "failure_count", nullable = false)
     private byte failureCount;
 
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
     @Column(name = "started_at")
     private Instant startedAt;
 
     @Column(name = "completed_at")
     private Instant completedAt;
 
+    @Column(name = "progress")
+    private Double progress;
+
+    @Column(name = "progress_message")
+    private String progressMessage;
+
+    @Column(name = "estimated_end_at")
+    private Instant estimatedEndAt;
+
+    @Column(name = "progress_updated_at")
+    private Instant progressUpdatedAt;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
 
     public @NotNull String getFactoryName() {
 
@@ -90,16 +117,36 @@ public class Task extends IncrementableEntity {
         this.priority = priority;
     }
 
-    public @NotNull AnisekaiJson getArguments() {
+    public @Nullable String getArguments() {
 
         return this.arguments;
     }
 
-    public void setArguments(@NotNull AnisekaiJson arguments) {
+    public void setArguments(@Nullable String arguments) {
 
         this.arguments = arguments;
     }
 
+    public @Nullable byte[] getArgumentsData() {
+
+        return this.argumentsData;
+    }
+
+    public void setArgumentsData(@Nullable byte[] argumentsData) {
+
+        this.argumentsData = argumentsData;
+    }
+
+    public @Nullable Long getParentId() {
+
+        return this.parentId;
+    }
+
+    public void setParentId(Long parentId) {
+
+        this.parentId = parentId;
+    }
+
     public byte getFailureCount() {
 
         return this.failureCount;
@@ -110,6 +157,16 @@ public class Task extends IncrementableEntity {
         this.failureCount = failureCount;
     }
 
+    public @Nullable Instant getNextAttemptAt() {
+
+        return this.nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public @Nullable Instant getStartedAt() {
 
         return this.startedAt;
@@ -130,6 +187,66 @@ public class Task extends IncrementableEntity {
         this.completedAt = completedAt;
     }
 
+    public @Nullable Double getProgress() {
+
+        return this.progress;
+    }
+
+    public void setProgress(Double progress) {
+
+        this.progress = progress;
+    }
+
+    public @Nullable String getProgressMessage() {
+
+        return this.progressMessage;
+    }
+
+    public void setProgressMessage(String progressMessage) {
+
+        this.progressMessage = progressMessage;
+    }
+
+    public @Nullable Instant getEstimatedEndAt() {
+
+        return this.estimatedEndAt;
+    }
+
+    public void setEstimatedEndAt(Instant estimatedEndAt) {
+
+        this.estimatedEndAt = estimatedEndAt;
+    }
+
+    public @Nullable Instant getProgressUpdatedAt() {
+
+        return this.progressUpdatedAt;
+    }
+
+    public void setProgressUpdatedAt(Instant progressUpdatedAt) {
+
+        this.progressUpdatedAt = progressUpdatedAt;
+    }
+
+    public @Nullable String getLeaseOwner() {
+
+        return this.leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+
+        this.leaseOwner = leaseOwner;
+    }
+
+    public @Nullable Instant getLeaseExpiresAt() {
+
+        return this.leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     @Override
     public boolean equals(Object o) {
 
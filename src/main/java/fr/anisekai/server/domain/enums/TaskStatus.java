@@ -10,6 +10,11 @@ public enum TaskStatus {
      */
     SCHEDULED,
 
+    /**
+     * The task waits for the task it depends on to succeed before being scheduled.
+     */
+    WAITING,
+
     /**
      * The task is currently being executed.
      */
@@ -13,16 +13,34 @@ public enum TaskPipeline {
     /**
      * Pipeline reserved for long-running task.
      */
-    HEAVY,
+    HEAVY(1),
 
     /**
      * Pipeline reserved for regular task
      */
-    SOFT,
+    SOFT(2),
 
     /**
      * Pipeline reserved for short-running task
      */
-    MESSAGING
+    MESSAGING(4);
+
+    private final int defaultConcurrency;
+
+    TaskPipeline(int defaultConcurrency) {
+
+        this.defaultConcurrency = defaultConcurrency;
+    }
+
+    /**
+     * Retrieve the amount of tasks that can be executed at the same time in this {@link TaskPipeline} when nothing
+     * else has been configured.
+     *
+     * @return The default amount of concurrent workers.
+     */
+    public int getDefaultConcurrency() {
+
+        return this.defaultConcurrency;
+    }
 
 }
@@ -0,0 +1,343 @@
+package fr.anisekai.server.planifier;
+
+import fr.anisekai.core.internal.plannifier.SchedulerSnapshot;
+import fr.anisekai.core.internal.plannifier.interfaces.SchedulePlanner;
+import fr.anisekai.server.domain.entities.Anime;
+import fr.anisekai.server.domain.entities.Broadcast;
+import fr.anisekai.server.domain.enums.BroadcastStatus;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-memory view of the active {@link Broadcast}s, used to plan broadcasts without loading them from the database.
+ * <p>
+ * The database stays the source of truth: the view is kept current with the {@link Broadcast}s saved through this node
+ * once their transaction is committed, and periodically reconciled with the database as a safety net for the changes it
+ * could not see, such as bulk deletions.
+ * <p>
+ * Every change publishes a new immutable version of the schedule, so reading never blocks nor is blocked by writers,
+ * which are serialized among themselves. {@link PlannedBroadcast}s handed out by {@link #getBroadcasts()} are detached
+ * copies, which can be modified freely without affecting this view.
+ */
+public class BroadcastSchedule {
+
+    /**
+     * An active {@link Broadcast}, reduced to what is needed to plan around it.
+     *
+     * @param id
+     *         The id of the {@link Broadcast}.
+     * @param watchTarget
+     *         The {@link Anime} of the {@link Broadcast}.
+     * @param status
+     *         The {@link BroadcastStatus} of the {@link Broadcast}.
+     * @param startingAt
+     *         The {@link Instant} at which the {@link Broadcast} starts.
+     * @param episodeCount
+     *         The amount of episodes of the {@link Broadcast}.
+     * @param firstEpisode
+     *         The first episode of the {@link Broadcast}.
+     * @param skipEnabled
+     *         Whether openings and endings are skipped during the {@link Broadcast}.
+     */
+    public record Entry(
+            long id,
+            Anime watchTarget,
+            BroadcastStatus status,
+            Instant startingAt,
+            int episodeCount,
+            int firstEpisode,
+            boolean skipEnabled
+    ) {
+
+        /**
+         * Create the {@link Entry} of the provided {@link Broadcast}.
+         *
+         * @param broadcast
+         *         The {@link Broadcast}, which must have been saved.
+         *
+         * @return An {@link Entry}.
+         */
+        public static Entry of(Broadcast broadcast) {
+
+            return new Entry(
+                    broadcast.getId(),
+                    broadcast.getWatchTarget(),
+                    broadcast.getStatus(),
+                    broadcast.getStartingAt(),
+                    broadcast.getEpisodeCount(),
+                    broadcast.getFirstEpisode(),
+                    broadcast.isSkipEnabled()
+            );
+        }
+
+        /**
+         * Create a {@link PlannedBroadcast} holding the values of this {@link Entry}.
+         *
+         * @return A {@link PlannedBroadcast}.
+         */
+        public PlannedBroadcast toPlanned() {
+
+            return new PlannedBroadcast(
+                    this.id,
+                    this.watchTarget,
+                    this.startingAt,
+                    this.episodeCount,
+                    this.firstEpisode,
+                    this.skipEnabled
+            );
+        }
+
+    }
+
+    private record Slot(Entry entry, long sequence) {}
+
+    /**
+     * A published version of the schedule, never modified once created.
+     */
+    private static final class Version {
+
+        private static final Version EMPTY = new Version(List.of());
+
+        private final    List<Entry>                             entries;
+        private final    Map<Long, Instant>                      firstStarts;
+        private volatile SchedulePlanner<Anime, PlannedBroadcast, Long> scheduler;
+
+        private Version(List<Entry> entries) {
+
+            Map<Long, Instant> firstStarts = new HashMap<>();
+            for (Entry entry : entries) {
+                firstStarts.merge(entry.watchTarget().getId(), entry.startingAt(), (a, b) -> a.isBefore(b) ? a : b);
+            }
+
+            this.entries     = entries;
+            this.firstStarts = Map.copyOf(firstStarts);
+        }
+
+        private SchedulePlanner<Anime, PlannedBroadcast, Long> getScheduler() {
+
+            // Built on first use: concurrent readers may build it more than once, but always to the same result.
+            SchedulePlanner<Anime, PlannedBroadcast, Long> scheduler = this.scheduler;
+            if (scheduler == null) {
+                List<PlannedBroadcast> planned = this.entries.stream().map(Entry::toPlanned).toList();
+                scheduler      = new SchedulerSnapshot<>(planned, PlannedBroadcast::getId);
+                this.scheduler = scheduler;
+            }
+            return scheduler;
+        }
+
+    }
+
+    private final    Set<BroadcastStatus> statuses;
+    private final    Map<Long, Slot>      slots     = new HashMap<>();
+    private final    Map<Long, Long>      deletions = new HashMap<>();
+    private          long                 sequence  = 0;
+    private volatile Version              version   = Version.EMPTY;
+
+    /**
+     * Create a new {@link BroadcastSchedule}.
+     *
+     * @param statuses
+     *         The {@link BroadcastStatus}es of the {@link Broadcast}s to keep. {@link Broadcast}s moving to any other
+     *         {@link BroadcastStatus} are removed.
+     */
+    public BroadcastSchedule(Collection<BroadcastStatus> statuses) {
+
+        this.statuses = EnumSet.copyOf(statuses);
+    }
+
+    /**
+     * Add or update the provided {@link Broadcast}, or remove it if its {@link BroadcastStatus} is not kept.
+     *
+     * @param broadcast
+     *         The {@link Broadcast}, which must have been saved.
+     */
+    public synchronized void put(Broadcast broadcast) {
+
+        this.write(broadcast);
+        this.publish();
+    }
+
+    /**
+     * Remove the {@link Broadcast} with the provided id.
+     *
+     * @param id
+     *         The id of the {@link Broadcast}.
+     */
+    public synchronized void remove(long id) {
+
+        this.delete(id);
+        this.publish();
+    }
+
+    /**
+     * Apply every change of a {@link fr.anisekai.core.internal.plannifier.plan.SchedulingPlan} at once, publishing a
+     * single new version of the schedule.
+     *
+     * @param saved
+     *         The created and updated {@link Broadcast}s.
+     * @param deleted
+     *         The ids of the deleted {@link Broadcast}s.
+     */
+    public synchronized void update(Collection<Broadcast> saved, Collection<Long> deleted) {
+
+        saved.forEach(this::write);
+        deleted.forEach(this::delete);
+        this.publish();
+    }
+
+    /**
+     * Check if a {@link Broadcast} of the provided {@link Anime} starts before the provided {@link Instant}.
+     *
+     * @param anime
+     *         The {@link Anime}.
+     * @param when
+     *         The {@link Instant}.
+     *
+     * @return True if such {@link Broadcast} exists, false otherwise.
+     */
+    public boolean hasPrevious(Anime anime, Instant when) {
+
+        Instant first = this.version.firstStarts.get(anime.getId());
+        return first != null && first.isBefore(when);
+    }
+
+    /**
+     * Retrieve a {@link PlannedBroadcast} for every {@link Broadcast} of this {@link BroadcastSchedule}, to plan changes
+     * with.
+     *
+     * @return A {@link List} of {@link PlannedBroadcast}.
+     */
+    public List<PlannedBroadcast> getBroadcasts() {
+
+        List<Entry>            entries = this.version.entries;
+        List<PlannedBroadcast> planned = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            planned.add(entry.toPlanned());
+        }
+        return planned;
+    }
+
+    /**
+     * Retrieve a {@link SchedulePlanner} over the current version of this {@link BroadcastSchedule}. It is immutable and
+     * consistent, whatever is changed afterward, and shared by every reader of this version: the
+     * {@link PlannedBroadcast}s of its state must not be modified.
+     *
+     * @return A read-only {@link SchedulePlanner}.
+     */
+    public SchedulePlanner<Anime, PlannedBroadcast, Long> getScheduler() {
+
+        return this.version.getScheduler();
+    }
+
+    /**
+     * Mark the current state of this {@link BroadcastSchedule} before loading a snapshot of the {@link Broadcast}s from
+     * the database, see {@link #reconcile(long, Collection)}.
+     *
+     * @return An opaque marker.
+     */
+    public synchronized long mark() {
+
+        return this.sequence;
+    }
+
+    /**
+     * Replace the content of this {@link BroadcastSchedule} with the provided snapshot of the {@link Broadcast}s.
+     * Changes made since the provided marker are more recent than the snapshot, and are kept as-is.
+     *
+     * @param marker
+     *         The marker obtained with {@link #mark()} before loading the snapshot.
+     * @param snapshot
+     *         Every {@link Broadcast} with a kept {@link BroadcastStatus}.
+     *
+     * @return The amount of {@link Broadcast}s that were out of sync with the snapshot.
+     */
+    public synchronized int reconcile(long marker, Collection<Entry> snapshot) {
+
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (Entry entry : snapshot) {
+            loaded.put(entry.id(), entry);
+        }
+
+        int drift = 0;
+
+        for (Slot slot : List.copyOf(this.slots.values())) {
+            if (slot.sequence() > marker) {
+                continue;
+            }
+
+            Entry entry = loaded.get(slot.entry().id());
+            if (entry == null) {
+                this.slots.remove(slot.entry().id());
+                drift++;
+                continue;
+            }
+
+            if (!isSame(entry, slot.entry())) {
+                drift++;
+            }
+            // Always refreshed, so the anime of the entry follows its own changes.
+            this.slots.put(entry.id(), new Slot(entry, slot.sequence()));
+        }
+
+        for (Entry entry : loaded.values()) {
+            Long deletedAt = this.deletions.get(entry.id());
+            if (!this.slots.containsKey(entry.id()) && (deletedAt == null || deletedAt <= marker)) {
+                this.slots.put(entry.id(), new Slot(entry, this.sequence));
+                drift++;
+            }
+        }
+
+        this.deletions.values().removeIf(deletedAt -> deletedAt <= marker);
+        this.publish();
+        return drift;
+    }
+
+    /**
+     * Retrieve the amount of {@link Broadcast}s currently held by this {@link BroadcastSchedule}.
+     *
+     * @return The amount of {@link Broadcast}s.
+     */
+    public int size() {
+
+        return this.version.entries.size();
+    }
+
+    private void write(Broadcast broadcast) {
+
+        if (!this.statuses.contains(broadcast.getStatus())) {
+            this.delete(broadcast.getId());
+            return;
+        }
+
+        this.deletions.remove(broadcast.getId());
+        this.slots.put(broadcast.getId(), new Slot(Entry.of(broadcast), ++this.sequence));
+    }
+
+    private void delete(long id) {
+
+        this.deletions.put(id, ++this.sequence);
+        this.slots.remove(id);
+    }
+
+    private void publish() {
+
+        List<Entry> entries = new ArrayList<>(this.slots.size());
+        for (Slot slot : this.slots.values()) {
+            entries.add(slot.entry());
+        }
+        this.version = new Version(List.copyOf(entries));
+    }
+
+    private static boolean isSame(Entry entry, Entry other) {
+
+        return entry.id() == other.id() &&
+                Objects.equals(entry.watchTarget().getId(), other.watchTarget().getId()) &&
+                entry.status() == other.status() &&
+                entry.startingAt().equals(other.startingAt()) &&
+                entry.episodeCount() == other.episodeCount() &&
+                entry.firstEpisode() == other.firstEpisode() &&
+                entry.skipEnabled() == other.skipEnabled();
+    }
+
+}
@@ -0,0 +1,150 @@
+package fr.anisekai.server.planifier;
+
+import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
+import fr.anisekai.server.domain.entities.Anime;
+import fr.anisekai.server.domain.entities.Broadcast;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * Detached {@link Planifiable} standing for a {@link Broadcast} while planning, so that schedules can be computed
+ * without touching any entity. Unlike a {@link Broadcast}, it always carries an id: the one of the {@link Broadcast} it
+ * has been copied from, or a provisional one for those that have not been saved yet.
+ */
+public class PlannedBroadcast implements Planifiable<Anime> {
+
+    private final long    id;
+    private       Anime   watchTarget;
+    private       Instant startingAt;
+    private       int     episodeCount;
+    private       int     firstEpisode;
+    private       boolean skipEnabled;
+
+    /**
+     * Create a new {@link PlannedBroadcast} holding the values of the provided {@link Planifiable}.
+     *
+     * @param id
+     *         The id of the {@link PlannedBroadcast}.
+     * @param planifiable
+     *         The {@link Planifiable} to copy.
+     */
+    public PlannedBroadcast(long id, Planifiable<Anime> planifiable) {
+
+        this(
+                id,
+                planifiable.getWatchTarget(),
+                planifiable.getStartingAt(),
+                planifiable.getEpisodeCount(),
+                planifiable.getFirstEpisode(),
+                planifiable.isSkipEnabled()
+        );
+    }
+
+    /**
+     * Create a new {@link PlannedBroadcast}.
+     *
+     * @param id
+     *         The id of the {@link PlannedBroadcast}.
+     * @param watchTarget
+     *         The {@link Anime} of the {@link PlannedBroadcast}.
+     * @param startingAt
+     *         The {@link Instant} at which the {@link PlannedBroadcast} starts.
+     * @param episodeCount
+     *         The amount of episodes of the {@link PlannedBroadcast}.
+     * @param firstEpisode
+     *         The first episode of the {@link PlannedBroadcast}.
+     * @param skipEnabled
+     *         Whether openings and endings are skipped during the {@link PlannedBroadcast}.
+     */
+    public PlannedBroadcast(long id, Anime watchTarget, Instant startingAt, int episodeCount, int firstEpisode, boolean skipEnabled) {
+
+        this.id           = id;
+        this.watchTarget  = watchTarget;
+        this.startingAt   = startingAt;
+        this.episodeCount = episodeCount;
+        this.firstEpisode = firstEpisode;
+        this.skipEnabled  = skipEnabled;
+    }
+
+    /**
+     * Retrieve the id of this {@link PlannedBroadcast}, which is negative if it has not been saved yet.
+     *
+     * @return The id.
+     */
+    public long getId() {
+
+        return this.id;
+    }
+
+    /**
+     * Check if this {@link PlannedBroadcast} stands for a {@link Broadcast} that has not been saved yet.
+     *
+     * @return True if provisional, false otherwise.
+     */
+    public boolean isProvisional() {
+
+        return this.id < 0;
+    }
+
+    @Override
+    public @NotNull Anime getWatchTarget() {
+
+        return this.watchTarget;
+    }
+
+    @Override
+    public void setWatchTarget(@NotNull Anime watchTarget) {
+
+        this.watchTarget = watchTarget;
+    }
+
+    @Override
+    public @NotNull Instant getStartingAt() {
+
+        return this.startingAt;
+    }
+
+    @Override
+    public void setStartingAt(@NotNull Instant time) {
+
+        this.startingAt = time;
+    }
+
+    @Override
+    public int getEpisodeCount() {
+
+        return this.episodeCount;
+    }
+
+    @Override
+    public void setEpisodeCount(int episodeCount) {
+
+        this.episodeCount = episodeCount;
+    }
+
+    @Override
+    public int getFirstEpisode() {
+
+        return this.firstEpisode;
+    }
+
+    @Override
+    public void setFirstEpisode(int firstEpisode) {
+
+        this.firstEpisode = firstEpisode;
+    }
+
+    @Override
+    public boolean isSkipEnabled() {
+
+        return this.skipEnabled;
+    }
+
+    @Override
+    public void setSkipEnabled(boolean skipEnabled) {
+
+        this.skipEnabled = skipEnabled;
+    }
+
+}
@@ -4,7 +4,6 @@ import fr.anisekai.core.persistence.repository.AnisekaiRepository;
 import fr.anisekai.server.domain.entities.Anime;
 import fr.anisekai.server.domain.entities.Broadcast;
 import fr.anisekai.server.domain.enums.BroadcastStatus;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -23,9 +22,6 @@ public interface BroadcastRepository extends AnisekaiRepository<Broadcast, Long>
 
     Optional<Broadcast> findByEventId(Long eventId);
 
-    @Query("select count(b) from Broadcast b where b.watchTarget.id = :id and b.startingAt < :startingAt and b.status IN :statuses")
-    long countPreviousOf(Long id, Instant startingAt, Collection<BroadcastStatus> statuses);
-
     List<Broadcast> findByWatchTargetAndStartingAtAfterOrderByStartingAtAsc(Anime watchTarget, Instant startingAt);
 
 
@@ -3,9 +3,13 @@ package fr.anisekai.server.repositories;
 import fr.anisekai.core.persistence.repository.AnisekaiRepository;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.domain.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -13,16 +17,195 @@ import java.util.Optional;
 @Repository
 public interface TaskRepository extends AnisekaiRepository<Task, Long> {
 
-    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.factoryName IN :factoryNames ORDER BY t.priority DESC, t.id LIMIT 1")
-    Optional<Task> findNextOf(TaskStatus status, Collection<String> factoryNames);
+    /**
+     * Retrieve the ordering data of every {@link Task} in the provided status for the provided factories, see
+     * {@link fr.anisekai.server.tasking.TaskReadyQueue.Entry}.
+     *
+     * @return Rows made of the id, factory name, priority and readiness of each {@link Task}.
+     */
+    @Query("SELECT t.id, t.factoryName, t.priority, COALESCE(t.nextAttemptAt, t.createdAt) FROM Task t WHERE t.status = :status AND t.factoryName IN :factoryNames")
+    List<Object[]> findReadyOf(TaskStatus status, Collection<String> factoryNames);
 
-    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.factoryName NOT IN :factoryNames ORDER BY t.priority DESC, t.id LIMIT 1")
-    Optional<Task> findNextNotOf(TaskStatus status, Collection<String> factoryNames);
+    /**
+     * Retrieve the ordering data of the provided {@link Task}s if they are in the provided status, see
+     * {@link fr.anisekai.server.tasking.TaskReadyQueue.Entry}.
+     *
+     * @return Rows made of the id, factory name, priority and readiness of each {@link Task}.
+     */
+    @Query("SELECT t.id, t.factoryName, t.priority, COALESCE(t.nextAttemptAt, t.createdAt) FROM Task t WHERE t.id IN :ids AND t.status = :status")
+    List<Object[]> findReadyByIdIn(Collection<Long> ids, TaskStatus status);
+
+    /**
+     * Retrieve the ordering data of every {@link Task} depending on the provided {@link Task} and in the provided
+     * status, see {@link fr.anisekai.server.tasking.TaskReadyQueue.Entry}.
+     *
+     * @return Rows made of the id, factory name, priority and readiness of each {@link Task}.
+     */
+    @Query("SELECT t.id, t.factoryName, t.priority, COALESCE(t.nextAttemptAt, t.createdAt) FROM Task t WHERE t.parentId = :parentId AND t.status = :status")
+    List<Object[]> findReadyByParent(Long parentId, TaskStatus status);
 
     List<Task> findAllByNameAndStatus(String name, TaskStatus status);
 
     Optional<Task> findByNameAndStatusIn(String name, List<TaskStatus> scheduled);
 
+    List<Task> findAllByNameInAndStatus(Collection<String> names, TaskStatus status);
+
     List<Task> findAllByStatus(TaskStatus status);
 
+    @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
+    List<Object[]> countGroupByStatus();
+
+    @Query(value = "SELECT COUNT(*) FROM `task_archive`", nativeQuery = true)
+    long countArchived();
+
+    @Query("SELECT t.id FROM Task t WHERE t.status IN :statuses AND t.updatedAt < :before ORDER BY t.id")
+    List<Long> findIdsOlderThan(Collection<TaskStatus> statuses, Instant before, Limit limit);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.status = :status")
+    List<Long> findIdsInStatus(Collection<Long> ids, TaskStatus status);
+
+    /**
+     * Copy the provided {@link Task}s into the archive table. {@link Task}s already archived are ignored.
+     *
+     * @return The number of archived rows.
+     */
+    @Modifying
+    @Query(
+            value = "INSERT IGNORE INTO `task_archive` (`id`, `factory_name`, `name`, `status`, `priority`, `arguments`, `parent_id`, `failure_count`, `started_at`, `completed_at`, `created_at`, `updated_at`, `archived_at`) " +
+                    "SELECT `id`, `factory_name`, `name`, `status`, `priority`, `arguments`, `parent_id`, `failure_count`, `started_at`, `completed_at`, `created_at`, `updated_at`, :archivedAt FROM `task` WHERE `id` IN :ids",
+            nativeQuery = true
+    )
+    int archive(Collection<Long> ids, Instant archivedAt);
+
+    /**
+     * Remove the provided {@link Task}s from the task table.
+     *
+     * @return The number of removed rows.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int purge(Collection<Long> ids);
+
+    /**
+     * Atomically claim a scheduled {@link Task}. The update only happens if the {@link Task} is still scheduled, which
+     * makes the claim safe even when multiple nodes are competing for the same row.
+     *
+     * @return The number of claimed rows: 1 if the claim succeeded, 0 if someone else got it first.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :executing, t.leaseOwner = :owner, t.leaseExpiresAt = :expiresAt, t.startedAt = :now, t.completedAt = NULL, t.progress = NULL, t.progressMessage = NULL, t.estimatedEndAt = NULL, t.progressUpdatedAt = NULL WHERE t.id = :id AND t.status = :scheduled AND (t.nextAttemptAt IS NULL OR t.nextAttemptAt <= :now)")
+    int claim(Long id, TaskStatus scheduled, TaskStatus executing, String owner, Instant now, Instant expiresAt);
+
+    /**
+     * Extend the lease of the provided executing {@link Task}s, as long as they are still owned by the provided owner.
+     *
+     * @return The number of renewed leases.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.leaseExpiresAt = :expiresAt WHERE t.id IN :ids AND t.leaseOwner = :owner AND t.status = :executing")
+    int renewLeases(Collection<Long> ids, TaskStatus executing, String owner, Instant expiresAt);
+
+    /**
+     * Put back every executing {@link Task} whose lease has expired into the scheduled state.
+     *
+     * @return The number of reclaimed {@link Task}s.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :scheduled, t.leaseOwner = NULL, t.leaseExpiresAt = NULL, t.startedAt = NULL WHERE t.status = :executing AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now)")
+    int reclaimExpired(TaskStatus executing, TaskStatus scheduled, Instant now);
+
+    /**
+     * Put back every executing {@link Task} owned by the provided owner into the scheduled state, regardless of their
+     * lease expiration.
+     *
+     * @return The number of reclaimed {@link Task}s.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :scheduled, t.leaseOwner = NULL, t.leaseExpiresAt = NULL, t.startedAt = NULL WHERE t.status = :executing AND t.leaseOwner = :owner")
+    int reclaimOwned(TaskStatus executing, TaskStatus scheduled, String owner);
+
+    /**
+     * Store the progress of the provided executing {@link Task}, as long as it is still owned by the provided owner.
+     *
+     * @return The number of updated rows: 1 if the progress has been stored, 0 otherwise.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.progress = :progress, t.progressMessage = :message, t.estimatedEndAt = :estimatedEndAt, t.progressUpdatedAt = :updatedAt WHERE t.id = :id AND t.leaseOwner = :owner AND t.status = :executing")
+    int updateProgress(Long id, TaskStatus executing, String owner, double progress, String message, Instant estimatedEndAt, Instant updatedAt);
+
+    /**
+     * Store the outcome of the provided executing {@link Task} and release its lease, as long as it is still owned by
+     * the provided owner. The update is skipped if the {@link Task} has been canceled or reclaimed by another node in
+     * the meantime.
+     *
+     * @return The number of updated rows: 1 if the outcome has been stored, 0 otherwise.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.failureCount = :failureCount, t.nextAttemptAt = :nextAttemptAt, t.startedAt = :startedAt, t.completedAt = :completedAt, t.progress = :progress, t.progressMessage = :progressMessage, t.estimatedEndAt = :estimatedEndAt, t.progressUpdatedAt = :progressUpdatedAt, t.leaseOwner = NULL, t.leaseExpiresAt = NULL, t.updatedAt = :now WHERE t.id = :id AND t.status = :executing AND t.leaseOwner = :owner")
+    int finish(Long id, TaskStatus executing, String owner, TaskStatus status, byte failureCount, Instant nextAttemptAt, Instant startedAt, Instant completedAt, Double progress, String progressMessage, Instant estimatedEndAt, Instant progressUpdatedAt, Instant now);
+
+    /**
+     * Flag a {@link Task} as canceled if it is in one of the provided statuses. When the {@link Task} is executing, the
+     * node running it notices the change and interrupts it.
+     *
+     * @return The number of canceled rows: 1 if the cancellation succeeded, 0 otherwise.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :canceled, t.completedAt = :now WHERE t.id = :id AND t.status IN :statuses")
+    int cancel(Long id, Collection<TaskStatus> statuses, TaskStatus canceled, Instant now);
+
+    @Query("SELECT t.id FROM Task t WHERE t.parentId IN :parentIds AND t.status = :status")
+    List<Long> findIdsByParentIn(Collection<Long> parentIds, TaskStatus status);
+
+    /**
+     * Schedule every {@link Task} waiting for the provided {@link Task}.
+     *
+     * @return The number of scheduled {@link Task}s.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :scheduled WHERE t.parentId = :parentId AND t.status = :waiting")
+    int releaseDependents(Long parentId, TaskStatus waiting, TaskStatus scheduled);
+
+    /**
+     * Cancel the provided {@link Task}s if they are still waiting for their parent.
+     *
+     * @return The number of canceled {@link Task}s.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :canceled, t.completedAt = :now WHERE t.id IN :ids AND t.status = :waiting")
+    int cancelWaiting(Collection<Long> ids, TaskStatus waiting, TaskStatus canceled, Instant now);
+
+    /**
+     * Retrieve the ids of the {@link Task}s in one of the provided statuses that still have dependents in the provided
+     * waiting status. This is a safety net for dependents queued while their parent was completing.
+     *
+     * @return The ids of the parent {@link Task}s.
+     */
+    @Query("SELECT DISTINCT t.parentId FROM Task t WHERE t.status = :waiting AND t.parentId IN (SELECT p.id FROM Task p WHERE p.status IN :parentStatuses)")
+    List<Long> findParentIdsOfWaiting(TaskStatus waiting, Collection<TaskStatus> parentStatuses);
+
+    /**
+     * Schedule every waiting {@link Task} whose parent is in the provided succeeded status. This is a safety net for
+     * dependents queued while their parent was completing.
+     *
+     * @return The number of scheduled {@link Task}s.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "UPDATE `task` `child` JOIN `task` `parent` ON `child`.`parent_id` = `parent`.`id` " +
+                    "SET `child`.`status` = :scheduled WHERE `child`.`status` = :waiting AND `parent`.`status` = :succeeded",
+            nativeQuery = true
+    )
+    int releaseWaiting(String waiting, String succeeded, String scheduled);
+
 }
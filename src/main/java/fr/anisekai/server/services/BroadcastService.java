@@ -3,6 +3,7 @@ package fr.anisekai.server.services;
 import fr.anisekai.core.internal.plannifier.EventScheduler;
 import fr.anisekai.core.internal.plannifier.data.CalibrationResult;
 import fr.anisekai.core.internal.plannifier.exceptions.NotSchedulableException;
+import fr.anisekai.core.internal.plannifier.interfaces.SchedulePlanner;
 import fr.anisekai.core.internal.plannifier.interfaces.ScheduleSpotData;
 import fr.anisekai.core.internal.plannifier.interfaces.Scheduler;
 import fr.anisekai.core.internal.plannifier.interfaces.entities.Planifiable;
@@ -11,6 +12,10 @@ import fr.anisekai.core.internal.plannifier.plan.SchedulingActionType;
 import fr.anisekai.core.internal.plannifier.plan.SchedulingPlan;
 import fr.anisekai.core.persistence.AnisekaiService;
 import fr.anisekai.core.persistence.EntityEventProcessor;
+import fr.anisekai.core.persistence.events.EntityCreatedEvent;
+import fr.anisekai.core.persistence.events.EntityDeletedEvent;
+import fr.anisekai.core.persistence.events.EntityModifiedEvent;
+import fr.anisekai.core.persistence.exceptions.RequirementViolationException;
 import fr.anisekai.discord.tasks.broadcast.cancel.BroadcastCancelFactory;
 import fr.anisekai.discord.tasks.broadcast.schedule.BroadcastScheduleFactory;
 import fr.anisekai.server.domain.entities.Anime;
@@ -18,29 +23,39 @@ import fr.anisekai.server.domain.entities.Broadcast;
 import fr.anisekai.server.domain.enums.BroadcastStatus;
 import fr.anisekai.server.enums.BroadcastFrequency;
 import fr.anisekai.server.planifier.BookedSpot;
+import fr.anisekai.server.planifier.BroadcastSchedule;
+import fr.anisekai.server.planifier.PlannedBroadcast;
 import fr.anisekai.server.repositories.BroadcastRepository;
+import jakarta.annotation.PostConstruct;
 import net.dv8tion.jda.api.entities.ScheduledEvent;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 public class BroadcastService extends AnisekaiService<Broadcast, Long, BroadcastRepository> {
 
+    private final static Logger LOGGER = LoggerFactory.getLogger(BroadcastService.class);
+
     public final static List<BroadcastStatus> ACTIVE_STATUSES = Arrays.asList(
             BroadcastStatus.SCHEDULED,
             BroadcastStatus.ACTIVE,
             BroadcastStatus.UNSCHEDULED
     );
 
-    private final TaskService taskService;
+    private final TaskService       taskService;
+    private final BroadcastSchedule broadcastSchedule = new BroadcastSchedule(ACTIVE_STATUSES);
 
     public BroadcastService(BroadcastRepository repository, EntityEventProcessor eventProcessor, TaskService taskService) {
 
@@ -48,21 +63,73 @@ public class BroadcastService extends AnisekaiService<Broadcast, Long, Broadcast
         this.taskService = taskService;
     }
 
+    @PostConstruct
+    private void loadSchedule() {
+
+        this.reconcileSchedule();
+        LOGGER.info("Loaded {} active broadcast(s) in the schedule.", this.broadcastSchedule.size());
+    }
+
+    /**
+     * Compare the in-memory {@link BroadcastSchedule} with the database, and fix it if needed. Changes made through this
+     * service are applied once committed, so this is only a safety net for the ones it cannot see, such as bulk updates
+     * or changes made by another node.
+     */
+    @Scheduled(cron = "45 * * * * *")
+    public void reconcileSchedule() {
+
+        long marker = this.broadcastSchedule.mark();
+        List<BroadcastSchedule.Entry> snapshot = this.getRepository()
+                                                     .findAllByStatusIn(ACTIVE_STATUSES)
+                                                     .stream()
+                                                     .map(BroadcastSchedule.Entry::of)
+                                                     .toList();
+
+        int drift = this.broadcastSchedule.reconcile(marker, snapshot);
+        if (drift > 0) {
+            LOGGER.warn("Reconciled {} broadcast(s) that were out of sync with the database.", drift);
+        }
+    }
+
+    @EventListener
+    public void onBroadcastCreated(EntityCreatedEvent<Broadcast> event) {
+
+        this.afterCommit(() -> this.broadcastSchedule.put(event.getEntity()));
+    }
+
+    @EventListener
+    public void onBroadcastModified(EntityModifiedEvent<Broadcast> event) {
+
+        this.afterCommit(() -> this.broadcastSchedule.put(event.getEntity()));
+    }
+
+    @EventListener
+    public void onBroadcastDeleted(EntityDeletedEvent<Broadcast> event) {
+
+        long id = event.getEntity().getId();
+        this.afterCommit(() -> this.broadcastSchedule.remove(id));
+    }
+
     public boolean hasPreviousScheduled(ScheduleSpotData<Anime> broadcast) {
 
-        return this.getRepository()
-                   .countPreviousOf(
-                           broadcast.getWatchTarget().getId(),
-                           broadcast.getStartingAt(),
-                           ACTIVE_STATUSES
-                   ) > 0;
+        return this.broadcastSchedule.hasPrevious(broadcast.getWatchTarget(), broadcast.getStartingAt());
     }
 
-    private Scheduler<Anime, Broadcast, Long> createScheduler() {
+    /**
+     * Retrieve the current version of the schedule. It never blocks nor changes, and can be freely shared between
+     * threads: see {@link BroadcastSchedule#getScheduler()}.
+     *
+     * @return A read-only {@link SchedulePlanner}.
+     */
+    public SchedulePlanner<Anime, PlannedBroadcast, Long> getScheduler() {
+
+        return this.broadcastSchedule.getScheduler();
+    }
 
-        List<Broadcast> items = this.getRepository().findAllByStatusIn(ACTIVE_STATUSES);
+    public List<Instant> findAvailableSlots(Anime anime, int amount, Instant after, Instant before, Duration step, int limit) {
 
-        return new EventScheduler<>(items, Broadcast::getId);
+        Duration duration = new BookedSpot<>(anime, after, amount).getDuration();
+        return this.getScheduler().findAvailableSlots(anime, duration, after, before, step, limit);
     }
 
     @Transactional
@@ -74,53 +141,109 @@ public class BroadcastService extends AnisekaiService<Broadcast, Long, Broadcast
             throw new IllegalArgumentException("Unknown amount of episodes");
         }
 
+        List<ScheduleSpotData<Anime>> spots = new ArrayList<>();
+
         if (frequency.hasDateModifier()) {
-            List<Broadcast> scheduledBroadcasts = new ArrayList<>();
-            int             schedulable         = total - anime.getWatched();
-            Instant         spotTime            = starting;
+            int     schedulable = total - anime.getWatched();
+            Instant spotTime    = starting;
 
             while (schedulable > 0) {
-                // Recreate scheduler with current state for accurate conflict detection
-                Scheduler<Anime, Broadcast, Long> loopScheduler = this.createScheduler();
-                int                               spotAmount    = Math.min(schedulable, amount);
-                ScheduleSpotData<Anime> spot = new BookedSpot<>(
-                        anime,
-                        spotTime,
-                        spotAmount
-                );
-
-                if (!loopScheduler.canSchedule(spot)) {
-                    throw new NotSchedulableException();
-                }
-
-                SchedulingPlan<Long> plan   = loopScheduler.schedule(spot);
-                List<Broadcast>      result = this.applyPlan(plan);
-                scheduledBroadcasts.addAll(result);
+                int spotAmount = Math.min(schedulable, amount);
+                spots.add(new BookedSpot<>(anime, spotTime, spotAmount));
 
                 spotTime = frequency.getDateModifier().apply(spotTime);
                 schedulable -= spotAmount;
             }
-            return scheduledBroadcasts;
         } else {
-            Scheduler<Anime, Broadcast, Long> scheduler = this.createScheduler();
-            ScheduleSpotData<Anime>           spot      = new BookedSpot<>(anime, starting, amount);
-            SchedulingPlan<Long>              plan      = scheduler.schedule(spot);
-            return this.applyPlan(plan);
+            spots.add(new BookedSpot<>(anime, starting, amount));
         }
+
+        // Broadcasts created along the way are only saved at the end: until then, they are identified by a provisional
+        // negative id so that the following spots can still be merged into them.
+        List<PlannedBroadcast> created = new ArrayList<>();
+        Scheduler<Anime, PlannedBroadcast, Long> scheduler = new EventScheduler<>(
+                this.broadcastSchedule.getBroadcasts(),
+                PlannedBroadcast::getId
+        );
+
+        Map<Long, PlannedBroadcast> changed = new LinkedHashMap<>();
+        List<Long>                  deleted = new ArrayList<>();
+
+        for (ScheduleSpotData<Anime> spot : spots) {
+            if (frequency.hasDateModifier() && !scheduler.canSchedule(spot)) {
+                throw new NotSchedulableException();
+            }
+
+            SchedulingPlan<Long> plan = scheduler.schedule(spot);
+
+            for (SchedulingAction<Long> action : plan.getActions()) {
+                if (action instanceof SchedulingAction.DeleteAction<Long> deleteAction && deleteAction.targetId() > 0) {
+                    deleted.add(deleteAction.targetId());
+                }
+            }
+
+            List<PlannedBroadcast> applied = scheduler.apply(
+                    plan, planifiable -> {
+                        PlannedBroadcast broadcast = new PlannedBroadcast(-(created.size() + 1L), planifiable);
+                        created.add(broadcast);
+                        return broadcast;
+                    }
+            );
+
+            for (PlannedBroadcast broadcast : applied) {
+                changed.put(broadcast.getId(), broadcast);
+            }
+        }
+
+        // A broadcast may have been merged away by a later spot.
+        changed.values().removeIf(broadcast -> !scheduler.getState().contains(broadcast));
+
+        List<Broadcast>             entities = new ArrayList<>();
+        Map<Long, PlannedBroadcast> updated  = new HashMap<>();
+        for (PlannedBroadcast broadcast : changed.values()) {
+            if (broadcast.isProvisional()) {
+                entities.add(createBroadcast(broadcast, anime));
+            } else {
+                updated.put(broadcast.getId(), broadcast);
+            }
+        }
+
+        // Existing broadcasts were planned on detached copies: their changes are carried over to the managed entities.
+        if (!updated.isEmpty()) {
+            List<Broadcast> targets = this.getRepository().findAllById(updated.keySet());
+            if (targets.size() != updated.size()) {
+                throw new RequirementViolationException();
+            }
+
+            for (Broadcast entity : targets) {
+                PlannedBroadcast planned = updated.get(entity.getId());
+                entity.setStartingAt(planned.getStartingAt());
+                entity.setEpisodeCount(planned.getEpisodeCount());
+                entity.setFirstEpisode(planned.getFirstEpisode());
+                entities.add(entity);
+            }
+        }
+
+        List<Broadcast> saved = this.getRepository().saveAll(entities);
+        this.getRepository().deleteAllById(deleted);
+
+        this.afterCommit(() -> this.broadcastSchedule.update(saved, deleted));
+        return saved;
     }
 
     @Transactional
     public List<Broadcast> delay(Instant from, Duration interval, Duration delay) {
 
-        Scheduler<Anime, Broadcast, Long> scheduler = this.createScheduler();
-        SchedulingPlan<Long>              plan      = scheduler.delay(from, interval, delay);
+        SchedulingPlan<Long> plan = this.getScheduler().delay(from, interval, delay);
         return this.applyPlan(plan);
     }
 
     @Transactional
     public CalibrationResult calibrate() {
 
-        Scheduler<Anime, Broadcast, Long> scheduler = this.createScheduler();
+        // Calibration relies on the progress of each anime, which the schedule does not keep up to date.
+        List<Broadcast>                   items     = this.getRepository().findAllByStatusIn(ACTIVE_STATUSES);
+        Scheduler<Anime, Broadcast, Long> scheduler = new EventScheduler<>(items, Broadcast::getId);
         SchedulingPlan<Long>              plan      = scheduler.calibrate();
 
         this.applyPlan(plan);
@@ -141,9 +264,7 @@ public class BroadcastService extends AnisekaiService<Broadcast, Long, Broadcast
 
         List<Broadcast> broadcasts = this.getRepository().findAllByStatus(BroadcastStatus.SCHEDULED);
 
-        for (Broadcast broadcast : broadcasts) {
-            this.taskService.getFactory(BroadcastScheduleFactory.class).queue(broadcast);
-        }
+        this.taskService.getFactory(BroadcastScheduleFactory.class).queueAll(broadcasts);
         return broadcasts.size();
     }
 
@@ -213,30 +334,80 @@ public class BroadcastService extends AnisekaiService<Broadcast, Long, Broadcast
         return this.getRepository().findByEventId(event.getIdLong());
     }
 
+    /**
+     * Persist the provided {@link SchedulingPlan} in batch: the {@link Broadcast}s to update are loaded at once, updated
+     * in memory, and saved along with the new ones in a single call.
+     *
+     * @param plan
+     *         The {@link SchedulingPlan} to apply.
+     *
+     * @return The created and updated {@link Broadcast}s.
+     */
     private List<Broadcast> applyPlan(SchedulingPlan<Long> plan) {
 
-        List<Broadcast> results = new ArrayList<>();
-        for (SchedulingAction<Long> action : plan.getActions()) {
+        Map<Long, Consumer<Planifiable<?>>> updates  = new HashMap<>();
+        List<Long>                          deleted  = new ArrayList<>();
+        List<Broadcast>                     entities = new ArrayList<>();
+
+        for (SchedulingAction<Long> action : plan.compact().getActions()) {
             switch (action) {
                 case SchedulingAction.CreateAction<Long> createAction -> {
                     if (createAction.data() instanceof Planifiable<?> planifiable && planifiable.getWatchTarget() instanceof Anime anime) {
-                        Broadcast newBroadcast = createBroadcast(planifiable, anime);
-                        results.add(this.getRepository().save(newBroadcast));
+                        entities.add(createBroadcast(planifiable, anime));
                     }
                 }
-                case SchedulingAction.UpdateAction<Long> updateAction -> {
-                    Broadcast target = this.requireById(updateAction.targetId());
-                    updateAction.updateHook().accept(target);
-                    results.add(this.getRepository().save(target));
-                }
-                case SchedulingAction.DeleteAction<Long> deleteAction -> {
-                    this.getRepository().deleteById(deleteAction.targetId());
-                }
+                case SchedulingAction.UpdateAction<Long> updateAction -> updates.put(
+                        updateAction.targetId(),
+                        updateAction.updateHook()
+                );
+                case SchedulingAction.DeleteAction<Long> deleteAction -> deleted.add(deleteAction.targetId());
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            List<Broadcast> targets = this.getRepository().findAllById(updates.keySet());
+            if (targets.size() != updates.size()) {
+                throw new RequirementViolationException();
+            }
+
+            for (Broadcast target : targets) {
+                updates.get(target.getId()).accept(target);
+                entities.add(target);
             }
         }
+
+        List<Broadcast> results = entities.isEmpty() ? List.of() : this.getRepository().saveAll(entities);
+        if (!deleted.isEmpty()) {
+            this.getRepository().deleteAllById(deleted);
+        }
+
+        this.afterCommit(() -> this.broadcastSchedule.update(results, deleted));
         return results;
     }
 
+    /**
+     * Run the provided {@link Runnable} once the running transaction has been committed, or right away if no
+     * transaction is running. The {@link BroadcastSchedule} never sees changes that could still be rolled back.
+     *
+     * @param action
+     *         The {@link Runnable} to run.
+     */
+    private void afterCommit(Runnable action) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+
+                    action.run();
+                }
+            });
+            return;
+        }
+
+        action.run();
+    }
+
     private static @NotNull Broadcast createBroadcast(@NotNull Planifiable<?> planifiable, @NotNull Anime anime) {
 
         Broadcast broadcast = new Broadcast();
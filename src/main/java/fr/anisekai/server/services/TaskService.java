@@ -1,6 +1,8 @@
 package fr.anisekai.server.services;
 
+import fr.anisekai.ApplicationConfiguration;
 import fr.anisekai.core.annotations.FatalTask;
+import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.core.internal.json.exceptions.JSONValidationException;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 import fr.anisekai.core.persistence.AnisekaiService;
@@ -11,54 +13,111 @@ import fr.anisekai.server.enums.TaskPipeline;
 import fr.anisekai.server.exceptions.task.FactoryAlreadyRegisteredException;
 import fr.anisekai.server.exceptions.task.FactoryNotFoundException;
 import fr.anisekai.server.repositories.TaskRepository;
+import fr.anisekai.server.tasking.TaskArgumentCodec;
+import fr.anisekai.server.tasking.TaskArguments;
+import fr.anisekai.server.tasking.TaskBackoff;
+import fr.anisekai.server.tasking.TaskBuckets;
 import fr.anisekai.server.tasking.TaskBuilder;
+import fr.anisekai.server.tasking.TaskDebouncer;
+import fr.anisekai.server.tasking.TaskDeduplicator;
+import fr.anisekai.server.tasking.TaskDispatcher;
+import fr.anisekai.server.tasking.TaskExecution;
 import fr.anisekai.server.tasking.TaskExecutor;
 import fr.anisekai.server.tasking.TaskFactory;
+import fr.anisekai.server.tasking.TaskFactoryRegistry;
+import fr.anisekai.server.tasking.TaskMetrics;
+import fr.anisekai.server.tasking.TaskProgress;
+import fr.anisekai.server.tasking.TaskReadyQueue;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.sentry.Sentry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
 
-    private final static Logger LOGGER           = LoggerFactory.getLogger(TaskService.class);
-    private final static int    MAX_TASK_FAILURE = 3;
-
-    private final Map<TaskPipeline, Collection<TaskFactory<?>>> factoryPipelines = new HashMap<>();
-
-    public TaskService(TaskRepository repository, EntityEventProcessor eventProcessor) {
+    private final static Logger   LOGGER           = LoggerFactory.getLogger(TaskService.class);
+    private final static int      MAX_TASK_FAILURE = 3;
+    private final static Duration LEASE_DURATION   = Duration.ofMinutes(2);
+    private final static int      BUCKET_CAPACITY  = 1;
+
+    private final TaskFactoryRegistry                           registry         = new TaskFactoryRegistry();
+    private final Map<TaskPipeline, TaskDispatcher>             dispatchers      = new EnumMap<>(TaskPipeline.class);
+    private final TaskDebouncer                                 debouncer        = new TaskDebouncer(this::flush);
+    private final ScheduledExecutorService                      timer            = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-timer").factory()
+    );
+    private final Map<Long, TaskExecution>                      executions       = new ConcurrentHashMap<>();
+    private final TaskBuckets                                   buckets          = new TaskBuckets(BUCKET_CAPACITY);
+    private final Map<TaskPipeline, TaskReadyQueue>             readyQueues      = new EnumMap<>(TaskPipeline.class);
+    private final Set<TaskPipeline>                             staleQueues      = ConcurrentHashMap.newKeySet();
+    private final String                                        nodeId;
+    private final Duration                                      aging;
+    private final TaskMetrics                                   metrics;
+    private final TransactionTemplate                           transaction;
+
+    public TaskService(TaskRepository repository, EntityEventProcessor eventProcessor, ApplicationConfiguration configuration, MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
 
         super(repository, eventProcessor);
+
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        this.nodeId  = Optional.ofNullable(configuration.getTasking().getNodeId())
+                               .filter(id -> !id.isBlank())
+                               .orElseGet(() -> UUID.randomUUID().toString());
+        this.aging   = configuration.getTasking().getAging();
+        this.metrics = new TaskMetrics(meterRegistry);
+
+        for (TaskPipeline pipeline : TaskPipeline.values()) {
+            int            concurrency = configuration.getTasking().getConcurrency(pipeline);
+            boolean        virtual     = configuration.getTasking().isVirtual(pipeline);
+            TaskDispatcher dispatcher  = new TaskDispatcher(pipeline, concurrency, virtual, this::claim, this::execute);
+            this.dispatchers.put(pipeline, dispatcher);
+            this.metrics.monitor(dispatcher);
+
+            TaskReadyQueue queue = new TaskReadyQueue(this::findRateBucket);
+            this.readyQueues.put(pipeline, queue);
+            this.metrics.monitor(pipeline, queue);
+            this.staleQueues.add(pipeline);
+        }
     }
 
     /**
-     * Register the {@link TaskFactory} into this {@link TaskService}. {@link TaskPipeline}s.
+     * Register the {@link TaskFactory} into this {@link TaskService}. {@link TaskPipeline}s. This must happen while the
+     * application starts, as the registry is frozen once it is ready.
      *
      * @param pipeline
      *         The {@link TaskPipeline} into which the {@link TaskFactory} will be registered.
      * @param factory
      *         The {@link TaskFactory} to register.
+     *
+     * @throws FactoryAlreadyRegisteredException
+     *         If the {@link TaskFactory}, or another one with the same name, has already been registered.
      */
     public void registerFactory(@NotNull TaskPipeline pipeline, @NotNull TaskFactory<?> factory) {
 
-        if (!this.factoryPipelines.containsKey(pipeline)) {
-            this.factoryPipelines.put(pipeline, new HashSet<>());
-        }
-
-        for (Map.Entry<TaskPipeline, Collection<TaskFactory<?>>> entry : this.factoryPipelines.entrySet()) {
-            if (entry.getValue().contains(factory)) {
-                throw new FactoryAlreadyRegisteredException(entry.getKey(), factory);
-            }
-        }
-
-        this.factoryPipelines.get(pipeline).add(factory);
+        this.registry.register(pipeline, factory);
+        // Scheduled tasks of this factory were not loaded yet.
+        this.staleQueues.add(pipeline);
     }
 
     /**
@@ -73,15 +132,11 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
      */
     public <T extends TaskFactory<?>> T getFactory(@NotNull Class<T> factoryClass) {
 
-        return this
-                .factoryPipelines
-                .values()
-                .stream()
-                .flatMap(Collection::stream)
-                .filter(factoryClass::isInstance)
-                .map(factoryClass::cast)
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Tried to retrieve an unregistered factory " + factoryClass.getName()));
+        T factory = this.registry.getByClass(factoryClass);
+        if (factory == null) {
+            throw new IllegalArgumentException("Tried to retrieve an unregistered factory " + factoryClass.getName());
+        }
+        return factory;
     }
 
     /**
@@ -97,6 +152,43 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
             task.setStatus(TaskStatus.CANCELED);
         }
         this.getRepository().saveAll(tasks);
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        this.readyQueues.values().forEach(queue -> queue.removeAll(ids));
+        this.cancelDependents(ids);
+    }
+
+    /**
+     * Cancel the {@link Task} with the provided id, whether it is still scheduled or already executing. An executing
+     * {@link Task} is interrupted by the node running it, which also stops any external process it was waiting on.
+     *
+     * @param id
+     *         The id of the {@link Task} to cancel.
+     *
+     * @return True if the {@link Task} has been canceled, false if it was neither scheduled nor executing.
+     */
+    public boolean cancel(long id) {
+
+        int canceled = this.getRepository().cancel(
+                id,
+                List.of(TaskStatus.SCHEDULED, TaskStatus.EXECUTING),
+                TaskStatus.CANCELED,
+                Instant.now()
+        );
+
+        if (canceled == 0) {
+            return false;
+        }
+
+        this.readyQueues.values().forEach(queue -> queue.remove(id));
+        this.cancelDependents(List.of(id));
+
+        // Executions on other nodes are interrupted by their own supervision.
+        TaskExecution execution = this.executions.get(id);
+        if (execution != null && execution.interrupt(TaskExecution.Interruption.CANCELED)) {
+            LOGGER.info("[{}] Execution canceled.", execution.getTask().getName());
+        }
+        return true;
     }
 
     /**
@@ -125,112 +217,581 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
         return this.find(name).isPresent();
     }
 
+    /**
+     * Retrieve every {@link Task} currently being executed, by any node.
+     *
+     * @return A {@link List} of {@link Task}.
+     */
+    public List<Task> getExecuting() {
+
+        return this.getRepository().findAllByStatus(TaskStatus.EXECUTING);
+    }
+
+    /**
+     * Retrieve the latest progress reported by the provided {@link Task}. If this node is executing it, the in-memory
+     * progress is used, otherwise the last progress stored by the node executing it is used.
+     *
+     * @param task
+     *         The {@link Task}.
+     *
+     * @return An optional {@link TaskProgress.Snapshot}, empty if the {@link Task} did not report any progress.
+     */
+    public Optional<TaskProgress.Snapshot> getProgress(Task task) {
+
+        TaskExecution execution = this.executions.get(task.getId());
+        if (execution != null) {
+            Optional<TaskProgress.Snapshot> snapshot = execution.getProgress().getSnapshot();
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        }
+
+        if (task.getProgress() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new TaskProgress.Snapshot(
+                task.getProgress(),
+                task.getProgressMessage(),
+                task.getEstimatedEndAt(),
+                task.getProgressUpdatedAt()
+        ));
+    }
+
     /**
      * Create a new {@link Task} and queue it.
      *
      * @param builder
      *         The {@link TaskBuilder} to use to create the {@link Task}.
      *
-     * @return The queued {@link Task}, or {@code null} if nothing has been queued.
+     * @return The queued {@link Task}, or {@code null} if nothing has been queued yet because its {@link TaskFactory} is
+     *         debounced.
      */
     public Task queue(TaskBuilder builder) {
 
-        boolean isFactoryRegistered = this.factoryPipelines
-                .values()
-                .stream()
-                .anyMatch(pipeline -> pipeline.contains(builder.getFactory()));
+        return this.queueAll(List.of(builder)).getFirst();
+    }
+
+    /**
+     * Create new {@link Task}s and queue them. Duplicated {@link Task}s are resolved with a single lookup, and every
+     * created or updated {@link Task} is saved at once.
+     * <p>
+     * {@link TaskBuilder}s of a {@link TaskFactory} with a {@link TaskFactory#debounce()} window are held back and
+     * queued once the window ends.
+     *
+     * @param builders
+     *         The {@link TaskBuilder}s to use to create the {@link Task}s.
+     *
+     * @return The queued {@link Task}s, in the same order as the provided {@link TaskBuilder}s. Debounced
+     *         {@link TaskBuilder}s are represented by {@code null}.
+     */
+    public List<Task> queueAll(Collection<TaskBuilder> builders) {
+
+        // Programmatic, as queue() calls it from within this class where @Transactional would be bypassed.
+        return this.transaction.execute(status -> this.submit(builders));
+    }
+
+    private List<Task> submit(Collection<TaskBuilder> builders) {
+
+        List<TaskBuilder> immediate = new ArrayList<>();
 
-        if (!isFactoryRegistered) { // Safeguard, just in case we forgot to call registerFactory()
-            throw new IllegalStateException("Tried to register a task on a unregistered factory " + builder.getName());
+        for (TaskBuilder builder : builders) {
+            // Fail now rather than once the window ends or the parent succeeds.
+            this.checkQueueable(builder);
+
+            if (TaskDebouncer.isDebounced(builder)) {
+                this.debouncer.submit(builder);
+            } else {
+                immediate.add(builder);
+            }
         }
 
-        // This allows any task to inherit their own priority on subtasks if necessary.
-        builder.getArgs().put(TaskExecutor.OPTION_PRIORITY, builder.getPriority());
+        if (immediate.size() == builders.size()) {
+            return this.enqueue(immediate);
+        }
 
-        if (!builder.getFactory().allowDuplicated()) {
-            Optional<Task> optionalTask = this.find(builder.getName());
-            if (optionalTask.isPresent()) {
-                Task task = optionalTask.get();
+        Iterator<Task> queued = this.enqueue(immediate).iterator();
+        return builders.stream()
+                       .map(builder -> TaskDebouncer.isDebounced(builder) ? null : queued.next())
+                       .toList();
+    }
+
+    /**
+     * Queue the {@link TaskBuilder}s whose debounce window has ended, in their own transaction as the
+     * {@link TaskDebouncer} calls it from its timer thread.
+     *
+     * @param builders
+     *         The {@link TaskBuilder}s to queue.
+     */
+    private void flush(Collection<TaskBuilder> builders) {
+
+        this.transaction.executeWithoutResult(status -> this.enqueue(builders));
+    }
+
+    private List<Task> enqueue(Collection<TaskBuilder> builders) {
+
+        if (builders.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        for (TaskBuilder builder : builders) {
+            // This allows any task to inherit their own priority on subtasks if necessary.
+            builder.getArgs().put(TaskExecutor.OPTION_PRIORITY, builder.getPriority());
+        }
+
+        Set<String> names = TaskDeduplicator.getLookupNames(builders);
+        List<Task> scheduled = names.isEmpty()
+                ? Collections.emptyList()
+                : this.getRepository().findAllByNameInAndStatus(names, TaskStatus.SCHEDULED);
+
+        TaskDeduplicator deduplicator = new TaskDeduplicator(scheduled);
+        List<Task>       queued       = builders.stream().map(deduplicator::offer).toList();
+        List<Task>       pending      = deduplicator.getPending();
+        Map<Task, Task>  managed      = new IdentityHashMap<>();
+
+        if (!pending.isEmpty()) {
+            this.resolveParents(pending);
+
+            List<Task> saved = this.getRepository().saveAll(pending);
+            for (int i = 0; i < pending.size(); i++) {
+                managed.put(pending.get(i), saved.get(i));
+            }
 
-                if (task.getPriority() >= builder.getPriority()) {
-                    LOGGER.debug(
-                            "Queuing of task '{}' dropped: The task already exists with a higher priority.",
-                            builder.getName()
-                    );
-                    return task;
+            for (Task task : saved) {
+                if (task.getStatus() == TaskStatus.SCHEDULED) {
+                    this.ready(task);
                 }
+            }
+        }
 
-                LOGGER.info(
-                        "Updating task '{}' priority from {} to {}",
-                        task.getName(),
-                        task.getPriority(),
-                        builder.getPriority()
-                );
+        List<Task>            result     = queued.stream().map(task -> managed.getOrDefault(task, task)).toList();
+        List<TaskBuilder>     dependents = new ArrayList<>();
+        Iterator<TaskBuilder> iterator   = builders.iterator();
 
-                task.setPriority(builder.getPriority());
-                return this.getRepository().save(task);
+        for (Task task : result) {
+            for (TaskBuilder dependent : iterator.next().getDependents()) {
+                dependents.add(dependent.dependsOn(task));
             }
         }
 
-        LOGGER.info("Queuing task '{}' with a priority of {}.", builder.getName(), builder.getPriority());
-        LOGGER.debug(" :: Arguments = {}", builder.getArgs());
+        this.enqueue(dependents);
+        return result;
+    }
 
-        return this.getRepository().save(builder.build());
+    /**
+     * Update the status of every waiting {@link Task} according to the status of the {@link Task} it depends on: it is
+     * scheduled right away if its parent already succeeded, and canceled if its parent will never succeed.
+     *
+     * @param tasks
+     *         The {@link Task}s about to be saved.
+     */
+    private void resolveParents(Collection<Task> tasks) {
+
+        Set<Long> parentIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getStatus() == TaskStatus.WAITING) {
+                parentIds.add(task.getParentId());
+            }
+        }
+
+        if (parentIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, TaskStatus> statuses = new HashMap<>();
+        for (Task parent : this.getRepository().findAllById(parentIds)) {
+            statuses.put(parent.getId(), parent.getStatus());
+        }
+
+        for (Task task : tasks) {
+            if (task.getStatus() != TaskStatus.WAITING) {
+                continue;
+            }
+
+            TaskStatus parentStatus = statuses.get(task.getParentId());
+            if (parentStatus == null) {
+                throw new IllegalStateException("Tried to queue a task depending on an unknown task " + task.getParentId());
+            }
+
+            switch (parentStatus) {
+                case SUCCEEDED -> task.setStatus(TaskStatus.SCHEDULED);
+                case FAILED, CANCELED -> {
+                    task.setStatus(TaskStatus.CANCELED);
+                    task.setCompletedAt(Instant.now());
+                }
+                default -> {
+                    // The parent is still pending, the task will be released once it succeeds.
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedule every {@link Task} waiting for the provided {@link Task}, which just succeeded.
+     *
+     * @param parent
+     *         The {@link Task} that succeeded.
+     */
+    private void releaseDependents(Task parent) {
+
+        int released = this.getRepository().releaseDependents(parent.getId(), TaskStatus.WAITING, TaskStatus.SCHEDULED);
+
+        if (released > 0) {
+            LOGGER.info("[{}] Released {} dependent task(s).", parent.getName(), released);
+            for (Object[] row : this.getRepository().findReadyByParent(parent.getId(), TaskStatus.SCHEDULED)) {
+                TaskReadyQueue.Entry entry = asReadyEntry(row);
+                this.findPipeline(entry.factoryName()).ifPresent(pipeline -> this.readyQueues.get(pipeline).add(entry));
+            }
+            this.dispatchers.values().forEach(TaskDispatcher::wake);
+        }
+    }
+
+    /**
+     * Cancel every {@link Task} waiting, directly or not, for one of the provided {@link Task}s, as they will never
+     * succeed.
+     *
+     * @param parentIds
+     *         The ids of the {@link Task}s that failed or have been canceled.
+     */
+    private void cancelDependents(Collection<Long> parentIds) {
+
+        Collection<Long> parents = parentIds;
+
+        while (!parents.isEmpty()) {
+            List<Long> dependents = this.getRepository().findIdsByParentIn(parents, TaskStatus.WAITING);
+            if (dependents.isEmpty()) {
+                return;
+            }
+
+            int canceled = this.getRepository().cancelWaiting(dependents, TaskStatus.WAITING, TaskStatus.CANCELED, Instant.now());
+            LOGGER.info("Canceled {} task(s) depending on a task that will never succeed.", canceled);
+            parents = dependents;
+        }
+    }
+
+    private void checkQueueable(TaskBuilder builder) {
+
+        this.getPipeline(builder);
+        builder.getFactory().getArgumentCodec().read(builder.getArgs());
+        builder.getDependents().forEach(this::checkQueueable);
+    }
+
+    /**
+     * Retrieve the {@link TaskPipeline} into which the {@link TaskFactory} of the provided {@link TaskBuilder} has been
+     * registered.
+     *
+     * @param builder
+     *         The {@link TaskBuilder} for which the {@link TaskPipeline} must be retrieved.
+     *
+     * @return A {@link TaskPipeline}.
+     */
+    private TaskPipeline getPipeline(TaskBuilder builder) {
+
+        return this.getPipeline(builder.getFactory());
+    }
+
+    /**
+     * Retrieve the {@link TaskPipeline} into which the provided {@link TaskFactory} has been registered.
+     *
+     * @param factory
+     *         The {@link TaskFactory} for which the {@link TaskPipeline} must be retrieved.
+     *
+     * @return A {@link TaskPipeline}.
+     */
+    private TaskPipeline getPipeline(TaskFactory<?> factory) {
+
+        TaskPipeline pipeline = this.registry.getPipeline(factory);
+        if (pipeline == null) {
+            // Safeguard, just in case we forgot to call registerFactory()
+            throw new IllegalStateException("Tried to register a task on a unregistered factory " + factory.getName());
+        }
+        return pipeline;
+    }
+
+    /**
+     * Wake the {@link TaskDispatcher} of the provided {@link TaskPipeline} up. If a transaction is running, the
+     * dispatcher will only be woken up once it has been committed, as the queued {@link Task} would not be visible to
+     * its workers before that.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} to wake up.
+     */
+    private void signal(TaskPipeline pipeline) {
+
+        this.afterCommit(this.dispatchers.get(pipeline)::wake);
     }
 
-    @Scheduled(cron = "0 * * * * *")
-    private void executeHeavy() {
+    /**
+     * Run the provided {@link Runnable} once the running transaction has been committed, or right away if no
+     * transaction is running.
+     *
+     * @param action
+     *         The {@link Runnable} to run.
+     */
+    private void afterCommit(Runnable action) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+
+                    action.run();
+                }
+            });
+            return;
+        }
 
-        this.runPipeline(TaskPipeline.HEAVY);
+        action.run();
     }
 
-    @Scheduled(cron = "0/5 * * * * *")
-    private void executeSoft() {
+    /**
+     * Add the provided scheduled {@link Task} to the {@link TaskReadyQueue} of its {@link TaskPipeline}, and wake the
+     * {@link TaskDispatcher} up once it can be executed. Both only happen once the running transaction, if any, has
+     * been committed.
+     *
+     * @param task
+     *         The {@link Task} that has been scheduled.
+     */
+    private void ready(Task task) {
+
+        TaskFactory<?>       factory = this.getTaskFactory(task);
+        TaskReadyQueue       queue   = this.readyQueues.get(this.getPipeline(factory));
+        TaskReadyQueue.Entry entry   = TaskReadyQueue.Entry.of(task);
 
-        this.runPipeline(TaskPipeline.SOFT);
+        this.afterCommit(() -> queue.add(entry));
+        this.signal(factory, task.getNextAttemptAt());
     }
 
-    @Scheduled(cron = "0/5 * * * * *")
-    private void executeMessaging() {
+    /**
+     * Wake the {@link TaskDispatcher} handling the provided {@link TaskFactory} up once the provided {@link Instant} has
+     * been reached.
+     *
+     * @param factory
+     *         The {@link TaskFactory} of the {@link Task} waiting to be executed.
+     * @param at
+     *         The {@link Instant} from which the {@link Task} can be executed, or {@code null} if it can be executed
+     *         right away.
+     */
+    private void signal(TaskFactory<?> factory, Instant at) {
+
+        TaskPipeline pipeline = this.getPipeline(factory);
+        long         delay    = at == null ? 0 : Duration.between(Instant.now(), at).toMillis();
+
+        if (delay <= 0) {
+            this.signal(pipeline);
+            return;
+        }
 
-        this.runPipeline(TaskPipeline.MESSAGING);
+        this.wakeAt(pipeline, at);
+    }
+
+    /**
+     * Wake the {@link TaskDispatcher} of the provided {@link TaskPipeline} up once the provided {@link Instant} has been
+     * reached.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} to wake up.
+     * @param at
+     *         The {@link Instant} at which the {@link TaskDispatcher} should be woken up.
+     */
+    private void wakeAt(TaskPipeline pipeline, Instant at) {
+
+        long delay = Math.max(0, Duration.between(Instant.now(), at).toMillis());
+        this.timer.schedule(() -> this.dispatchers.get(pipeline).wake(), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Safety net reconciling every {@link TaskReadyQueue} with the database and waking every pipeline up, in case a
+     * {@link Task} has been inserted without going through {@link #queue(TaskBuilder)}, for example by another node, or
+     * a wake-up has been missed. {@link Task}s going through this node never wait for it, hence the long interval.
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    private void pollPipelines() {
+
+        this.staleQueues.addAll(this.readyQueues.keySet());
+        this.dispatchers.values().forEach(TaskDispatcher::wake);
     }
 
     @PostConstruct
     private void controlData() {
 
-        List<Task> tasks = this.getRepository().findAllByStatus(TaskStatus.EXECUTING);
+        LOGGER.info("Running tasks as node '{}'.", this.nodeId);
 
-        for (Task task : tasks) {
-            LOGGER.warn("Task {} was still running when the application stopped.", task.getId());
-            task.setStatus(TaskStatus.SCHEDULED);
+        // A stable node id means that whatever this node was running before stopping is not running anymore.
+        int owned = this.getRepository().reclaimOwned(TaskStatus.EXECUTING, TaskStatus.SCHEDULED, this.nodeId);
+        if (owned > 0) {
+            LOGGER.warn("{} task(s) were still running when the application stopped.", owned);
+            this.staleQueues.addAll(this.readyQueues.keySet());
         }
 
-        this.getRepository().saveAll(tasks);
+        this.reclaimExpiredLeases();
+    }
+
+    /**
+     * Extend the lease of every {@link Task} currently executed by this node, so other nodes know they are still
+     * running.
+     */
+    @Scheduled(fixedRate = 30_000)
+    private void renewLeases() {
+
+        if (this.executions.isEmpty()) {
+            return;
+        }
+
+        Instant expiresAt = Instant.now().plus(LEASE_DURATION);
+        int renewed = this.getRepository().renewLeases(
+                List.copyOf(this.executions.keySet()),
+                TaskStatus.EXECUTING,
+                this.nodeId,
+                expiresAt
+        );
+
+        LOGGER.debug("Renewed {} task lease(s) until {}.", renewed, expiresAt);
+    }
+
+    /**
+     * Interrupt every {@link Task} executed by this node that exceeded its deadline or has been canceled, possibly from
+     * another node.
+     */
+    @Scheduled(fixedRate = 5_000)
+    private void superviseExecutions() {
+
+        if (this.executions.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        for (TaskExecution execution : this.executions.values()) {
+            if (execution.isOverdue(now) && execution.interrupt(TaskExecution.Interruption.TIMEOUT)) {
+                LOGGER.warn("[{}] Execution exceeded its deadline, interrupting it.", execution.getTask().getName());
+            }
+        }
+
+        List<Long> canceled = this.getRepository().findIdsInStatus(
+                List.copyOf(this.executions.keySet()),
+                TaskStatus.CANCELED
+        );
+
+        for (Long id : canceled) {
+            TaskExecution execution = this.executions.get(id);
+            if (execution != null && execution.interrupt(TaskExecution.Interruption.CANCELED)) {
+                LOGGER.info("[{}] Execution canceled.", execution.getTask().getName());
+            }
+        }
+    }
+
+    /**
+     * Put back into the schedule every {@link Task} whose lease expired, meaning the node executing it has most likely
+     * died.
+     */
+    @Scheduled(cron = "30 * * * * *")
+    private void reclaimExpiredLeases() {
+
+        int reclaimed = this.getRepository().reclaimExpired(TaskStatus.EXECUTING, TaskStatus.SCHEDULED, Instant.now());
+
+        if (reclaimed > 0) {
+            LOGGER.warn("Reclaimed {} task(s) with an expired lease.", reclaimed);
+            this.staleQueues.addAll(this.readyQueues.keySet());
+            this.dispatchers.values().forEach(TaskDispatcher::wake);
+        }
+    }
+
+    /**
+     * Safety net resolving every waiting {@link Task} whose parent has completed, in case the parent completed while
+     * the dependent {@link Task} was being queued.
+     */
+    @Scheduled(cron = "15 * * * * *")
+    private void resolveDependencies() {
+
+        int released = this.getRepository().releaseWaiting(
+                TaskStatus.WAITING.name(),
+                TaskStatus.SUCCEEDED.name(),
+                TaskStatus.SCHEDULED.name()
+        );
+
+        // Canceled through the regular path, so the cancellation is dated and reaches every level of the chain.
+        List<Long> orphaned = this.getRepository().findParentIdsOfWaiting(
+                TaskStatus.WAITING,
+                List.of(TaskStatus.FAILED, TaskStatus.CANCELED)
+        );
+        this.cancelDependents(orphaned);
+
+        if (released > 0 || !orphaned.isEmpty()) {
+            LOGGER.warn("Released {} dependent task(s) and canceled the dependents of {} unsuccessful task(s).", released, orphaned.size());
+        }
+
+        if (released > 0) {
+            this.staleQueues.addAll(this.readyQueues.keySet());
+            this.dispatchers.values().forEach(TaskDispatcher::wake);
+        }
     }
 
     /**
-     * Find the next {@link Task} to execute in the provided {@link TaskPipeline}.
+     * Freeze the {@link TaskFactory} registry, as every {@link TaskFactory} registered itself while the application was
+     * starting, and wake every pipeline up so the {@link Task}s left over by the previous run are loaded and executed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void freezeFactories() {
+
+        this.registry.freeze();
+        LOGGER.info("Task factory registry frozen.");
+
+        this.dispatchers.values().forEach(TaskDispatcher::wake);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+
+        this.debouncer.close();
+        this.timer.shutdownNow();
+        this.dispatchers.values().forEach(TaskDispatcher::close);
+    }
+
+    /**
+     * Reload the {@link TaskReadyQueue} of the provided {@link TaskPipeline} from the database. Only the ordering data of
+     * each scheduled {@link Task} is loaded.
      *
      * @param pipeline
-     *         The {@link TaskPipeline} into which the next {@link Task} will be retrieved.
-     *
-     * @return An {@link Optional} {@link Task}.
+     *         The {@link TaskPipeline} to reload.
      */
-    private Optional<Task> findNextTask(TaskPipeline pipeline) {
+    private void refresh(TaskPipeline pipeline) {
 
-        Collection<TaskFactory<?>> factories = this.factoryPipelines
-                .getOrDefault(pipeline, Collections.emptyList())
-                .stream()
-                .toList();
+        TaskReadyQueue queue  = this.readyQueues.get(pipeline);
+        long           marker = queue.mark();
 
-        if (factories.isEmpty()) {
-            return Optional.empty();
-        }
+        List<String> factoryNames = this.registry.getFactoryNames(pipeline);
 
-        Collection<String> factoryNames = factories.stream().map(TaskFactory::getName).toList();
+        List<TaskReadyQueue.Entry> snapshot = factoryNames.isEmpty()
+                ? Collections.emptyList()
+                : this.getRepository()
+                      .findReadyOf(TaskStatus.SCHEDULED, factoryNames)
+                      .stream()
+                      .map(TaskService::asReadyEntry)
+                      .toList();
+
+        queue.reconcile(marker, snapshot);
+        LOGGER.debug("Loaded {} scheduled task(s) for pipeline {}.", queue.size(), pipeline);
+
+        // Delayed tasks that were not queued through this node have no wake-up planned yet.
+        queue.findNextReadySince(Instant.now()).ifPresent(at -> this.wakeAt(pipeline, at));
+    }
+
+    private static TaskReadyQueue.Entry asReadyEntry(Object[] row) {
+
+        return new TaskReadyQueue.Entry((Long) row[0], (String) row[1], (Byte) row[2], (Instant) row[3]);
+    }
+
+    /**
+     * Find the {@link TaskPipeline} into which the {@link TaskFactory} with the provided name has been registered.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory}.
+     *
+     * @return An optional {@link TaskPipeline}, empty if no {@link TaskFactory} matches the name.
+     */
+    private Optional<TaskPipeline> findPipeline(String factoryName) {
 
-        return this.getRepository().findNextOf(TaskStatus.SCHEDULED, factoryNames);
+        return Optional.ofNullable(this.registry.getPipeline(factoryName));
     }
 
     /**
@@ -243,47 +804,165 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
      */
     private @NotNull TaskFactory<?> getTaskFactory(Task task) {
 
-        String factoryName = task.getFactoryName();
+        return this.findTaskFactory(task.getFactoryName()).orElseThrow(() -> new FactoryNotFoundException(task));
+    }
 
-        return this.factoryPipelines
-                .values()
-                .stream()
-                .flatMap(Collection::stream)
-                .filter(factory -> factory.getName().equals(factoryName))
-                .findAny()
-                .orElseThrow(() -> new FactoryNotFoundException(task));
+    /**
+     * Find the {@link TaskFactory} with the provided name.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory}.
+     *
+     * @return An optional {@link TaskFactory}, empty if no {@link TaskFactory} matches the name.
+     */
+    private Optional<TaskFactory<?>> findTaskFactory(String factoryName) {
+
+        return Optional.ofNullable(this.registry.getByName(factoryName));
+    }
+
+    /**
+     * Find the rate bucket targeted by the {@link TaskFactory} with the provided name.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory}.
+     *
+     * @return The rate bucket, or {@code null} if the {@link TaskFactory} does not target any.
+     */
+    private String findRateBucket(String factoryName) {
+
+        return this.findTaskFactory(factoryName).map(TaskFactory::rateBucket).orElse(null);
     }
 
     /**
-     * Run the next {@link Task} found within the provided {@link TaskPipeline}. The method will return early if no task
-     * are waiting to be executed.
+     * Claim the next {@link Task} of the provided {@link TaskPipeline}, flagging it as executing so no other worker can
+     * pick it up.
      *
      * @param pipeline
-     *         The {@link TaskPipeline} from which the {@link Task} should be executed.
+     *         The {@link TaskPipeline} from which the {@link Task} should be claimed.
+     *
+     * @return An {@link Optional} {@link Task}, empty if no task are waiting to be executed.
+     */
+    private Optional<Task> claim(TaskPipeline pipeline) {
+
+        if (this.staleQueues.remove(pipeline)) {
+            this.refresh(pipeline);
+        }
+
+        TaskReadyQueue queue = this.readyQueues.get(pipeline);
+
+        while (true) {
+            Instant                        now       = Instant.now();
+            Optional<TaskReadyQueue.Entry> candidate = queue.poll(now, this.aging, this.buckets::isSaturated);
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+
+            TaskReadyQueue.Entry entry     = candidate.get();
+            String               bucket    = this.findRateBucket(entry.factoryName());
+            Instant              expiresAt = now.plus(LEASE_DURATION);
+
+            if (!this.buckets.tryAcquire(bucket)) {
+                // Another pipeline filled the bucket in the meantime, the next lookup will skip it.
+                queue.add(entry);
+                continue;
+            }
+
+            int claimed;
+            try {
+                claimed = this.getRepository().claim(
+                        entry.id(),
+                        TaskStatus.SCHEDULED,
+                        TaskStatus.EXECUTING,
+                        this.nodeId,
+                        now,
+                        expiresAt
+                );
+            } catch (RuntimeException e) {
+                this.buckets.release(bucket);
+                queue.add(entry);
+                throw e;
+            }
+
+            Optional<Task> optionalTask = claimed == 1 ? this.getRepository().findById(entry.id()) : Optional.empty();
+            if (optionalTask.isPresent()) {
+                Task task = optionalTask.get();
+                this.flagExecuting(task, now, expiresAt);
+                return Optional.of(task);
+            }
+
+            // The entry was stale: someone else claimed it first, it has been canceled or delayed.
+            LOGGER.debug("[{}] Task {} could not be claimed.", entry.factoryName(), entry.id());
+            this.releaseBucket(bucket);
+            this.getRepository()
+                .findReadyByIdIn(List.of(entry.id()), TaskStatus.SCHEDULED)
+                .stream()
+                .map(TaskService::asReadyEntry)
+                .filter(fresh -> !fresh.equals(entry))
+                .forEach(queue::add);
+        }
+    }
+
+    /**
+     * Run the provided {@link Task}, which must have been claimed beforehand.
+     *
+     * @param task
+     *         The {@link Task} to execute.
+     */
+    private void execute(Task task) {
+
+        Duration timeout = this.findTaskFactory(task.getFactoryName())
+                               .map(TaskFactory::timeout)
+                               .orElse(Duration.ZERO);
+
+        TaskExecution execution = new TaskExecution(task, timeout, snapshot -> this.publishProgress(task, snapshot));
+        this.executions.put(task.getId(), execution);
+
+        try {
+            this.run(execution);
+        } finally {
+            execution.finish();
+            this.executions.remove(task.getId());
+            this.findTaskFactory(task.getFactoryName()).ifPresent(factory -> this.releaseBucket(factory.rateBucket()));
+        }
+    }
+
+    /**
+     * Release a slot of the provided rate bucket, waking up every {@link TaskPipeline} targeting it if some
+     * {@link Task} had to be skipped while it was saturated.
+     *
+     * @param bucket
+     *         The rate bucket to release, or {@code null} if the {@link Task} did not target any.
      */
-    private void runPipeline(TaskPipeline pipeline) {
+    private void releaseBucket(String bucket) {
 
-        Optional<Task> optionalTask = this.findNextTask(pipeline);
-        if (optionalTask.isEmpty()) {
+        if (!this.buckets.release(bucket)) {
             return;
         }
 
-        Task task = optionalTask.get();
+        for (TaskPipeline pipeline : this.registry.getPipelinesOfBucket(bucket)) {
+            this.dispatchers.get(pipeline).wake();
+        }
+    }
+
+    private void run(TaskExecution execution) {
+
+        Task task  = execution.getTask();
+        long start = System.nanoTime();
 
         try (ITimedAction timer = ITimedAction.create()) {
             timer.open("task", task.getFactoryName(), "Execution of the task");
 
-            this.flagExecuting(task);
-
             try {
                 timer.action("prepare", "Perform basic task checks");
-                TaskExecutor executor = this.getTaskFactory(task).create();
-                executor.validateParams(task.getArguments());
+                TaskFactory<?> factory   = this.getTaskFactory(task);
+                TaskArguments  arguments = this.readArguments(factory, task);
+                TaskExecutor   executor  = factory.create();
+                execution.attach(executor);
                 timer.endAction();
 
                 timer.action("exec", "Run the queued task");
                 LOGGER.debug("[{}] Executing task...", task.getName());
-                executor.execute(timer, task.getArguments());
+                executor.execute(timer, arguments);
                 LOGGER.debug("[{}] Done.", task.getName());
                 timer.endAction();
 
@@ -291,42 +970,133 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
 
             } catch (Exception e) {
                 timer.action("failure", "Handle task execution failure");
-                LOGGER.error("[{}] Execution failure.", task.getName(), e);
-                if (this.isFatal(e)) {
-                    this.flagImmediateFailure(task);
+
+                if (execution.getInterruption().orElse(null) == TaskExecution.Interruption.CANCELED) {
+                    LOGGER.info("[{}] Execution stopped after being canceled.", task.getName());
+                    this.flagCanceled(task);
+                    timer.endAction();
                 } else {
-                    this.flagFailure(task);
+                    LOGGER.error("[{}] Execution failure.", task.getName(), e);
+                    if (this.isFatal(e)) {
+                        this.flagImmediateFailure(task);
+                    } else {
+                        this.flagFailure(task);
+                    }
+                    timer.endAction();
+                    this.report(task, e);
                 }
-                timer.endAction();
+            }
+            timer.endAction();
+        }
 
-                Map<String, Object> context = new HashMap<>();
-                context.put("id", task.getId());
-                context.put("factory", task.getFactoryName());
-                context.put("name", task.getName());
-                context.put("params", task.getArguments().toString());
+        execution.getProgress().getSnapshot().ifPresent(snapshot -> this.applyProgress(task, snapshot));
 
-                Sentry.withScope(scope -> {
-                    scope.setContexts("Task", context);
-                    Sentry.captureException(e);
-                });
+        if (!this.finish(task)) {
+            LOGGER.info("[{}] Outcome discarded, the task has been canceled or reclaimed meanwhile.", task.getName());
+            return;
+        }
+
+        switch (task.getStatus()) {
+            case SUCCEEDED -> this.releaseDependents(task);
+            case FAILED, CANCELED -> this.cancelDependents(List.of(task.getId()));
+            default -> {
+                // Retried tasks keep their dependents waiting.
             }
-            timer.endAction();
         }
 
-        this.getRepository().save(task);
+        TaskMetrics.Outcome outcome = switch (task.getStatus()) {
+            case SUCCEEDED -> TaskMetrics.Outcome.SUCCEEDED;
+            case SCHEDULED -> TaskMetrics.Outcome.RETRIED;
+            case CANCELED -> TaskMetrics.Outcome.CANCELED;
+            default -> TaskMetrics.Outcome.FAILED;
+        };
+        this.metrics.recordExecution(task.getFactoryName(), Duration.ofNanos(System.nanoTime() - start), outcome);
+
+        if (task.getStatus() == TaskStatus.SCHEDULED) {
+            this.ready(task);
+        }
+    }
+
+    /**
+     * Store the outcome of the provided {@link Task}, unless it is no longer executed by this node: another node or a
+     * cancellation already decided what happens to it, and must not be overwritten.
+     *
+     * @param task
+     *         The {@link Task} that has been executed, holding its outcome.
+     *
+     * @return True if the outcome has been stored, false otherwise.
+     */
+    private boolean finish(Task task) {
+
+        int finished = this.getRepository().finish(
+                task.getId(),
+                TaskStatus.EXECUTING,
+                this.nodeId,
+                task.getStatus(),
+                task.getFailureCount(),
+                task.getNextAttemptAt(),
+                task.getStartedAt(),
+                task.getCompletedAt(),
+                task.getProgress(),
+                task.getProgressMessage(),
+                task.getEstimatedEndAt(),
+                task.getProgressUpdatedAt(),
+                Instant.now()
+        );
+
+        return finished == 1;
+    }
+
+    /**
+     * Store the progress reported by a {@link Task} executed by this node, so that it can be followed from any node.
+     *
+     * @param task
+     *         The {@link Task} being executed.
+     * @param snapshot
+     *         The {@link TaskProgress.Snapshot} to store.
+     */
+    private void publishProgress(Task task, TaskProgress.Snapshot snapshot) {
+
+        try {
+            this.getRepository().updateProgress(
+                    task.getId(),
+                    TaskStatus.EXECUTING,
+                    this.nodeId,
+                    snapshot.progress(),
+                    snapshot.message(),
+                    snapshot.estimatedEndAt(),
+                    snapshot.updatedAt()
+            );
+        } catch (RuntimeException e) {
+            // Progress is informative only, it must never make the task fail.
+            LOGGER.warn("[{}] Could not store the task progress.", task.getName(), e);
+        }
     }
 
-    private void flagExecuting(Task entity) {
+    private void applyProgress(Task entity, TaskProgress.Snapshot snapshot) {
+
+        boolean succeeded = entity.getStatus() == TaskStatus.SUCCEEDED;
+
+        entity.setProgress(succeeded ? 1 : snapshot.progress());
+        entity.setProgressMessage(snapshot.message());
+        entity.setEstimatedEndAt(succeeded ? null : snapshot.estimatedEndAt());
+        entity.setProgressUpdatedAt(snapshot.updatedAt());
+    }
+
+    private void flagExecuting(Task entity, Instant now, Instant leaseExpiresAt) {
 
         entity.setStatus(TaskStatus.EXECUTING);
-        entity.setStartedAt(Instant.now());
+        entity.setStartedAt(now);
         entity.setCompletedAt(null);
+        entity.setLeaseOwner(this.nodeId);
+        entity.setLeaseExpiresAt(leaseExpiresAt);
     }
 
     private void flagSuccessful(Task entity) {
 
         entity.setStatus(TaskStatus.SUCCEEDED);
         entity.setCompletedAt(Instant.now());
+        this.releaseLease(entity);
     }
 
     private void flagFailure(Task entity) {
@@ -336,12 +1106,15 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
         if (entity.getFailureCount() >= MAX_TASK_FAILURE) {
             entity.setStatus(TaskStatus.FAILED);
         } else {
+            Duration delay = TaskBackoff.compute(this.getTaskFactory(entity).retryDelay(), entity.getFailureCount());
+            LOGGER.info("[{}] Task will be retried in {}.", entity.getName(), delay);
             entity.setStatus(TaskStatus.SCHEDULED);
+            entity.setNextAttemptAt(Instant.now().plus(delay));
         }
 
         entity.setStartedAt(null);
         entity.setCompletedAt(null);
-
+        this.releaseLease(entity);
     }
 
     private void flagImmediateFailure(Task entity) {
@@ -350,6 +1123,58 @@ public class TaskService extends AnisekaiService<Task, Long, TaskRepository> {
         entity.setStatus(TaskStatus.FAILED);
         entity.setStartedAt(null);
         entity.setCompletedAt(null);
+        this.releaseLease(entity);
+    }
+
+    private void flagCanceled(Task entity) {
+
+        entity.setStatus(TaskStatus.CANCELED);
+        entity.setCompletedAt(Instant.now());
+        this.releaseLease(entity);
+    }
+
+    /**
+     * Read the arguments of the provided {@link Task}, which have been validated when it was queued. The JSON form is
+     * only parsed for {@link Task}s queued before their arguments were encoded, or with another version of the schema.
+     *
+     * @param factory
+     *         The {@link TaskFactory} of the {@link Task}.
+     * @param task
+     *         The {@link Task} about to be executed.
+     *
+     * @return The {@link TaskArguments}.
+     */
+    private TaskArguments readArguments(TaskFactory<?> factory, Task task) {
+
+        TaskArgumentCodec codec = factory.getArgumentCodec();
+        byte[]            data  = task.getArgumentsData();
+
+        if (data != null && codec.canDecode(data)) {
+            return codec.decode(data);
+        }
+
+        String json = task.getArguments();
+        return codec.read(json != null ? new AnisekaiJson(json) : new AnisekaiJson());
+    }
+
+    private void releaseLease(Task entity) {
+
+        entity.setLeaseOwner(null);
+        entity.setLeaseExpiresAt(null);
+    }
+
+    private void report(Task task, Exception ex) {
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("id", task.getId());
+        context.put("factory", task.getFactoryName());
+        context.put("name", task.getName());
+        context.put("params", task.getArguments());
+
+        Sentry.withScope(scope -> {
+            scope.setContexts("Task", context);
+            Sentry.captureException(ex);
+        });
     }
 
     private boolean isFatal(Exception ex) {
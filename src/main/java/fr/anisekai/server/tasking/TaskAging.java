@@ -0,0 +1,75 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Priority aging policy used to pick the next {@link Task} to execute.
+ * <p>
+ * A {@link Task} gains one priority level for every aging interval spent waiting since it became ready (its next
+ * attempt if it has been delayed, its creation otherwise). A low priority {@link Task} will thus eventually overtake
+ * any newly queued high priority {@link Task}, which bounds its waiting time even under a sustained high priority load.
+ * <p>
+ * {@link TaskReadyQueue} applies the same ordering when picking the next {@link Task} to claim.
+ */
+public final class TaskAging {
+
+    private TaskAging() {}
+
+    /**
+     * Retrieve the {@link Instant} from which the provided {@link Task} started waiting.
+     *
+     * @param task
+     *         The {@link Task}.
+     *
+     * @return An {@link Instant}.
+     */
+    public static Instant getReadySince(Task task) {
+
+        return task.getNextAttemptAt() != null ? task.getNextAttemptAt() : task.getCreatedAt();
+    }
+
+    /**
+     * Compute the effective priority of a {@link Task}.
+     *
+     * @param priority
+     *         The base priority of the {@link Task}.
+     * @param readySince
+     *         The {@link Instant} from which the {@link Task} started waiting.
+     * @param now
+     *         The current {@link Instant}.
+     * @param interval
+     *         The time a {@link Task} must wait to gain one priority level.
+     *
+     * @return The effective priority.
+     */
+    public static long getEffectivePriority(byte priority, Instant readySince, Instant now, Duration interval) {
+
+        long waited = Math.max(0, Duration.between(readySince, now).toSeconds());
+        return priority + waited / Math.max(1, interval.toSeconds());
+    }
+
+    /**
+     * Create a {@link Comparator} sorting {@link Task}s from the first to execute to the last one, breaking ties with
+     * the time they have been waiting and then with their id.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     * @param interval
+     *         The time a {@link Task} must wait to gain one priority level.
+     *
+     * @return A {@link Comparator}.
+     */
+    public static Comparator<Task> comparator(Instant now, Duration interval) {
+
+        Comparator<Task> byPriority = Comparator.comparingLong(
+                task -> getEffectivePriority(task.getPriority(), getReadySince(task), now, interval)
+        );
+
+        return byPriority.reversed().thenComparing(TaskAging::getReadySince).thenComparing(Task::getId);
+    }
+
+}
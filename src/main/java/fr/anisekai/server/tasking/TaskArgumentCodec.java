@@ -0,0 +1,335 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.json.AnisekaiJson;
+import fr.anisekai.core.internal.json.validation.JsonObjectRule;
+import fr.anisekai.core.internal.json.validation.JsonRule;
+import fr.anisekai.server.domain.entities.Task;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Typed schema of the arguments of the {@link Task}s created by a {@link TaskFactory}, see
+ * {@link TaskFactory#getArgumentCodec()}.
+ * <p>
+ * Arguments are validated once, when the {@link Task} is queued, and stored in a compact binary form which is decoded
+ * into {@link TaskArguments} on each execution attempt without going through a JSON parser. The JSON form is still
+ * stored alongside it, for display purposes and to read {@link Task}s encoded with another version of the schema.
+ * <p>
+ * Every schema implicitly declares the optional {@link TaskExecutor#OPTION_PRIORITY} argument, which is added to every
+ * queued {@link Task}.
+ */
+public final class TaskArgumentCodec {
+
+    /**
+     * Supported types of argument.
+     */
+    public enum Type {
+
+        LONG(int.class, long.class, Integer.class, Long.class),
+        INTEGER(int.class, Integer.class),
+        BOOLEAN(boolean.class, Boolean.class),
+        STRING(String.class);
+
+        private final Class<?>[] allowedTypes;
+
+        Type(Class<?>... allowedTypes) {
+
+            this.allowedTypes = allowedTypes;
+        }
+
+    }
+
+    /**
+     * A declared argument.
+     *
+     * @param name
+     *         The key of the argument.
+     * @param type
+     *         The {@link Type} of the argument.
+     * @param required
+     *         Whether the argument must be provided.
+     */
+    public record Field(String name, Type type, boolean required) {
+
+        public static Field required(String name, Type type) {
+
+            return new Field(name, type, true);
+        }
+
+        public static Field optional(String name, Type type) {
+
+            return new Field(name, type, false);
+        }
+
+    }
+
+    /**
+     * Schema of {@link Task}s without any argument of their own.
+     */
+    public static final TaskArgumentCodec DEFAULT = new TaskArgumentCodec();
+
+    private static final byte FORMAT     = 1;
+    private static final int  MAX_FIELDS = Long.SIZE;
+
+    private final List<Field>          fields;
+    private final Map<String, Integer> indexes;
+    private final List<JsonRule>       rules;
+    private final int                  fingerprint;
+
+    /**
+     * Create a new {@link TaskArgumentCodec}.
+     *
+     * @param fields
+     *         The declared arguments. Their order defines the binary layout, so changing it makes previously encoded
+     *         {@link Task}s fall back to their JSON form.
+     */
+    public TaskArgumentCodec(Field... fields) {
+
+        List<Field> declared = new ArrayList<>();
+        declared.add(Field.optional(TaskExecutor.OPTION_PRIORITY, Type.INTEGER));
+        declared.addAll(Arrays.asList(fields));
+
+        if (declared.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("A task cannot declare more than " + (MAX_FIELDS - 1) + " arguments.");
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < declared.size(); i++) {
+            if (indexes.put(declared.get(i).name(), i) != null) {
+                throw new IllegalArgumentException("The argument '" + declared.get(i).name() + "' is declared twice.");
+            }
+        }
+
+        this.fields      = List.copyOf(declared);
+        this.indexes     = Map.copyOf(indexes);
+        this.rules       = this.fields.stream()
+                                      .<JsonRule>map(field -> new JsonObjectRule(field.name(), field.required(), field.type().allowedTypes))
+                                      .toList();
+        this.fingerprint = this.fields.stream().map(field -> field.name() + ':' + field.type()).toList().hashCode();
+    }
+
+    /**
+     * Retrieve every argument declared by this {@link TaskArgumentCodec}, including the implicit priority.
+     *
+     * @return An immutable {@link List} of {@link Field}.
+     */
+    public List<Field> getFields() {
+
+        return this.fields;
+    }
+
+    /**
+     * Validate the provided {@link AnisekaiJson} against this schema and convert it into {@link TaskArguments}.
+     *
+     * @param json
+     *         The arguments of the {@link Task}.
+     *
+     * @return The {@link TaskArguments}.
+     *
+     * @throws fr.anisekai.core.internal.json.exceptions.JSONValidationException
+     *         If a declared argument is missing or has an incompatible type.
+     * @throws IllegalArgumentException
+     *         If an argument is not declared by this schema.
+     */
+    public TaskArguments read(@NotNull AnisekaiJson json) {
+
+        json.validate(this.rules);
+
+        Object[] values = new Object[this.fields.size()];
+        for (String key : json.keySet()) {
+            Integer index = this.indexes.get(key);
+            if (index == null) {
+                throw new IllegalArgumentException("The argument '" + key + "' is not declared by the task.");
+            }
+
+            Object value = json.opt(key);
+            if (value == null || value == AnisekaiJson.NULL) {
+                continue;
+            }
+
+            values[index] = switch (this.fields.get(index).type()) {
+                case LONG -> ((Number) value).longValue();
+                case INTEGER -> ((Number) value).intValue();
+                case BOOLEAN, STRING -> value;
+            };
+        }
+
+        return new TaskArguments(this, values);
+    }
+
+    /**
+     * Encode the provided {@link TaskArguments} into their binary form.
+     *
+     * @param arguments
+     *         The {@link TaskArguments}, which must have been created by this {@link TaskArgumentCodec}.
+     *
+     * @return The encoded arguments.
+     */
+    public byte[] encode(@NotNull TaskArguments arguments) {
+
+        if (arguments.getCodec() != this) {
+            throw new IllegalArgumentException("The arguments have been created with another schema.");
+        }
+
+        Object[]              values = arguments.getValues();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(32);
+        long                  mask   = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                mask |= 1L << i;
+            }
+        }
+
+        output.write(FORMAT);
+        writeInt(output, this.fingerprint);
+        writeVarLong(output, mask);
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+
+            switch (this.fields.get(i).type()) {
+                case LONG -> writeVarLong(output, zigzag((long) value));
+                case INTEGER -> writeVarLong(output, zigzag((int) value));
+                case BOOLEAN -> output.write((boolean) value ? 1 : 0);
+                case STRING -> {
+                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(output, bytes.length);
+                    output.writeBytes(bytes);
+                }
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Check if the provided binary arguments have been encoded with this version of the schema.
+     *
+     * @param data
+     *         The encoded arguments.
+     *
+     * @return True if they can be decoded with {@link #decode(byte[])}, false otherwise.
+     */
+    public boolean canDecode(@NotNull byte[] data) {
+
+        if (data.length < 5 || data[0] != FORMAT) {
+            return false;
+        }
+        return ByteBuffer.wrap(data, 1, 4).getInt() == this.fingerprint;
+    }
+
+    /**
+     * Decode the provided binary arguments.
+     *
+     * @param data
+     *         The encoded arguments.
+     *
+     * @return The {@link TaskArguments}.
+     *
+     * @throws IllegalArgumentException
+     *         If the arguments have not been encoded with this version of the schema, see {@link #canDecode(byte[])}.
+     */
+    public TaskArguments decode(@NotNull byte[] data) {
+
+        if (!this.canDecode(data)) {
+            throw new IllegalArgumentException("The arguments have been encoded with another schema.");
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data, 5, data.length - 5);
+            long       mask   = readVarLong(buffer);
+            Object[]   values = new Object[this.fields.size()];
+
+            for (int i = 0; i < values.length; i++) {
+                if ((mask & (1L << i)) == 0) {
+                    continue;
+                }
+
+                values[i] = switch (this.fields.get(i).type()) {
+                    case LONG -> unzigzag(readVarLong(buffer));
+                    case INTEGER -> (int) unzigzag(readVarLong(buffer));
+                    case BOOLEAN -> buffer.get() != 0;
+                    case STRING -> {
+                        byte[] bytes = new byte[(int) readVarLong(buffer)];
+                        buffer.get(bytes);
+                        yield new String(bytes, StandardCharsets.UTF_8);
+                    }
+                };
+            }
+
+            return new TaskArguments(this, values);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The encoded arguments are truncated.", e);
+        }
+    }
+
+    /**
+     * Retrieve the position of the provided argument.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return The position of the argument.
+     *
+     * @throws IllegalArgumentException
+     *         If the argument is not declared by this schema.
+     */
+    int indexOf(String name) {
+
+        Integer index = this.indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("The argument '" + name + "' is not declared by the task.");
+        }
+        return index;
+    }
+
+    private static long zigzag(long value) {
+
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeInt(ByteArrayOutputStream output, int value) {
+
+        output.write(value >>> 24);
+        output.write(value >>> 16);
+        output.write(value >>> 8);
+        output.write(value);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream output, long value) {
+
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length number.");
+    }
+
+}
@@ -0,0 +1,151 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.json.AnisekaiJson;
+import fr.anisekai.server.domain.entities.Task;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Arguments of a {@link Task}, validated against the {@link TaskArgumentCodec} of its {@link TaskFactory}. Values are
+ * held by position, and every getter checks the type declared by the schema.
+ */
+public final class TaskArguments {
+
+    private final TaskArgumentCodec codec;
+    private final Object[]          values;
+
+    TaskArguments(TaskArgumentCodec codec, Object[] values) {
+
+        this.codec  = codec;
+        this.values = values;
+    }
+
+    /**
+     * Check if the provided argument has been set.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return True if the argument has a value, false otherwise.
+     */
+    public boolean has(String name) {
+
+        return this.values[this.codec.indexOf(name)] != null;
+    }
+
+    /**
+     * Retrieve the value of the provided {@link TaskArgumentCodec.Type#LONG} argument.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return The value of the argument.
+     */
+    public long getLong(String name) {
+
+        return (long) this.require(name, TaskArgumentCodec.Type.LONG);
+    }
+
+    /**
+     * Retrieve the value of the provided {@link TaskArgumentCodec.Type#INTEGER} argument.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return The value of the argument.
+     */
+    public int getInt(String name) {
+
+        return (int) this.require(name, TaskArgumentCodec.Type.INTEGER);
+    }
+
+    /**
+     * Retrieve the value of the provided {@link TaskArgumentCodec.Type#BOOLEAN} argument.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return The value of the argument.
+     */
+    public boolean getBoolean(String name) {
+
+        return (boolean) this.require(name, TaskArgumentCodec.Type.BOOLEAN);
+    }
+
+    /**
+     * Retrieve the value of the provided {@link TaskArgumentCodec.Type#BOOLEAN} argument, if it has been set.
+     *
+     * @param name
+     *         The key of the argument.
+     * @param defaultValue
+     *         The value to return if the argument has not been set.
+     *
+     * @return The value of the argument, or the default value.
+     */
+    public boolean optBoolean(String name, boolean defaultValue) {
+
+        return this.has(name) ? this.getBoolean(name) : defaultValue;
+    }
+
+    /**
+     * Retrieve the value of the provided {@link TaskArgumentCodec.Type#STRING} argument.
+     *
+     * @param name
+     *         The key of the argument.
+     *
+     * @return The value of the argument.
+     */
+    public String getString(String name) {
+
+        return (String) this.require(name, TaskArgumentCodec.Type.STRING);
+    }
+
+    /**
+     * Convert these arguments back to their JSON form.
+     *
+     * @return An {@link AnisekaiJson}.
+     */
+    public AnisekaiJson toJson() {
+
+        AnisekaiJson json = new AnisekaiJson();
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                json.put(this.codec.getFields().get(i).name(), this.values[i]);
+            }
+        }
+        return json;
+    }
+
+    TaskArgumentCodec getCodec() {
+
+        return this.codec;
+    }
+
+    Object[] getValues() {
+
+        return this.values;
+    }
+
+    private Object require(String name, TaskArgumentCodec.Type type) {
+
+        int                     index = this.codec.indexOf(name);
+        TaskArgumentCodec.Field field = this.codec.getFields().get(index);
+
+        if (field.type() != type) {
+            throw new IllegalArgumentException("The argument '" + name + "' is of type " + field.type() + ", not " + type + ".");
+        }
+
+        Object value = this.values[index];
+        if (value == null) {
+            throw new NoSuchElementException("The argument '" + name + "' has not been set.");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+
+        return this.toJson().toString();
+    }
+
+}
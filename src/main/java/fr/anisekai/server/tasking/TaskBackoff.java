@@ -0,0 +1,74 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff policy applied to failed {@link Task}s.
+ * <p>
+ * The delay before the {@code n}-th retry is {@code base * 2^(n - 1)}, capped to {@link #MAX_DELAY}. To avoid every
+ * {@link Task} failing because of the same outage from retrying at the exact same time, only half of that delay is
+ * fixed and the other half is random.
+ */
+public final class TaskBackoff {
+
+    /**
+     * Base delay used by {@link TaskFactory} not overriding {@link TaskFactory#retryDelay()}.
+     */
+    public static final Duration DEFAULT_DELAY = Duration.ofSeconds(30);
+
+    /**
+     * Maximum delay between two attempts, regardless of the amount of failures.
+     */
+    public static final Duration MAX_DELAY = Duration.ofHours(1);
+
+    private TaskBackoff() {}
+
+    /**
+     * Compute the delay before the next attempt of a {@link Task}.
+     *
+     * @param base
+     *         The delay before the first retry.
+     * @param failureCount
+     *         The amount of consecutive failures of the {@link Task}, including the one that just happened.
+     *
+     * @return The delay before the next attempt.
+     */
+    public static Duration compute(Duration base, int failureCount) {
+
+        return compute(base, failureCount, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Compute the delay before the next attempt of a {@link Task}.
+     *
+     * @param base
+     *         The delay before the first retry.
+     * @param failureCount
+     *         The amount of consecutive failures of the {@link Task}, including the one that just happened.
+     * @param jitter
+     *         A value between {@code 0} (inclusive) and {@code 1} (exclusive) picking the random part of the delay.
+     *
+     * @return The delay before the next attempt.
+     */
+    public static Duration compute(Duration base, int failureCount, double jitter) {
+
+        if (failureCount < 1 || !base.isPositive()) {
+            return Duration.ZERO;
+        }
+
+        // Shifting more than that would overflow anyway, and the cap is reached way before.
+        int      exponent = Math.min(failureCount - 1, 30);
+        Duration ceiling  = base.multipliedBy(1L << exponent);
+
+        if (ceiling.compareTo(MAX_DELAY) > 0) {
+            ceiling = MAX_DELAY;
+        }
+
+        long half = ceiling.toMillis() / 2;
+        return Duration.ofMillis(half + (long) (half * jitter));
+    }
+
+}
@@ -0,0 +1,115 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Track the {@link Task}s running against each rate bucket of an external service, as declared by
+ * {@link TaskFactory#rateBucket()}.
+ * <p>
+ * A bucket accepts a limited amount of concurrent {@link Task}s. Once saturated, {@link Task}s targeting it are skipped
+ * when claiming, so that {@link Task}s hitting other buckets keep running instead of waiting behind a rate limit. A
+ * bucket that has been skipped is flagged as contended, letting the caller know that someone should be woken up when
+ * it frees up again.
+ * <p>
+ * {@link Task}s without a bucket are never limited.
+ */
+public class TaskBuckets {
+
+    private final int                  capacity;
+    private final Map<String, Integer> loads     = new HashMap<>();
+    private final Set<String>          contended = new HashSet<>();
+
+    /**
+     * Create a new {@link TaskBuckets}.
+     *
+     * @param capacity
+     *         The maximum amount of {@link Task}s that can run at the same time against a single bucket.
+     */
+    public TaskBuckets(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A bucket must accept at least one task.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Check if the provided bucket cannot accept any more {@link Task}. When it is the case, the bucket is flagged as
+     * contended.
+     *
+     * @param bucket
+     *         The bucket to check, or {@code null} for {@link Task}s without bucket.
+     *
+     * @return True if the bucket is saturated, false otherwise.
+     */
+    public synchronized boolean isSaturated(@Nullable String bucket) {
+
+        if (bucket == null || this.loads.getOrDefault(bucket, 0) < this.capacity) {
+            return false;
+        }
+
+        this.contended.add(bucket);
+        return true;
+    }
+
+    /**
+     * Reserve a slot in the provided bucket.
+     *
+     * @param bucket
+     *         The bucket into which a slot should be reserved, or {@code null} for {@link Task}s without bucket.
+     *
+     * @return True if the slot has been reserved, false if the bucket is saturated.
+     */
+    public synchronized boolean tryAcquire(@Nullable String bucket) {
+
+        if (bucket == null) {
+            return true;
+        }
+
+        if (this.isSaturated(bucket)) {
+            return false;
+        }
+
+        this.loads.merge(bucket, 1, Integer::sum);
+        return true;
+    }
+
+    /**
+     * Release a slot previously reserved with {@link #tryAcquire(String)}.
+     *
+     * @param bucket
+     *         The bucket into which the slot was reserved, or {@code null} for {@link Task}s without bucket.
+     *
+     * @return True if some {@link Task} has been skipped because the bucket was saturated, meaning they can now be
+     *         claimed.
+     */
+    public synchronized boolean release(@Nullable String bucket) {
+
+        if (bucket == null) {
+            return false;
+        }
+
+        this.loads.computeIfPresent(bucket, (key, load) -> load > 1 ? load - 1 : null);
+        return this.contended.remove(bucket);
+    }
+
+    /**
+     * Retrieve the amount of {@link Task}s currently running against the provided bucket.
+     *
+     * @param bucket
+     *         The bucket.
+     *
+     * @return The amount of running {@link Task}s.
+     */
+    public synchronized int getLoad(String bucket) {
+
+        return this.loads.getOrDefault(bucket, 0);
+    }
+
+}
@@ -4,12 +4,21 @@ import fr.anisekai.core.internal.json.AnisekaiJson;
 import fr.anisekai.server.domain.entities.Task;
 import fr.anisekai.server.domain.enums.TaskStatus;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public final class TaskBuilder {
 
-    private final TaskFactory<?> factory;
-    private       String         name;
-    private       byte           priority = 0;
-    private       AnisekaiJson   args     = new AnisekaiJson();
+    private final TaskFactory<?>    factory;
+    private final List<TaskBuilder> dependents = new ArrayList<>();
+    private       String            name;
+    private       byte              priority   = 0;
+    private       AnisekaiJson      args       = new AnisekaiJson();
+    private       Instant           runAt      = null;
+    private       Long              parentId   = null;
 
     private TaskBuilder(TaskFactory<?> factory) {
 
@@ -39,6 +48,69 @@ public final class TaskBuilder {
         return this;
     }
 
+    /**
+     * Delay the execution of the {@link Task} until the provided {@link Instant}.
+     *
+     * @param runAt
+     *         The {@link Instant} before which the {@link Task} must not be executed, or {@code null} to execute it as
+     *         soon as possible.
+     *
+     * @return The same {@link TaskBuilder} instance.
+     */
+    public TaskBuilder at(Instant runAt) {
+
+        this.runAt = runAt;
+        return this;
+    }
+
+    /**
+     * Delay the execution of the {@link Task} by the provided {@link Duration}, starting now.
+     *
+     * @param delay
+     *         The {@link Duration} to wait before executing the {@link Task}.
+     *
+     * @return The same {@link TaskBuilder} instance.
+     */
+    public TaskBuilder delay(Duration delay) {
+
+        return this.at(Instant.now().plus(delay));
+    }
+
+    /**
+     * Queue the provided {@link TaskBuilder} once this one has been queued, making it wait for this {@link Task} to
+     * succeed before it can be executed. If this {@link Task} fails for good or is canceled, the dependent
+     * {@link Task} is canceled as well.
+     *
+     * @param dependent
+     *         The {@link TaskBuilder} of the {@link Task} to run after this one.
+     *
+     * @return The same {@link TaskBuilder} instance.
+     */
+    public TaskBuilder then(TaskBuilder dependent) {
+
+        this.dependents.add(dependent);
+        return this;
+    }
+
+    /**
+     * Make the {@link Task} wait for the provided {@link Task} to succeed before it can be executed. If the provided
+     * {@link Task} fails for good or is canceled, this {@link Task} is canceled as well.
+     *
+     * @param parent
+     *         The {@link Task} to wait for. It must have been saved already.
+     *
+     * @return The same {@link TaskBuilder} instance.
+     */
+    public TaskBuilder dependsOn(Task parent) {
+
+        if (parent.isNew()) {
+            throw new IllegalArgumentException("A task can only depend on a queued task.");
+        }
+
+        this.parentId = parent.getId();
+        return this;
+    }
+
     public TaskFactory<?> getFactory() {
 
         return this.factory;
@@ -59,14 +131,34 @@ public final class TaskBuilder {
         return this.args;
     }
 
+    public Instant getRunAt() {
+
+        return this.runAt;
+    }
+
+    public List<TaskBuilder> getDependents() {
+
+        return Collections.unmodifiableList(this.dependents);
+    }
+
+    public Long getParentId() {
+
+        return this.parentId;
+    }
+
     public Task build() {
 
+        TaskArgumentCodec codec = this.factory.getArgumentCodec();
+
         Task task = new Task();
         task.setFactoryName(this.factory.getName());
         task.setName(this.name != null ? this.name : this.factory.getName());
         task.setPriority(this.priority);
-        task.setStatus(TaskStatus.SCHEDULED);
-        task.setArguments(this.args);
+        task.setStatus(this.parentId == null ? TaskStatus.SCHEDULED : TaskStatus.WAITING);
+        task.setArguments(this.args.toString());
+        task.setArgumentsData(codec.encode(codec.read(this.args)));
+        task.setNextAttemptAt(this.runAt);
+        task.setParentId(this.parentId);
 
         return task;
     }
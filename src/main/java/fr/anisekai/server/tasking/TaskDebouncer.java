@@ -0,0 +1,181 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coalesce bursts of identical {@link TaskBuilder} into a single one.
+ * <p>
+ * Every {@link TaskBuilder} submitted to the {@link TaskDebouncer} is held back for the duration of its window. If
+ * another {@link TaskBuilder} for the same {@link Task} is submitted before the window ends, it replaces the held one
+ * (keeping the highest priority) and the window starts over. Once the window ends without any new trigger, the
+ * {@link TaskBuilder} is released to the sink, meaning the {@link Task} will run after the last trigger of the burst.
+ */
+public class TaskDebouncer implements AutoCloseable {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(TaskDebouncer.class);
+
+    private static final class Pending {
+
+        private final TaskBuilder        builder;
+        private       ScheduledFuture<?> future;
+
+        private Pending(TaskBuilder builder) {
+
+            this.builder = builder;
+        }
+
+    }
+
+    private final Consumer<Collection<TaskBuilder>> sink;
+    private final ScheduledExecutorService          scheduler;
+    private final Map<String, Pending>              pending = new HashMap<>();
+
+    /**
+     * Create a new {@link TaskDebouncer}.
+     *
+     * @param sink
+     *         The {@link Consumer} receiving the {@link TaskBuilder}s once their window has ended.
+     */
+    public TaskDebouncer(Consumer<Collection<TaskBuilder>> sink) {
+
+        this.sink      = sink;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("task-debounce").factory());
+    }
+
+    /**
+     * Check if the provided {@link TaskBuilder} should go through a {@link TaskDebouncer}. Only named {@link Task} of
+     * {@link TaskFactory} refusing duplicates with a positive {@link TaskFactory#debounce()} window can be coalesced,
+     * as long as they do not depend on another {@link Task}.
+     *
+     * @param builder
+     *         The {@link TaskBuilder} to check.
+     *
+     * @return True if the {@link TaskBuilder} should be debounced, false otherwise.
+     */
+    public static boolean isDebounced(TaskBuilder builder) {
+
+        TaskFactory<?> factory = builder.getFactory();
+        return !factory.allowDuplicated()
+                && builder.getName() != null
+                && builder.getParentId() == null
+                && factory.debounce().isPositive();
+    }
+
+    /**
+     * Hold the provided {@link TaskBuilder} back until no other {@link TaskBuilder} for the same {@link Task} has been
+     * submitted for the whole debounce window of its {@link TaskFactory}.
+     *
+     * @param builder
+     *         The {@link TaskBuilder} to debounce.
+     */
+    public void submit(TaskBuilder builder) {
+
+        String   key    = asKey(builder);
+        Duration window = builder.getFactory().debounce();
+
+        synchronized (this.pending) {
+            Pending     previous = this.pending.get(key);
+            TaskBuilder latest   = builder;
+
+            if (previous != null) {
+                previous.future.cancel(false);
+                if (previous.builder.getPriority() > builder.getPriority()) {
+                    latest = builder.priority(previous.builder.getPriority());
+                }
+                // Follow-up tasks of every coalesced trigger must still run.
+                previous.builder.getDependents().forEach(latest::then);
+                LOGGER.debug("Coalesced task '{}', delaying it by {}.", builder.getName(), window);
+            }
+
+            // The release will wait for this lock, so the entry is always registered before being released.
+            Pending entry = new Pending(latest);
+            entry.future = this.scheduler.schedule(
+                    () -> this.release(key, entry),
+                    window.toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+            this.pending.put(key, entry);
+        }
+    }
+
+    /**
+     * Retrieve the amount of {@link TaskBuilder} currently held back.
+     *
+     * @return The amount of held {@link TaskBuilder}.
+     */
+    public int getPendingCount() {
+
+        synchronized (this.pending) {
+            return this.pending.size();
+        }
+    }
+
+    /**
+     * Release every held {@link TaskBuilder} immediately, regardless of their window.
+     */
+    public void flush() {
+
+        List<TaskBuilder> builders = new ArrayList<>();
+
+        synchronized (this.pending) {
+            for (Pending entry : this.pending.values()) {
+                entry.future.cancel(false);
+                builders.add(entry.builder);
+            }
+            this.pending.clear();
+        }
+
+        this.emit(builders);
+    }
+
+    private void release(String key, Pending expected) {
+
+        synchronized (this.pending) {
+            // The window may have been restarted right before this execution.
+            if (!this.pending.remove(key, expected)) {
+                return;
+            }
+        }
+
+        this.emit(List.of(expected.builder));
+    }
+
+    private void emit(Collection<TaskBuilder> builders) {
+
+        if (builders.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.sink.accept(builders);
+        } catch (Exception e) {
+            LOGGER.error("Unable to queue {} debounced task(s).", builders.size(), e);
+        }
+    }
+
+    private static String asKey(TaskBuilder builder) {
+
+        return String.format("%s/%s", builder.getFactory().getName(), builder.getName());
+    }
+
+    /**
+     * Release every held {@link TaskBuilder} and stop this {@link TaskDebouncer}.
+     */
+    @Override
+    public void close() {
+
+        this.scheduler.shutdownNow();
+        this.flush();
+    }
+
+}
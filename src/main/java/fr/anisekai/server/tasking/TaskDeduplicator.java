@@ -0,0 +1,164 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Apply the duplication rules of {@link TaskFactory} to a batch of {@link TaskBuilder} in memory.
+ * <p>
+ * The {@link TaskDeduplicator} is seeded with every scheduled {@link Task} that could conflict with the batch, so that
+ * only one lookup is required no matter the size of the batch. Each {@link TaskBuilder} is then offered in order, and
+ * behaves exactly as if it was queued on its own:
+ * <ul>
+ *     <li>If the {@link TaskFactory} allows duplicates, or if the {@link TaskBuilder} depends on another {@link Task},
+ *     a new {@link Task} is always created.</li>
+ *     <li>If a {@link Task} with the same name exists for the same {@link TaskFactory}, it is kept. Its priority is upgraded if the
+ *     {@link TaskBuilder} has a higher one, and its execution is brought forward if the {@link TaskBuilder} explicitly
+ *     asks to run earlier. A {@link Task} waiting for a retry is never brought forward, so that queuing it again does
+ *     not defeat its backoff.</li>
+ *     <li>Otherwise, a new {@link Task} is created.</li>
+ * </ul>
+ * {@link Task}s created earlier in the batch are taken into account for the following {@link TaskBuilder}s.
+ */
+public class TaskDeduplicator {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(TaskDeduplicator.class);
+
+    private record Key(String factoryName, String name) {}
+
+    private final Map<Key, Task> scheduled = new HashMap<>();
+    private final Set<Task>      pending   = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Task>     ordered   = new ArrayList<>();
+
+    /**
+     * Create a new {@link TaskDeduplicator}.
+     *
+     * @param scheduled
+     *         The scheduled {@link Task}s sharing a name with at least one of the {@link TaskBuilder}s that will be
+     *         offered. {@link Task}s of another {@link TaskFactory} are ignored.
+     */
+    public TaskDeduplicator(Collection<Task> scheduled) {
+
+        for (Task task : scheduled) {
+            this.scheduled.merge(
+                    new Key(task.getFactoryName(), task.getName()),
+                    task,
+                    (current, other) -> other.getPriority() > current.getPriority() ? other : current
+            );
+        }
+    }
+
+    /**
+     * Retrieve the names that must be looked up before creating a {@link TaskDeduplicator} for the provided
+     * {@link TaskBuilder}s.
+     *
+     * @param builders
+     *         The {@link TaskBuilder}s that will be offered.
+     *
+     * @return A {@link Set} of {@link Task} names.
+     */
+    public static Set<String> getLookupNames(Collection<TaskBuilder> builders) {
+
+        Set<String> names = new HashSet<>();
+        for (TaskBuilder builder : builders) {
+            if (!isAlwaysCreated(builder)) {
+                names.add(builder.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Offer a {@link TaskBuilder} to this {@link TaskDeduplicator}.
+     *
+     * @param builder
+     *         The {@link TaskBuilder} to offer.
+     *
+     * @return The {@link Task} representing the {@link TaskBuilder} once queued. It might be an already scheduled
+     *         {@link Task}.
+     */
+    public Task offer(TaskBuilder builder) {
+
+        if (isAlwaysCreated(builder)) {
+            return this.create(builder);
+        }
+
+        Key  key  = new Key(builder.getFactory().getName(), builder.getName());
+        Task task = this.scheduled.get(key);
+
+        if (task == null) {
+            Task created = this.create(builder);
+            this.scheduled.put(key, created);
+            return created;
+        }
+
+        boolean updated = false;
+
+        if (task.getPriority() < builder.getPriority()) {
+            LOGGER.info("Updating task '{}' priority from {} to {}", task.getName(), task.getPriority(), builder.getPriority());
+            task.setPriority(builder.getPriority());
+            updated = true;
+        }
+
+        if (task.getFailureCount() == 0 && isEarlier(builder.getRunAt(), task.getNextAttemptAt())) {
+            LOGGER.info("Bringing task '{}' forward from {} to {}", task.getName(), task.getNextAttemptAt(), builder.getRunAt());
+            task.setNextAttemptAt(builder.getRunAt());
+            updated = true;
+        }
+
+        if (updated) {
+            this.markPending(task);
+        } else {
+            LOGGER.debug(
+                    "Queuing of task '{}' dropped: The task already exists with a higher priority.",
+                    builder.getName()
+            );
+        }
+        return task;
+    }
+
+    /**
+     * Retrieve every {@link Task} created or modified by this {@link TaskDeduplicator}, in the order they have been
+     * created or modified first. Those are the {@link Task}s that need to be saved.
+     *
+     * @return A {@link List} of {@link Task}.
+     */
+    public List<Task> getPending() {
+
+        return Collections.unmodifiableList(this.ordered);
+    }
+
+    private static boolean isAlwaysCreated(TaskBuilder builder) {
+
+        // Merging a dependent into a scheduled task would make it run before its parent.
+        return builder.getFactory().allowDuplicated() || builder.getName() == null || builder.getParentId() != null;
+    }
+
+    private static boolean isEarlier(Instant candidate, Instant current) {
+
+        // A plain re-queue does not carry any instant, and must not cancel a delay it knows nothing about.
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    private Task create(TaskBuilder builder) {
+
+        LOGGER.info("Queuing task '{}' with a priority of {}.", builder.getName(), builder.getPriority());
+        LOGGER.debug(" :: Arguments = {}", builder.getArgs());
+
+        Task task = builder.build();
+        this.markPending(task);
+        return task;
+    }
+
+    private void markPending(Task task) {
+
+        if (this.pending.add(task)) {
+            this.ordered.add(task);
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pool of workers dedicated to a single {@link TaskPipeline}.
+ * <p>
+ * Each worker keeps claiming and running {@link Task}s until the pipeline is empty. Workers are spawned lazily: waking
+ * an idle dispatcher starts a single worker, and every successful claim allows one more worker to join until the
+ * configured concurrency is reached. This way, an empty pipeline costs a single lookup per wake-up.
+ * <p>
+ * A wake-up is never lost: if it happens while every worker is busy concluding that the pipeline is empty, the last
+ * worker leaving will start a new one.
+ * <p>
+ * Workers are platform threads reused from one {@link Task} to the next, unless the dispatcher runs on virtual threads.
+ * In that case, each claimed {@link Task} runs on its own virtual thread, which hands over to a new one once done. This
+ * suits pipelines spending most of their time blocked on I/O, and guarantees that no {@link ThreadLocal} state leaks
+ * from one {@link Task} to another. The concurrency still caps the amount of {@link Task}s running at the same time.
+ */
+public class TaskDispatcher implements AutoCloseable {
+
+    private static final Logger LOGGER           = LoggerFactory.getLogger(TaskDispatcher.class);
+    private static final long   SHUTDOWN_TIMEOUT = 30;
+
+    private final TaskPipeline                           pipeline;
+    private final int                                    concurrency;
+    private final boolean                                virtual;
+    private final Function<TaskPipeline, Optional<Task>> claimer;
+    private final Consumer<Task>                         runner;
+    private final ExecutorService                        executor;
+    private final AtomicInteger                          workers   = new AtomicInteger(0);
+    private final AtomicBoolean                          pending   = new AtomicBoolean(false);
+    private final Lock                                   claimLock = new ReentrantLock();
+
+    /**
+     * Create a new {@link TaskDispatcher}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} handled by this {@link TaskDispatcher}.
+     * @param concurrency
+     *         The maximum amount of {@link Task} that can be executed at the same time.
+     * @param claimer
+     *         The {@link Function} used to claim the next {@link Task} of the pipeline. Calls are serialized within
+     *         this {@link TaskDispatcher}.
+     * @param runner
+     *         The {@link Consumer} used to execute a claimed {@link Task}.
+     */
+    public TaskDispatcher(TaskPipeline pipeline, int concurrency, Function<TaskPipeline, Optional<Task>> claimer, Consumer<Task> runner) {
+
+        this(pipeline, concurrency, false, claimer, runner);
+    }
+
+    /**
+     * Create a new {@link TaskDispatcher}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} handled by this {@link TaskDispatcher}.
+     * @param concurrency
+     *         The maximum amount of {@link Task} that can be executed at the same time.
+     * @param virtual
+     *         Whether each {@link Task} should be executed on its own virtual thread.
+     * @param claimer
+     *         The {@link Function} used to claim the next {@link Task} of the pipeline. Calls are serialized within
+     *         this {@link TaskDispatcher}.
+     * @param runner
+     *         The {@link Consumer} used to execute a claimed {@link Task}.
+     */
+    public TaskDispatcher(TaskPipeline pipeline, int concurrency, boolean virtual, Function<TaskPipeline, Optional<Task>> claimer, Consumer<Task> runner) {
+
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("A pipeline requires at least one worker.");
+        }
+
+        String prefix = String.format("task-%s-", pipeline.name().toLowerCase());
+
+        this.pipeline    = pipeline;
+        this.concurrency = concurrency;
+        this.virtual     = virtual;
+        this.claimer     = claimer;
+        this.runner      = runner;
+        this.executor    = virtual
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory())
+                : Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name(prefix, 1).factory());
+    }
+
+    /**
+     * Retrieve the {@link TaskPipeline} handled by this {@link TaskDispatcher}.
+     *
+     * @return A {@link TaskPipeline}.
+     */
+    public TaskPipeline getPipeline() {
+
+        return this.pipeline;
+    }
+
+    /**
+     * Retrieve the maximum amount of workers of this {@link TaskDispatcher}.
+     *
+     * @return The maximum amount of workers.
+     */
+    public int getConcurrency() {
+
+        return this.concurrency;
+    }
+
+    /**
+     * Check if this {@link TaskDispatcher} executes each {@link Task} on its own virtual thread.
+     *
+     * @return True if {@link Task}s run on virtual threads, false if they run on reused platform threads.
+     */
+    public boolean isVirtual() {
+
+        return this.virtual;
+    }
+
+    /**
+     * Retrieve the amount of workers currently running.
+     *
+     * @return The amount of running workers.
+     */
+    public int getActiveWorkers() {
+
+        return this.workers.get();
+    }
+
+    /**
+     * Notify this {@link TaskDispatcher} that some {@link Task} may be waiting. A worker will be started if the
+     * concurrency limit has not been reached yet.
+     */
+    public void wake() {
+
+        this.pending.set(true);
+        this.spawn();
+    }
+
+    /**
+     * Try to start a new worker.
+     *
+     * @return True if a worker has been started, false if the concurrency limit has been reached.
+     */
+    private boolean spawn() {
+
+        int current;
+        do {
+            current = this.workers.get();
+            if (current >= this.concurrency) {
+                return false;
+            }
+        } while (!this.workers.compareAndSet(current, current + 1));
+
+        try {
+            this.executor.execute(this::work);
+            return true;
+        } catch (RejectedExecutionException e) {
+            this.workers.decrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Claim the next {@link Task} of the pipeline, ensuring no other worker of this {@link TaskDispatcher} claims at
+     * the same time.
+     *
+     * @return An optional {@link Task}.
+     */
+    private Optional<Task> claim() {
+
+        this.claimLock.lock();
+        try {
+            // Any wake-up from now on will be seen by this claim or handled once the worker leaves.
+            this.pending.set(false);
+            return this.claimer.apply(this.pipeline);
+        } finally {
+            this.claimLock.unlock();
+        }
+    }
+
+    private void work() {
+
+        boolean handover = false;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Optional<Task> optionalTask = this.claim();
+                if (optionalTask.isEmpty()) {
+                    break;
+                }
+
+                // There was something to do, there might be more: let another worker join.
+                this.spawn();
+                this.runner.accept(optionalTask.get());
+
+                if (this.virtual) {
+                    // Virtual threads are not reused: a fresh one will claim the next task.
+                    handover = true;
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("[{}] Worker stopped unexpectedly.", this.pipeline, e);
+        } finally {
+            this.workers.decrementAndGet();
+        }
+
+        if (handover || this.pending.get()) {
+            this.spawn();
+        }
+    }
+
+    /**
+     * Stop accepting new work, wait for running {@link Task}s to complete for a short amount of time and then
+     * interrupt the remaining ones.
+     */
+    @Override
+    public void close() {
+
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                LOGGER.warn("[{}] Some tasks are still running, interrupting them.", this.pipeline);
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.domain.enums.TaskStatus;
+import fr.anisekai.server.repositories.TaskRepository;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the size of the task table, per {@link TaskStatus}, along with the state of the
+ * {@link TaskRetention} job.
+ */
+@Component
+@Endpoint(id = "tasks")
+public class TaskEndpoint {
+
+    private final TaskRepository repository;
+    private final TaskRetention  retention;
+
+    public TaskEndpoint(TaskRepository repository, TaskRetention retention) {
+
+        this.repository = repository;
+        this.retention  = retention;
+    }
+
+    /**
+     * Count the {@link Task}s of each {@link TaskStatus}, and report on the retention job.
+     *
+     * @return A {@link Map} describing the task table.
+     */
+    @ReadOperation
+    public Map<String, Object> tasks() {
+
+        Map<TaskStatus, Long> statuses = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            statuses.put(status, 0L);
+        }
+        for (Object[] row : this.repository.countGroupByStatus()) {
+            statuses.put((TaskStatus) row[0], (Long) row[1]);
+        }
+
+        Map<String, Object> retention = new LinkedHashMap<>();
+        retention.put("archived", this.repository.countArchived());
+        retention.put("lastRun", this.retention.getLastRun());
+        retention.put("lastPurged", this.retention.getLastPurged());
+        retention.put("totalArchived", this.retention.getTotalArchived());
+        retention.put("totalPurged", this.retention.getTotalPurged());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statuses", statuses);
+        result.put("retention", retention);
+        return result;
+    }
+
+}
@@ -0,0 +1,201 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Handle on a {@link Task} currently being executed by a worker of this node.
+ * <p>
+ * Interrupting an execution is cooperative: the {@link TaskExecutor} is first asked to {@link TaskExecutor#cancel()}
+ * whatever it is waiting on (an external process for example), then the worker thread is interrupted so any blocking
+ * call gives up. An execution can only be interrupted once, and never after it has {@link #finish() finished}, so that
+ * the interruption cannot leak onto the next {@link Task} run by the same worker.
+ */
+public class TaskExecution {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(TaskExecution.class);
+
+    /**
+     * Reason for which an execution has been interrupted.
+     */
+    public enum Interruption {
+
+        /**
+         * The {@link Task} did not complete before its deadline.
+         */
+        TIMEOUT,
+
+        /**
+         * The {@link Task} has been canceled by a user.
+         */
+        CANCELED
+
+    }
+
+    private final Task         task;
+    private final Thread       thread;
+    private final Instant      deadline;
+    private final TaskProgress progress;
+
+    private TaskExecutor executor;
+    private Interruption interruption;
+    private boolean      finished;
+
+    /**
+     * Create a new {@link TaskExecution} for a {@link Task} run by the current thread.
+     *
+     * @param task
+     *         The {@link Task} being executed.
+     * @param timeout
+     *         The maximum execution time of the {@link Task}. A zero or negative {@link Duration} means no deadline.
+     */
+    public TaskExecution(Task task, Duration timeout) {
+
+        this(task, timeout, snapshot -> {});
+    }
+
+    /**
+     * Create a new {@link TaskExecution} for a {@link Task} run by the current thread.
+     *
+     * @param task
+     *         The {@link Task} being executed.
+     * @param timeout
+     *         The maximum execution time of the {@link Task}. A zero or negative {@link Duration} means no deadline.
+     * @param publisher
+     *         The {@link Consumer} receiving the throttled progress of the {@link Task}.
+     */
+    public TaskExecution(Task task, Duration timeout, Consumer<TaskProgress.Snapshot> publisher) {
+
+        Instant now = Instant.now();
+
+        this.task     = task;
+        this.thread   = Thread.currentThread();
+        this.deadline = timeout.isPositive() ? now.plus(timeout) : null;
+        this.progress = new TaskProgress(now, TaskProgress.DEFAULT_THROTTLE, publisher);
+    }
+
+    /**
+     * Retrieve the {@link Task} being executed.
+     *
+     * @return A {@link Task}.
+     */
+    public Task getTask() {
+
+        return this.task;
+    }
+
+    /**
+     * Retrieve the {@link TaskProgress} of the {@link Task} being executed.
+     *
+     * @return A {@link TaskProgress}.
+     */
+    public TaskProgress getProgress() {
+
+        return this.progress;
+    }
+
+    /**
+     * Retrieve the {@link Instant} after which this execution will be interrupted.
+     *
+     * @return An optional {@link Instant}, empty if the execution has no deadline.
+     */
+    public Optional<Instant> getDeadline() {
+
+        return Optional.ofNullable(this.deadline);
+    }
+
+    /**
+     * Check if this execution has gone past its deadline.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     *
+     * @return True if the deadline has been exceeded, false otherwise.
+     */
+    public boolean isOverdue(Instant now) {
+
+        return this.deadline != null && now.isAfter(this.deadline);
+    }
+
+    /**
+     * Attach the {@link TaskExecutor} running the {@link Task}, providing it with the {@link TaskProgress}. If the
+     * execution has already been interrupted, the {@link TaskExecutor} is canceled right away.
+     *
+     * @param executor
+     *         The {@link TaskExecutor}.
+     */
+    public synchronized void attach(TaskExecutor executor) {
+
+        this.executor = executor;
+        executor.setProgress(this.progress);
+
+        if (this.interruption != null) {
+            this.cancelExecutor();
+        }
+    }
+
+    /**
+     * Interrupt this execution.
+     *
+     * @param interruption
+     *         The reason of the interruption.
+     *
+     * @return True if the execution has been interrupted, false if it already was or if it has already finished.
+     */
+    public synchronized boolean interrupt(Interruption interruption) {
+
+        if (this.finished || this.interruption != null) {
+            return false;
+        }
+
+        this.interruption = interruption;
+        this.cancelExecutor();
+        this.thread.interrupt();
+        return true;
+    }
+
+    /**
+     * Retrieve the reason for which this execution has been interrupted.
+     *
+     * @return An optional {@link Interruption}, empty if the execution has not been interrupted.
+     */
+    public synchronized Optional<Interruption> getInterruption() {
+
+        return Optional.ofNullable(this.interruption);
+    }
+
+    /**
+     * Mark this execution as finished, preventing any further interruption. This must be called by the thread which
+     * created the {@link TaskExecution}, and clears its interrupted flag if the interruption came from this
+     * {@link TaskExecution}.
+     */
+    public synchronized void finish() {
+
+        this.finished = true;
+
+        if (this.interruption != null) {
+            //noinspection ResultOfMethodCallIgnored
+            Thread.interrupted();
+        }
+    }
+
+    private void cancelExecutor() {
+
+        if (this.executor == null) {
+            return;
+        }
+
+        try {
+            this.executor.cancel();
+        } catch (Exception e) {
+            LOGGER.warn("[{}] Could not cancel the task executor.", this.task.getName(), e);
+        }
+    }
+
+}
@@ -1,37 +1,43 @@
 package fr.anisekai.server.tasking;
 
-import fr.anisekai.core.internal.json.AnisekaiJson;
-import fr.anisekai.core.internal.json.validation.JsonObjectRule;
 import fr.anisekai.core.internal.sentry.ITimedAction;
 
 public interface TaskExecutor {
 
     String OPTION_PRIORITY = "priority";
 
-    /**
-     * Check if the executor can find the required content in the provide {@link AnisekaiJson} for its execution.
-     *
-     * @param params
-     *         A {@link AnisekaiJson}
-     */
-    default void validateParams(AnisekaiJson params) {
-
-        params.validate(
-                new JsonObjectRule(OPTION_PRIORITY, true, Integer.class, int.class)
-        );
-    }
-
     /**
      * Run this task.
      *
      * @param timer
      *         The timer to use to mesure performance of the task.
      * @param params
-     *         The parameters of this task.
+     *         The parameters of this task, already validated against {@link TaskFactory#getArgumentCodec()}.
      *
      * @throws Exception
      *         Thew if something happens.
      */
-    void execute(ITimedAction timer, AnisekaiJson params) throws Exception;
+    void execute(ITimedAction timer, TaskArguments params) throws Exception;
+
+    /**
+     * Provide the {@link TaskProgress} this task can report its progress to. This is called once, right before
+     * {@link #execute(ITimedAction, TaskArguments)}. Long-running executors should keep it and report their progress
+     * as they go, so that operators can follow them.
+     *
+     * @param progress
+     *         The {@link TaskProgress} of the running task.
+     */
+    default void setProgress(TaskProgress progress) {
+
+    }
+
+    /**
+     * Stop whatever this task is waiting on. This is called from another thread when the task is canceled or exceeds
+     * its deadline, right before its worker thread is interrupted. Executors relying on external processes should
+     * terminate them here, as interrupting the thread waiting for them does not stop them.
+     */
+    default void cancel() {
+
+    }
 
 }
@@ -2,8 +2,10 @@ package fr.anisekai.server.tasking;
 
 import fr.anisekai.server.domain.entities.Task;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.text.html.parser.Entity;
+import java.time.Duration;
 
 public interface TaskFactory<T extends TaskExecutor> {
 
@@ -21,6 +23,17 @@ public interface TaskFactory<T extends TaskExecutor> {
      */
     @NotNull T create();
 
+    /**
+     * Retrieve the schema of the arguments of the {@link Task}s created by this {@link TaskFactory}. Arguments are
+     * validated against it when the {@link Task} is queued, and stored in its compact binary form.
+     *
+     * @return The {@link TaskArgumentCodec}.
+     */
+    default TaskArgumentCodec getArgumentCodec() {
+
+        return TaskArgumentCodec.DEFAULT;
+    }
+
     /**
      * Check if this {@link TaskFactory} allows multiple {@link Task} with the same {@link Task#getName()}.
      *
@@ -39,4 +52,51 @@ public interface TaskFactory<T extends TaskExecutor> {
      */
     boolean hasNamedTask();
 
+    /**
+     * Retrieve the coalescing window of this {@link TaskFactory}. When positive, queuing the same named {@link Task}
+     * multiple times within this window will result in a single {@link Task} being queued once the window ends after
+     * the last queuing. This only applies to {@link TaskFactory} that do not allow duplicates.
+     *
+     * @return The debounce window, {@link Duration#ZERO} to queue {@link Task}s immediately.
+     */
+    default Duration debounce() {
+
+        return Duration.ZERO;
+    }
+
+    /**
+     * Retrieve the delay before retrying a failed {@link Task} for the first time. The delay doubles after each
+     * consecutive failure, see {@link TaskBackoff}.
+     *
+     * @return The base retry delay.
+     */
+    default Duration retryDelay() {
+
+        return TaskBackoff.DEFAULT_DELAY;
+    }
+
+    /**
+     * Retrieve the maximum execution time of a {@link Task} created by this {@link TaskFactory}. Once exceeded, the
+     * {@link Task} is interrupted and counted as a failure. {@link TaskFactory}s whose {@link Task}s may hang on an
+     * external resource are expected to override it with a value matching their workload.
+     *
+     * @return The execution timeout, {@link Duration#ZERO} to let {@link Task}s run for as long as they need.
+     */
+    default Duration timeout() {
+
+        return Duration.ZERO;
+    }
+
+    /**
+     * Retrieve the rate bucket of the external service targeted by the {@link Task}s of this {@link TaskFactory}, such
+     * as a Discord channel or the guild scheduled events. {@link Task}s sharing a bucket do not run concurrently, so
+     * that a rate-limited bucket only holds a single worker while the others keep being served.
+     *
+     * @return The rate bucket, or {@code null} if the {@link Task}s are not subject to any rate limit.
+     */
+    default @Nullable String rateBucket() {
+
+        return null;
+    }
+
 }
@@ -0,0 +1,224 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import fr.anisekai.server.exceptions.task.FactoryAlreadyRegisteredException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Registry of every {@link TaskFactory} and the {@link TaskPipeline} it has been registered into.
+ * <p>
+ * {@link TaskFactory}s register themselves while the application starts, after which the registry is frozen and any
+ * further registration fails. Every registration rebuilds immutable indexes by name, by class and by
+ * {@link TaskPipeline}, so that lookups, which happen on every queued {@link Task} and every entity event, are plain
+ * map accesses without locking nor allocation.
+ */
+public class TaskFactoryRegistry {
+
+    /**
+     * Immutable indexes of the registered {@link TaskFactory}s.
+     */
+    private record Indexes(
+            Map<String, TaskFactory<?>> byName,
+            Map<Class<?>, TaskFactory<?>> byClass,
+            Map<String, TaskPipeline> pipelines,
+            Map<TaskPipeline, List<TaskFactory<?>>> byPipeline,
+            Map<TaskPipeline, List<String>> namesByPipeline,
+            Map<String, Set<TaskPipeline>> bucketPipelines
+    ) {
+
+        private static final Indexes EMPTY = new Indexes(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    }
+
+    private final    Map<TaskFactory<?>, TaskPipeline> registrations = new LinkedHashMap<>();
+    private volatile Indexes                           indexes       = Indexes.EMPTY;
+    private          boolean                           frozen        = false;
+
+    /**
+     * Register the provided {@link TaskFactory} into the provided {@link TaskPipeline}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} into which the {@link TaskFactory} will be registered.
+     * @param factory
+     *         The {@link TaskFactory} to register.
+     *
+     * @throws FactoryAlreadyRegisteredException
+     *         If the {@link TaskFactory}, or another one with the same name, has already been registered.
+     * @throws IllegalStateException
+     *         If the registry has been frozen.
+     */
+    public synchronized void register(@NotNull TaskPipeline pipeline, @NotNull TaskFactory<?> factory) {
+
+        if (this.frozen) {
+            throw new IllegalStateException("Tried to register the factory " + factory.getName() + " after startup.");
+        }
+
+        for (Map.Entry<TaskFactory<?>, TaskPipeline> entry : this.registrations.entrySet()) {
+            TaskFactory<?> registered = entry.getKey();
+            if (registered == factory || registered.getName().equals(factory.getName())) {
+                throw new FactoryAlreadyRegisteredException(entry.getValue(), factory);
+            }
+        }
+
+        this.registrations.put(factory, pipeline);
+        this.indexes = this.index();
+    }
+
+    /**
+     * Prevent any further registration. This must be called once the application has started.
+     */
+    public synchronized void freeze() {
+
+        this.frozen = true;
+    }
+
+    /**
+     * Check if this registry has been frozen.
+     *
+     * @return True if no more {@link TaskFactory} can be registered, false otherwise.
+     */
+    public synchronized boolean isFrozen() {
+
+        return this.frozen;
+    }
+
+    /**
+     * Retrieve the {@link TaskFactory} of the provided class.
+     *
+     * @param factoryClass
+     *         Class of the {@link TaskFactory}.
+     * @param <T>
+     *         Type of the {@link TaskFactory}
+     *
+     * @return A {@link TaskFactory} instance, or {@code null} if none has been registered with this class. If several
+     *         {@link TaskFactory}s share the class, the first registered one is returned.
+     */
+    public <T extends TaskFactory<?>> @Nullable T getByClass(@NotNull Class<T> factoryClass) {
+
+        return factoryClass.cast(this.indexes.byClass().get(factoryClass));
+    }
+
+    /**
+     * Retrieve the {@link TaskFactory} with the provided name.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory}.
+     *
+     * @return A {@link TaskFactory} instance, or {@code null} if none has been registered with this name.
+     */
+    public @Nullable TaskFactory<?> getByName(String factoryName) {
+
+        return this.indexes.byName().get(factoryName);
+    }
+
+    /**
+     * Retrieve the {@link TaskPipeline} into which the {@link TaskFactory} with the provided name has been registered.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory}.
+     *
+     * @return A {@link TaskPipeline}, or {@code null} if no {@link TaskFactory} has been registered with this name.
+     */
+    public @Nullable TaskPipeline getPipeline(String factoryName) {
+
+        return this.indexes.pipelines().get(factoryName);
+    }
+
+    /**
+     * Retrieve the {@link TaskPipeline} into which the provided {@link TaskFactory} has been registered.
+     *
+     * @param factory
+     *         The {@link TaskFactory}.
+     *
+     * @return A {@link TaskPipeline}, or {@code null} if this {@link TaskFactory} has not been registered.
+     */
+    public @Nullable TaskPipeline getPipeline(TaskFactory<?> factory) {
+
+        Indexes current = this.indexes;
+        // Another instance sharing the name of a registered factory is not registered itself.
+        return current.byName().get(factory.getName()) == factory ? current.pipelines().get(factory.getName()) : null;
+    }
+
+    /**
+     * Retrieve every {@link TaskFactory} registered into the provided {@link TaskPipeline}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline}.
+     *
+     * @return An immutable {@link List} of {@link TaskFactory}.
+     */
+    public List<TaskFactory<?>> getFactories(TaskPipeline pipeline) {
+
+        return this.indexes.byPipeline().getOrDefault(pipeline, List.of());
+    }
+
+    /**
+     * Retrieve the name of every {@link TaskFactory} registered into the provided {@link TaskPipeline}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline}.
+     *
+     * @return An immutable {@link List} of {@link TaskFactory} names.
+     */
+    public List<String> getFactoryNames(TaskPipeline pipeline) {
+
+        return this.indexes.namesByPipeline().getOrDefault(pipeline, List.of());
+    }
+
+    /**
+     * Retrieve every {@link TaskPipeline} holding at least one {@link TaskFactory} targeting the provided rate bucket.
+     *
+     * @param bucket
+     *         The rate bucket, see {@link TaskFactory#rateBucket()}.
+     *
+     * @return An immutable {@link Set} of {@link TaskPipeline}.
+     */
+    public Set<TaskPipeline> getPipelinesOfBucket(String bucket) {
+
+        return this.indexes.bucketPipelines().getOrDefault(bucket, Set.of());
+    }
+
+    private Indexes index() {
+
+        Map<String, TaskFactory<?>>             byName          = new HashMap<>();
+        Map<Class<?>, TaskFactory<?>>           byClass         = new HashMap<>();
+        Map<String, TaskPipeline>               pipelines       = new HashMap<>();
+        Map<TaskPipeline, List<TaskFactory<?>>> byPipeline      = new EnumMap<>(TaskPipeline.class);
+        Map<TaskPipeline, List<String>>         namesByPipeline = new EnumMap<>(TaskPipeline.class);
+        Map<String, Set<TaskPipeline>>          bucketPipelines = new HashMap<>();
+
+        for (Map.Entry<TaskFactory<?>, TaskPipeline> entry : this.registrations.entrySet()) {
+            TaskFactory<?> factory  = entry.getKey();
+            TaskPipeline   pipeline = entry.getValue();
+
+            byName.put(factory.getName(), factory);
+            byClass.putIfAbsent(factory.getClass(), factory);
+            pipelines.put(factory.getName(), pipeline);
+            byPipeline.computeIfAbsent(pipeline, key -> new ArrayList<>()).add(factory);
+            namesByPipeline.computeIfAbsent(pipeline, key -> new ArrayList<>()).add(factory.getName());
+
+            String bucket = factory.rateBucket();
+            if (bucket != null) {
+                bucketPipelines.computeIfAbsent(bucket, key -> EnumSet.noneOf(TaskPipeline.class)).add(pipeline);
+            }
+        }
+
+        byPipeline.replaceAll((pipeline, factories) -> List.copyOf(factories));
+        namesByPipeline.replaceAll((pipeline, names) -> List.copyOf(names));
+        bucketPipelines.replaceAll((bucket, targets) -> Collections.unmodifiableSet(targets));
+
+        return new Indexes(
+                Map.copyOf(byName),
+                Map.copyOf(byClass),
+                Map.copyOf(pipelines),
+                Collections.unmodifiableMap(byPipeline),
+                Collections.unmodifiableMap(namesByPipeline),
+                Map.copyOf(bucketPipelines)
+        );
+    }
+
+}
@@ -0,0 +1,144 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Micrometer instrumentation of the task pipelines.
+ * <p>
+ * Execution times and outcomes are recorded per {@link TaskFactory}, while backlog gauges are exposed per
+ * {@link TaskPipeline}. Backlog gauges are read from the {@link TaskReadyQueue} of each {@link TaskPipeline}, so
+ * scraping them never hits the database.
+ */
+public class TaskMetrics {
+
+    public static final String EXECUTION  = "anisekai.task.execution";
+    public static final String OUTCOME    = "anisekai.task.outcome";
+    public static final String DEPTH      = "anisekai.task.queue.depth";
+    public static final String OLDEST_AGE = "anisekai.task.queue.oldest.age";
+    public static final String WORKERS    = "anisekai.task.workers.active";
+
+    /**
+     * Outcome of a {@link Task} execution.
+     */
+    public enum Outcome {
+
+        /**
+         * The {@link Task} has been executed successfully.
+         */
+        SUCCEEDED,
+
+        /**
+         * The {@link Task} failed and has been scheduled again.
+         */
+        RETRIED,
+
+        /**
+         * The {@link Task} failed for good.
+         */
+        FAILED,
+
+        /**
+         * The {@link Task} has been canceled while running.
+         */
+        CANCELED;
+
+        private final String tag = this.name().toLowerCase();
+
+    }
+
+    private final MeterRegistry registry;
+
+    /**
+     * Create a new {@link TaskMetrics}.
+     *
+     * @param registry
+     *         The {@link MeterRegistry} into which meters will be registered.
+     */
+    public TaskMetrics(MeterRegistry registry) {
+
+        this.registry = registry;
+    }
+
+    /**
+     * Expose the amount of running workers of the provided {@link TaskDispatcher}.
+     *
+     * @param dispatcher
+     *         The {@link TaskDispatcher} to monitor.
+     */
+    public void monitor(TaskDispatcher dispatcher) {
+
+        Gauge.builder(WORKERS, dispatcher, TaskDispatcher::getActiveWorkers)
+             .description("Amount of workers currently running tasks")
+             .tag("pipeline", dispatcher.getPipeline().name().toLowerCase())
+             .register(this.registry);
+    }
+
+    /**
+     * Record the execution of a {@link Task}.
+     *
+     * @param factoryName
+     *         The name of the {@link TaskFactory} of the {@link Task}.
+     * @param duration
+     *         The time spent executing the {@link Task}.
+     * @param outcome
+     *         The {@link Outcome} of the execution.
+     */
+    public void recordExecution(String factoryName, Duration duration, Outcome outcome) {
+
+        Timer.builder(EXECUTION)
+             .description("Execution time of tasks")
+             .tag("factory", factoryName)
+             .tag("outcome", outcome.tag)
+             .publishPercentileHistogram()
+             .register(this.registry)
+             .record(duration);
+
+        Counter.builder(OUTCOME)
+               .description("Amount of executed tasks, per outcome")
+               .tag("factory", factoryName)
+               .tag("outcome", outcome.tag)
+               .register(this.registry)
+               .increment();
+    }
+
+    /**
+     * Expose the backlog of the provided {@link TaskPipeline}, as held by its {@link TaskReadyQueue}.
+     *
+     * @param pipeline
+     *         The {@link TaskPipeline} to monitor.
+     * @param queue
+     *         The {@link TaskReadyQueue} of the {@link TaskPipeline}.
+     */
+    public void monitor(TaskPipeline pipeline, TaskReadyQueue queue) {
+
+        String tag = pipeline.name().toLowerCase();
+
+        Gauge.builder(DEPTH, queue, source -> source.countReady(Instant.now()))
+             .description("Amount of tasks ready to be executed")
+             .tag("pipeline", tag)
+             .register(this.registry);
+
+        Gauge.builder(OLDEST_AGE, queue, TaskMetrics::getOldestAge)
+             .description("Time spent waiting by the oldest ready task")
+             .baseUnit("seconds")
+             .tag("pipeline", tag)
+             .register(this.registry);
+    }
+
+    private static double getOldestAge(TaskReadyQueue queue) {
+
+        Instant now = Instant.now();
+        return queue.findOldestReadySince(now)
+                    .map(readySince -> Math.max(0, Duration.between(readySince, now).toSeconds()))
+                    .orElse(0L);
+    }
+
+}
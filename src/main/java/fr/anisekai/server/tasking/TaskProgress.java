@@ -0,0 +1,131 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.utils.StringUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Progress channel of a {@link Task} being executed, see {@link TaskExecutor#setProgress(TaskProgress)}.
+ * <p>
+ * Each report updates the in-memory {@link Snapshot} right away, and estimates the remaining time by extrapolating the
+ * time spent so far. Snapshots are only published, to be persisted for example, once every throttle interval, so that
+ * an executor can report as often as it wants without flooding the database. The final report ({@code 1.0}) is always
+ * published.
+ */
+public class TaskProgress {
+
+    /**
+     * Minimum time between two published {@link Snapshot}s.
+     */
+    public static final Duration DEFAULT_THROTTLE = Duration.ofSeconds(15);
+
+    /**
+     * Maximum length of a progress message, longer ones are truncated.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 255;
+
+    /**
+     * State of a {@link Task} progress at a given time.
+     *
+     * @param progress
+     *         The completion ratio of the {@link Task}, between {@code 0} and {@code 1}.
+     * @param message
+     *         A short description of what the {@link Task} is doing.
+     * @param estimatedEndAt
+     *         The {@link Instant} at which the {@link Task} should be done, or {@code null} if it cannot be estimated
+     *         yet.
+     * @param updatedAt
+     *         The {@link Instant} at which the progress has been reported.
+     */
+    public record Snapshot(double progress, @Nullable String message, @Nullable Instant estimatedEndAt, Instant updatedAt) {}
+
+    private final Instant            startedAt;
+    private final Duration           throttle;
+    private final Consumer<Snapshot> publisher;
+
+    private volatile Snapshot snapshot;
+    private          Instant  publishedAt;
+
+    /**
+     * Create a new {@link TaskProgress}.
+     *
+     * @param startedAt
+     *         The {@link Instant} at which the {@link Task} started, used to estimate its end.
+     * @param throttle
+     *         The minimum time between two published {@link Snapshot}s.
+     * @param publisher
+     *         The {@link Consumer} receiving the published {@link Snapshot}s.
+     */
+    public TaskProgress(Instant startedAt, Duration throttle, Consumer<Snapshot> publisher) {
+
+        this.startedAt = startedAt;
+        this.throttle  = throttle;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Report the progress of the {@link Task}.
+     *
+     * @param progress
+     *         The completion ratio of the {@link Task}, between {@code 0} and {@code 1}. Values out of this range are
+     *         clamped.
+     * @param message
+     *         A short description of what the {@link Task} is doing.
+     */
+    public void report(double progress, @Nullable String message) {
+
+        this.report(progress, message, Instant.now());
+    }
+
+    /**
+     * Report the progress of the {@link Task}.
+     *
+     * @param progress
+     *         The completion ratio of the {@link Task}, between {@code 0} and {@code 1}. Values out of this range are
+     *         clamped.
+     * @param message
+     *         A short description of what the {@link Task} is doing. It is truncated to {@link #MAX_MESSAGE_LENGTH}.
+     * @param now
+     *         The current {@link Instant}.
+     */
+    public synchronized void report(double progress, @Nullable String message, Instant now) {
+
+        if (Double.isNaN(progress)) {
+            throw new IllegalArgumentException("The progress must be a number.");
+        }
+
+        double   ratio   = Math.clamp(progress, 0, 1);
+        Duration elapsed = Duration.between(this.startedAt, now);
+        Instant  eta     = null;
+
+        if (ratio > 0 && elapsed.isPositive()) {
+            long remaining = (long) (elapsed.toMillis() * (1 - ratio) / ratio);
+            eta = now.plusMillis(remaining);
+        }
+
+        String text = message == null ? null : StringUtils.truncate(message, MAX_MESSAGE_LENGTH);
+        this.snapshot = new Snapshot(ratio, text, eta, now);
+
+        boolean due = this.publishedAt == null || !now.isBefore(this.publishedAt.plus(this.throttle));
+        if (due || ratio >= 1) {
+            this.publishedAt = now;
+            this.publisher.accept(this.snapshot);
+        }
+    }
+
+    /**
+     * Retrieve the last reported progress, published or not.
+     *
+     * @return An optional {@link Snapshot}, empty if nothing has been reported yet.
+     */
+    public Optional<Snapshot> getSnapshot() {
+
+        return Optional.ofNullable(this.snapshot);
+    }
+
+}
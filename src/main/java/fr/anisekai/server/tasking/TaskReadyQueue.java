@@ -0,0 +1,330 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory view of the scheduled {@link Task}s of a single {@link TaskPipeline}, used to pick the next {@link Task} to
+ * claim without querying the database.
+ * <p>
+ * The database stays the source of truth: the {@link Task} picked here must still be claimed there, and a failed claim
+ * simply means the entry was stale. The view is kept current by the {@link Task}s going through this node, and
+ * periodically reconciled with the database to catch up with changes made by other nodes.
+ * <p>
+ * Entries are grouped by rate bucket and base priority, each group being sorted by readiness. The head of a group is
+ * always the {@link Task} that waited the most, and thus has the highest effective priority of its group (see
+ * {@link TaskAging}). Picking the next {@link Task} only requires comparing the heads of each group, whose count is
+ * bounded by the amount of priorities and buckets in use, no matter the amount of scheduled {@link Task}s.
+ */
+public class TaskReadyQueue {
+
+    /**
+     * A scheduled {@link Task}, reduced to what is needed to order it.
+     *
+     * @param id
+     *         The id of the {@link Task}.
+     * @param factoryName
+     *         The name of the {@link TaskFactory} of the {@link Task}.
+     * @param priority
+     *         The base priority of the {@link Task}.
+     * @param readySince
+     *         The {@link Instant} from which the {@link Task} can be executed, see {@link TaskAging#getReadySince(Task)}.
+     */
+    public record Entry(long id, String factoryName, byte priority, Instant readySince) {
+
+        private static final Comparator<Entry> BY_READINESS = Comparator.comparing(Entry::readySince)
+                                                                        .thenComparingLong(Entry::id);
+
+        /**
+         * Create the {@link Entry} of the provided scheduled {@link Task}.
+         *
+         * @param task
+         *         The {@link Task}, which must have been saved.
+         *
+         * @return An {@link Entry}.
+         */
+        public static Entry of(Task task) {
+
+            Instant readySince = TaskAging.getReadySince(task);
+            return new Entry(
+                    task.getId(),
+                    task.getFactoryName(),
+                    task.getPriority(),
+                    readySince != null ? readySince : Instant.now()
+            );
+        }
+
+    }
+
+    private record Slot(Entry entry, @Nullable String bucket, long sequence) {}
+
+    private final Function<String, String>                             bucketResolver;
+    private final Map<Long, Slot>                                      slots    = new HashMap<>();
+    private final Map<String, NavigableMap<Byte, NavigableSet<Entry>>> groups   = new HashMap<>();
+    private       long                                                 sequence = 0;
+
+    /**
+     * Create a new {@link TaskReadyQueue}.
+     *
+     * @param bucketResolver
+     *         The {@link Function} giving the rate bucket of a {@link TaskFactory} from its name, see
+     *         {@link TaskFactory#rateBucket()}. It may return {@code null} for {@link Task}s without bucket.
+     */
+    public TaskReadyQueue(Function<String, String> bucketResolver) {
+
+        this.bucketResolver = bucketResolver;
+    }
+
+    /**
+     * Add the provided {@link Entry}, replacing any previous {@link Entry} of the same {@link Task}.
+     *
+     * @param entry
+     *         The {@link Entry} to add.
+     */
+    public synchronized void add(Entry entry) {
+
+        this.remove(entry.id());
+
+        String bucket = this.bucketResolver.apply(entry.factoryName());
+        this.slots.put(entry.id(), new Slot(entry, bucket, ++this.sequence));
+        this.groups.computeIfAbsent(bucket, key -> new TreeMap<>())
+                   .computeIfAbsent(entry.priority(), key -> new TreeSet<>(Entry.BY_READINESS))
+                   .add(entry);
+    }
+
+    /**
+     * Remove the {@link Entry} of the provided {@link Task}.
+     *
+     * @param id
+     *         The id of the {@link Task}.
+     *
+     * @return True if an {@link Entry} has been removed, false otherwise.
+     */
+    public synchronized boolean remove(long id) {
+
+        Slot slot = this.slots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+
+        NavigableMap<Byte, NavigableSet<Entry>> priorities = this.groups.get(slot.bucket());
+        NavigableSet<Entry>                     entries    = priorities.get(slot.entry().priority());
+        entries.remove(slot.entry());
+
+        if (entries.isEmpty()) {
+            priorities.remove(slot.entry().priority());
+        }
+        if (priorities.isEmpty()) {
+            this.groups.remove(slot.bucket());
+        }
+        return true;
+    }
+
+    /**
+     * Remove the {@link Entry} of every provided {@link Task}.
+     *
+     * @param ids
+     *         The ids of the {@link Task}s.
+     */
+    public synchronized void removeAll(Collection<Long> ids) {
+
+        ids.forEach(this::remove);
+    }
+
+    /**
+     * Remove and return the next {@link Entry} to claim: the ready {@link Task} with the highest effective priority,
+     * the one that waited the most, and then the one with the lowest id. This is the same order as
+     * {@link TaskAging#comparator(Instant, Duration)}.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     * @param interval
+     *         The time a {@link Task} must wait to gain one priority level.
+     * @param saturated
+     *         The {@link Predicate} telling if a rate bucket is saturated. {@link Task}s targeting a saturated bucket
+     *         are skipped.
+     *
+     * @return An optional {@link Entry}, empty if no {@link Task} can be claimed.
+     */
+    public synchronized Optional<Entry> poll(Instant now, Duration interval, Predicate<String> saturated) {
+
+        Entry best         = null;
+        long  bestPriority = Long.MIN_VALUE;
+
+        for (Map.Entry<String, NavigableMap<Byte, NavigableSet<Entry>>> group : this.groups.entrySet()) {
+            Entry candidate         = null;
+            long  candidatePriority = Long.MIN_VALUE;
+
+            for (NavigableSet<Entry> entries : group.getValue().values()) {
+                Entry head = entries.first();
+                if (head.readySince().isAfter(now)) {
+                    // Every other entry of the group is ready even later.
+                    continue;
+                }
+
+                long priority = TaskAging.getEffectivePriority(head.priority(), head.readySince(), now, interval);
+                if (candidate == null || isBefore(head, priority, candidate, candidatePriority)) {
+                    candidate         = head;
+                    candidatePriority = priority;
+                }
+            }
+
+            if (candidate == null || (best != null && !isBefore(candidate, candidatePriority, best, bestPriority))) {
+                continue;
+            }
+
+            // Only flag buckets as contended if they actually held back a ready task.
+            if (!saturated.test(group.getKey())) {
+                best         = candidate;
+                bestPriority = candidatePriority;
+            }
+        }
+
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        this.remove(best.id());
+        return Optional.of(best);
+    }
+
+    /**
+     * Mark the current state of this {@link TaskReadyQueue} before loading a snapshot of the scheduled {@link Task}s
+     * from the database, see {@link #reconcile(long, Collection)}.
+     *
+     * @return An opaque marker.
+     */
+    public synchronized long mark() {
+
+        return this.sequence;
+    }
+
+    /**
+     * Replace the content of this {@link TaskReadyQueue} with the provided snapshot of the scheduled {@link Task}s.
+     * Entries added since the provided marker are more recent than the snapshot, and are kept as-is.
+     *
+     * @param marker
+     *         The marker obtained with {@link #mark()} before loading the snapshot.
+     * @param snapshot
+     *         Every scheduled {@link Task} of the {@link TaskPipeline}.
+     */
+    public synchronized void reconcile(long marker, Collection<Entry> snapshot) {
+
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (Entry entry : snapshot) {
+            loaded.put(entry.id(), entry);
+        }
+
+        List<Long> stale = new ArrayList<>();
+        for (Slot slot : this.slots.values()) {
+            if (slot.sequence() <= marker) {
+                stale.add(slot.entry().id());
+            }
+        }
+        stale.forEach(this::remove);
+
+        for (Entry entry : loaded.values()) {
+            if (!this.slots.containsKey(entry.id())) {
+                this.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the amount of {@link Task}s currently held by this {@link TaskReadyQueue}, including the ones that are
+     * not ready yet.
+     *
+     * @return The amount of {@link Task}s.
+     */
+    public synchronized int size() {
+
+        return this.slots.size();
+    }
+
+    /**
+     * Count the {@link Task}s of this {@link TaskReadyQueue} that can be executed at the provided {@link Instant}.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     *
+     * @return The amount of ready {@link Task}s.
+     */
+    public synchronized int countReady(Instant now) {
+
+        // Sorts after every entry ready at the same instant, whatever its id.
+        Entry probe = new Entry(Long.MAX_VALUE, null, (byte) 0, now);
+        int   count = 0;
+
+        for (NavigableMap<Byte, NavigableSet<Entry>> priorities : this.groups.values()) {
+            for (NavigableSet<Entry> entries : priorities.values()) {
+                count += entries.headSet(probe, true).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieve the {@link Instant} from which the oldest ready {@link Task} of this {@link TaskReadyQueue} has been
+     * waiting.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     *
+     * @return An optional {@link Instant}, empty if no {@link Task} can be executed.
+     */
+    public synchronized Optional<Instant> findOldestReadySince(Instant now) {
+
+        Instant oldest = null;
+
+        for (NavigableMap<Byte, NavigableSet<Entry>> priorities : this.groups.values()) {
+            for (NavigableSet<Entry> entries : priorities.values()) {
+                Instant readySince = entries.first().readySince();
+                if (!readySince.isAfter(now) && (oldest == null || readySince.isBefore(oldest))) {
+                    oldest = readySince;
+                }
+            }
+        }
+        return Optional.ofNullable(oldest);
+    }
+
+    /**
+     * Retrieve the {@link Instant} from which the next {@link Task} of this {@link TaskReadyQueue} that is not ready yet
+     * can be executed.
+     *
+     * @param now
+     *         The current {@link Instant}.
+     *
+     * @return An optional {@link Instant}, empty if every {@link Task} is already ready.
+     */
+    public synchronized Optional<Instant> findNextReadySince(Instant now) {
+
+        Entry   probe = new Entry(Long.MAX_VALUE, null, (byte) 0, now);
+        Instant next  = null;
+
+        for (NavigableMap<Byte, NavigableSet<Entry>> priorities : this.groups.values()) {
+            for (NavigableSet<Entry> entries : priorities.values()) {
+                Entry delayed = entries.higher(probe);
+                if (delayed != null && (next == null || delayed.readySince().isBefore(next))) {
+                    next = delayed.readySince();
+                }
+            }
+        }
+        return Optional.ofNullable(next);
+    }
+
+    private static boolean isBefore(Entry entry, long priority, Entry other, long otherPriority) {
+
+        if (priority != otherPriority) {
+            return priority > otherPriority;
+        }
+        return Entry.BY_READINESS.compare(entry, other) < 0;
+    }
+
+}
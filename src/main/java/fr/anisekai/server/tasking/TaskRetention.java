@@ -0,0 +1,144 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.ApplicationConfiguration;
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.domain.enums.TaskStatus;
+import fr.anisekai.server.repositories.TaskRepository;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keep the task table small by removing {@link Task}s that reached a terminal state a long time ago.
+ * <p>
+ * {@link Task}s are processed in bounded batches, each batch being its own transaction, so that the job never holds
+ * locks on a large part of the table. Depending on the configuration, removed {@link Task}s are first copied into the
+ * archive table.
+ */
+@Component
+public class TaskRetention {
+
+    private final static Logger          LOGGER   = LoggerFactory.getLogger(TaskRetention.class);
+    private final static Set<TaskStatus> TERMINAL = EnumSet.of(TaskStatus.SUCCEEDED, TaskStatus.FAILED, TaskStatus.CANCELED);
+
+    private final TaskRepository                             repository;
+    private final ApplicationConfiguration.Tasking.Retention configuration;
+    private final TransactionTemplate                        transaction;
+
+    private final    AtomicLong totalArchived = new AtomicLong(0);
+    private final    AtomicLong totalPurged   = new AtomicLong(0);
+    private volatile Instant    lastRun       = null;
+    private volatile int        lastPurged    = 0;
+
+    public TaskRetention(TaskRepository repository, ApplicationConfiguration configuration, PlatformTransactionManager transactionManager) {
+
+        this.repository    = repository;
+        this.configuration = configuration.getTasking().getRetention();
+        this.transaction   = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Remove every terminal {@link Task} older than the configured retention.
+     *
+     * @return The amount of removed {@link Task}s.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public int run() {
+
+        if (!this.configuration.isEnabled()) {
+            return 0;
+        }
+
+        Instant before    = Instant.now().minus(this.configuration.getMaxAge());
+        int     batchSize = Math.max(1, this.configuration.getBatchSize());
+        int     purged    = 0;
+
+        LOGGER.info("Removing terminal tasks last updated before {}...", before);
+
+        while (true) {
+            Integer count = this.transaction.execute(status -> this.purgeBatch(before, batchSize));
+            if (count == null || count == 0) {
+                break;
+            }
+
+            purged += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        this.lastRun    = Instant.now();
+        this.lastPurged = purged;
+        LOGGER.info("Removed {} terminal task(s).", purged);
+        return purged;
+    }
+
+    private int purgeBatch(Instant before, int batchSize) {
+
+        List<Long> ids = this.repository.findIdsOlderThan(TERMINAL, before, Limit.of(batchSize));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        if (this.configuration.isArchive()) {
+            this.totalArchived.addAndGet(this.repository.archive(ids, Instant.now()));
+        }
+
+        int purged = this.repository.purge(ids);
+        this.totalPurged.addAndGet(purged);
+        return purged;
+    }
+
+    /**
+     * Retrieve the amount of {@link Task}s archived since the application started.
+     *
+     * @return The amount of archived {@link Task}s.
+     */
+    public long getTotalArchived() {
+
+        return this.totalArchived.get();
+    }
+
+    /**
+     * Retrieve the amount of {@link Task}s removed since the application started.
+     *
+     * @return The amount of removed {@link Task}s.
+     */
+    public long getTotalPurged() {
+
+        return this.totalPurged.get();
+    }
+
+    /**
+     * Retrieve the last time the retention job ran.
+     *
+     * @return An {@link Instant}, or {@code null} if the job did not run yet.
+     */
+    public @Nullable Instant getLastRun() {
+
+        return this.lastRun;
+    }
+
+    /**
+     * Retrieve the amount of {@link Task}s removed during the last run.
+     *
+     * @return The amount of removed {@link Task}s.
+     */
+    public int getLastPurged() {
+
+        return this.lastPurged;
+    }
+
+}
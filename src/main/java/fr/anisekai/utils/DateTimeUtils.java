@@ -67,6 +67,20 @@ public final class DateTimeUtils {
         return LocalDate.parse(date, DATE_FORMAT);
     }
 
+    /**
+     * Format the provided {@link Instant} as a time in the system timezone, in the same format as the one expected by
+     * {@link #parseTime(CharSequence)}.
+     *
+     * @param instant
+     *         The {@link Instant} to format.
+     *
+     * @return The formatted time.
+     */
+    public static String formatTime(Instant instant) {
+
+        return TIME_FORMAT.format(LocalTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
     /**
      * Create a {@link Instant} using provided time and date as string representation. Both arguments are optional and
      * will default to their current system value if not provided ({@link LocalTime#now()} and {@link LocalDate#now()}
@@ -0,0 +1,56 @@
+package fr.anisekai.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Utility class containing method related to the processes started by the application.
+ */
+public final class ProcessUtils {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(ProcessUtils.class);
+
+    private ProcessUtils() {}
+
+    /**
+     * Forcibly terminate every process started by the application whose command line references at least one of the
+     * provided {@link Path}s. This allows stopping an external binary (like ffmpeg) working on a specific file without
+     * affecting the ones started for other files.
+     *
+     * @param paths
+     *         The {@link Path}s the processes to terminate are working on.
+     *
+     * @return The amount of processes that have been terminated.
+     */
+    public static int destroyWorkingOn(Collection<Path> paths) {
+
+        if (paths.isEmpty()) {
+            return 0;
+        }
+
+        List<String> markers = paths.stream().map(Path::toString).toList();
+
+        List<ProcessHandle> targets = ProcessHandle
+                .current()
+                .descendants()
+                .filter(process -> process.info()
+                                          .commandLine()
+                                          .map(command -> markers.stream().anyMatch(command::contains))
+                                          .orElse(false))
+                .toList();
+
+        int destroyed = 0;
+        for (ProcessHandle process : targets) {
+            LOGGER.info("Terminating process {} ({}).", process.pid(), process.info().command().orElse("?"));
+            if (process.destroyForcibly()) {
+                destroyed++;
+            }
+        }
+        return destroyed;
+    }
+
+}
@@ -0,0 +1,78 @@
+package fr.anisekai.web.api;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.services.TaskService;
+import fr.anisekai.web.annotations.RequireAuth;
+import fr.anisekai.web.api.dto.TaskProgressDto;
+import fr.anisekai.web.exceptions.WebException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v3/tasks")
+public class TaskController {
+
+    private final TaskService service;
+
+    public TaskController(TaskService service) {
+
+        this.service = service;
+    }
+
+    @RequireAuth(allowGuests = false, requireAdmin = true)
+    @GetMapping("/executing")
+    @Operation(summary = "List executing tasks", description = "Retrieve every task currently executing, along with its latest reported progress.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "The executing tasks")
+    })
+    public ResponseEntity<List<TaskProgressDto>> getExecutingTasks() {
+
+        List<TaskProgressDto> tasks = this.service.getExecuting()
+                                                  .stream()
+                                                  .map(task -> TaskProgressDto.of(task, this.service.getProgress(task)))
+                                                  .toList();
+
+        return ResponseEntity.ok(tasks);
+    }
+
+    @RequireAuth(allowGuests = false, requireAdmin = true)
+    @GetMapping("/{taskId:[0-9]+}/progress")
+    @Operation(summary = "Get a task progress", description = "Retrieve the latest progress and estimated end of a task.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "The task progress"),
+            @ApiResponse(responseCode = "404", description = "The task does not exist")
+    })
+    public ResponseEntity<TaskProgressDto> getTaskProgress(@PathVariable long taskId) {
+
+        Task task = this.service.requireById(taskId);
+        return ResponseEntity.ok(TaskProgressDto.of(task, this.service.getProgress(task)));
+    }
+
+    @RequireAuth(allowGuests = false, requireAdmin = true)
+    @PostMapping("/{taskId:[0-9]+}/cancel")
+    @Operation(summary = "Cancel a task", description = "Cancel a scheduled task, or interrupt it if it is currently executing.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "The task has been canceled", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "The task is neither scheduled nor executing")
+    })
+    public ResponseEntity<Void> cancelTask(@PathVariable long taskId) {
+
+        if (!this.service.cancel(taskId)) {
+            throw new WebException(
+                    HttpStatus.CONFLICT,
+                    "Task " + taskId + " cannot be canceled.",
+                    "The task is neither scheduled nor executing."
+            );
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,38 @@
+package fr.anisekai.web.api.dto;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.domain.enums.TaskStatus;
+import fr.anisekai.server.tasking.TaskProgress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public record TaskProgressDto(
+        long id,
+        String factory,
+        String name,
+        TaskStatus status,
+        @Nullable Instant startedAt,
+        @Nullable Double progress,
+        @Nullable String message,
+        @Nullable Instant estimatedEndAt,
+        @Nullable Instant updatedAt
+) {
+
+    public static TaskProgressDto of(Task task, Optional<TaskProgress.Snapshot> snapshot) {
+
+        return new TaskProgressDto(
+                task.getId(),
+                task.getFactoryName(),
+                task.getName(),
+                task.getStatus(),
+                task.getStartedAt(),
+                snapshot.map(TaskProgress.Snapshot::progress).orElse(null),
+                snapshot.map(TaskProgress.Snapshot::message).orElse(null),
+                snapshot.map(TaskProgress.Snapshot::estimatedEndAt).orElse(null),
+                snapshot.map(TaskProgress.Snapshot::updatedAt).orElse(null)
+        );
+    }
+
+}
@@ -0,0 +1,2 @@
+ALTER TABLE `task`
+    ADD `next_attempt_at` DATETIME NULL AFTER `failure_count`;
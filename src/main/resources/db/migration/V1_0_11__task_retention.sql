@@ -0,0 +1,22 @@
+CREATE INDEX `idx_task_claim` ON `task` (`status`, `factory_name`, `priority`, `id`);
+
+CREATE INDEX `idx_task_name_status` ON `task` (`name`, `status`);
+
+CREATE INDEX `idx_task_status_updated_at` ON `task` (`status`, `updated_at`);
+
+CREATE TABLE `task_archive`
+(
+    `id`            BIGINT       NOT NULL,
+    `factory_name`  VARCHAR(255) NOT NULL,
+    `name`          VARCHAR(255) NOT NULL,
+    `status`        VARCHAR(255) NOT NULL,
+    `priority`      TINYINT      NOT NULL,
+    `arguments`     LONGTEXT     NULL,
+    `failure_count` TINYINT      NOT NULL,
+    `started_at`    DATETIME     NULL,
+    `completed_at`  DATETIME     NULL,
+    `created_at`    DATETIME     NOT NULL,
+    `updated_at`    DATETIME     NOT NULL,
+    `archived_at`   DATETIME     NOT NULL,
+    CONSTRAINT `pk_task_archive` PRIMARY KEY (`id`)
+);
@@ -0,0 +1,7 @@
+ALTER TABLE `task`
+    ADD `parent_id` BIGINT NULL AFTER `arguments`;
+
+CREATE INDEX `idx_task_parent` ON `task` (`parent_id`, `status`);
+
+ALTER TABLE `task_archive`
+    ADD `parent_id` BIGINT NULL AFTER `arguments`;
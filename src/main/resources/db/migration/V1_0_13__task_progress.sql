@@ -0,0 +1,11 @@
+ALTER TABLE `task`
+    ADD `progress` DOUBLE NULL AFTER `completed_at`;
+
+ALTER TABLE `task`
+    ADD `progress_message` VARCHAR(255) NULL AFTER `progress`;
+
+ALTER TABLE `task`
+    ADD `estimated_end_at` DATETIME NULL AFTER `progress_message`;
+
+ALTER TABLE `task`
+    ADD `progress_updated_at` DATETIME NULL AFTER `estimated_end_at`;
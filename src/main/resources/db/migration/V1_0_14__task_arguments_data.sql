@@ -0,0 +1,2 @@
+ALTER TABLE `task`
+    ADD `arguments_data` BLOB NULL AFTER `arguments`;
@@ -0,0 +1,5 @@
+ALTER TABLE `task`
+    ADD `lease_owner` VARCHAR(255) NULL AFTER `completed_at`;
+
+ALTER TABLE `task`
+    ADD `lease_expires_at` DATETIME NULL AFTER `lease_owner`;
@@ -17,10 +17,10 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -440,6 +440,91 @@ public class EventSchedulerTests {
         );
     }
 
+    /**
+     * Delay planning as done before the sweep-line, used as a reference: returns the ids to delay, or {@code null} if
+     * the delay conflicts.
+     */
+    private static Set<Integer> referenceDelay(List<TestWatchParty> state, Instant from, Duration interval, Duration delay) {
+
+        Instant to = from.plus(interval);
+
+        List<TestWatchParty> events = state.stream()
+                                           .filter(item -> !item.getStartingAt().isBefore(from))
+                                           .filter(item -> !item.getEndingAt().isAfter(to))
+                                           .toList();
+
+        List<TestWatchParty> temporaryState = state.stream().filter(item -> !events.contains(item)).toList();
+
+        boolean overlaps = events.stream().anyMatch(item -> temporaryState.stream().anyMatch(other -> {
+            Instant startingAt = item.getStartingAt().plus(delay);
+            Instant endingAt   = item.getEndingAt().plus(delay);
+            return startingAt.isBefore(other.getEndingAt()) && endingAt.isAfter(other.getStartingAt());
+        }));
+
+        if (overlaps) {
+            return null;
+        }
+
+        Set<Integer> ids = new HashSet<>();
+        events.forEach(item -> ids.add(item.getId()));
+        return ids;
+    }
+
+    private static Set<Integer> delayedIds(Scheduler<TestWatchTarget, TestWatchParty, Integer> scheduler, Instant from,
+                                           Duration interval, Duration delay) {
+
+        try {
+            Set<Integer> ids = new HashSet<>();
+            for (SchedulingAction<Integer> action : scheduler.delay(from, interval, delay).getActions()) {
+                ids.add(((SchedulingAction.UpdateAction<Integer>) action).targetId());
+            }
+            return ids;
+        } catch (DelayOverlapException e) {
+            return null;
+        }
+    }
+
+    @Test
+    @DisplayName("Scheduler | Delaying - Matches Reference")
+    public void testDelayMatchesReference() {
+
+        Random            random  = new Random(20);
+        TestWatchTarget[] targets = {
+                new TestWatchTarget(0, 12, 24),
+                new TestWatchTarget(0, 12, 45),
+                new TestWatchTarget(0, 12, 0)
+        };
+
+        int conflicts = 0;
+        for (int run = 0; run < 2_000; run++) {
+            List<TestWatchParty> state = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                TestWatchParty party = new TestWatchParty(
+                        targets[random.nextInt(targets.length)],
+                        TestData.BASE_DATETIME.plus(random.nextInt(96) * 30L, ChronoUnit.MINUTES),
+                        1 + random.nextInt(4),
+                        1
+                );
+                // Skipping is left out of empty events, as it would give them a negative duration.
+                party.setSkipEnabled(party.getWatchTarget().getEpisodeDuration() > 0 && random.nextBoolean());
+                state.add(party);
+            }
+
+            Instant  from     = TestData.BASE_DATETIME.plus(random.nextInt(96) * 30L, ChronoUnit.MINUTES);
+            Duration interval = Duration.ofMinutes(random.nextInt(-2, 24) * 30L);
+            Duration delay    = Duration.ofMinutes(random.nextInt(-60, 60) * 6L);
+
+            Set<Integer> expected = referenceDelay(state, from, interval, delay);
+            Set<Integer> actual   = delayedIds(new EventScheduler<>(state, TestWatchParty::getId), from, interval, delay);
+
+            assertEquals(expected, actual, "Delay differs from the reference on run " + run);
+            conflicts += expected == null ? 1 : 0;
+        }
+
+        // Make sure both outcomes have been covered.
+        assertTrue(conflicts > 100 && conflicts < 1_900, "Unbalanced samples: " + conflicts + " conflicts.");
+    }
+
     @Test
     @DisplayName("Scheduler | Calibration - Raw")
     public void testCalibrationUpstreamRaw() {
@@ -546,6 +631,146 @@ public class EventSchedulerTests {
         assertEquals(1, mockParty.getEpisodeCount(), "Episode count should be shrunk to 1 to fit total.");
     }
 
+    /**
+     * Calibration as done before partitioning by watch target, used as a reference.
+     */
+    private static SchedulingPlan<Integer> referenceCalibrate(Collection<TestWatchParty> state) {
+
+        SchedulingPlan<Integer> plan = new SchedulingPlan<>();
+
+        Map<TestWatchTarget, Integer> targetMaxEpisode = state
+                .stream()
+                .map(ScheduleSpotData::getWatchTarget)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), WatchTarget::getTotal));
+
+        Map<TestWatchTarget, Integer> targetProgression = state
+                .stream()
+                .map(ScheduleSpotData::getWatchTarget)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), WatchTarget::getWatched));
+
+        List<TestWatchParty> sorted = state.stream().sorted(Comparator.comparing(ScheduleSpotData::getStartingAt)).toList();
+
+        for (TestWatchParty event : sorted) {
+            int maxEpisode  = Math.abs(targetMaxEpisode.get(event.getWatchTarget()));
+            int progression = targetProgression.get(event.getWatchTarget());
+
+            boolean correctFirstEpisode = event.getFirstEpisode() == progression + 1;
+            boolean correctEpisodeCount = (event.getFirstEpisode() + event.getEpisodeCount()) - 1 <= maxEpisode;
+
+            int fixedFirstEpisode = progression + 1;
+            int fixedEpisodeCount = Math.min(maxEpisode - progression, event.getEpisodeCount());
+
+            if (fixedFirstEpisode > maxEpisode) {
+                plan.addAction(new SchedulingAction.DeleteAction<>(event.getId()));
+                continue;
+            }
+
+            if (!correctEpisodeCount || !correctFirstEpisode) {
+                plan.addAction(new SchedulingAction.UpdateAction<>(
+                        event.getId(), item -> {
+                    item.setFirstEpisode(fixedFirstEpisode);
+                    item.setEpisodeCount(fixedEpisodeCount);
+                }
+                ));
+            }
+
+            targetProgression.put(event.getWatchTarget(), fixedFirstEpisode + fixedEpisodeCount - 1);
+        }
+
+        return plan;
+    }
+
+    /**
+     * Describe every action of the provided calibration plan, applying update hooks to a copy of their target.
+     */
+    private static List<String> describe(SchedulingPlan<Integer> plan, Map<Integer, TestWatchParty> parties) {
+
+        List<String> descriptions = new ArrayList<>(plan.getActions().size());
+        for (SchedulingAction<Integer> action : plan.getActions()) {
+            switch (action) {
+                case SchedulingAction.UpdateAction<Integer> update -> {
+                    TestWatchParty source = parties.get(update.targetId());
+                    TestWatchParty copy   = new TestWatchParty(
+                            source.getWatchTarget(),
+                            source.getStartingAt(),
+                            source.getEpisodeCount(),
+                            source.getFirstEpisode()
+                    );
+                    update.updateHook().accept(copy);
+                    descriptions.add(String.format(
+                            "update %s: %s+%s",
+                            update.targetId(),
+                            copy.getFirstEpisode(),
+                            copy.getEpisodeCount()
+                    ));
+                }
+                case SchedulingAction.DeleteAction<Integer> delete -> descriptions.add("delete " + delete.targetId());
+                case SchedulingAction.CreateAction<Integer> create -> descriptions.add("create");
+            }
+        }
+        return descriptions;
+    }
+
+    /**
+     * Generate a random schedule, where every event starts at a different time.
+     */
+    private static List<TestWatchParty> randomSchedule(Random random, int targetCount, int size) {
+
+        List<TestWatchTarget> targets = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            int total = 1 + random.nextInt(24);
+            targets.add(new TestWatchTarget(random.nextInt(total + 1), random.nextBoolean() ? total : -total, 24));
+        }
+
+        List<Integer> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(i);
+        }
+        Collections.shuffle(slots, random);
+
+        List<TestWatchParty> state = new ArrayList<>(size);
+        for (int slot : slots) {
+            state.add(new TestWatchParty(
+                    targets.get(random.nextInt(targetCount)),
+                    TestData.BASE_DATETIME.plus(slot, ChronoUnit.HOURS),
+                    1 + random.nextInt(4),
+                    1 + random.nextInt(24)
+            ));
+        }
+        return state;
+    }
+
+    private static Map<Integer, TestWatchParty> byId(List<TestWatchParty> state) {
+
+        Map<Integer, TestWatchParty> parties = new HashMap<>();
+        state.forEach(party -> parties.put(party.getId(), party));
+        return parties;
+    }
+
+    @Test
+    @DisplayName("Scheduler | Calibration - Matches Reference")
+    public void testCalibrationMatchesReference() {
+
+        Random random = new Random(24);
+
+        for (int run = 0; run < 500; run++) {
+            // Mostly small schedules, with a few ones large enough to be calibrated in parallel.
+            int size = run % 50 == 0 ?
+                    EventScheduler.PARALLEL_CALIBRATION_THRESHOLD + random.nextInt(2_000) :
+                    random.nextInt(60);
+
+            List<TestWatchParty>         state   = randomSchedule(random, 1 + random.nextInt(20), size);
+            Map<Integer, TestWatchParty> parties = byId(state);
+
+            List<String> expected = describe(referenceCalibrate(state), parties);
+            List<String> actual   = describe(new EventScheduler<>(state, TestWatchParty::getId).calibrate(), parties);
+
+            assertEquals(expected, actual, "Calibration differs from the reference on run " + run);
+        }
+    }
+
     @Test
     @DisplayName("Scheduler | Additional | Invalid Duration")
     void testInvalidDuration() {
@@ -719,4 +944,285 @@ public class EventSchedulerTests {
         assertEquals(partyC.getId(), nextForTarget2.get().getId(), "Next for target2 should be partyC.");
     }
 
+    @Test
+    @DisplayName("Scheduler | Apply | Series Scheduling")
+    public void testApplySeries() {
+
+        List<TestWatchParty> created = new ArrayList<>();
+
+        for (int day = 1; day <= 3; day++) {
+            ScheduleSpotData<TestWatchTarget> spot = new TestSpot(
+                    this.data.target2,
+                    TestData.BASE_DATETIME.plus(day, ChronoUnit.DAYS),
+                    2
+            );
+            assertTrue(this.scheduler.canSchedule(spot), "Spot should be schedulable.");
+
+            SchedulingPlan<Integer> plan = this.scheduler.schedule(spot);
+            created.addAll(this.scheduler.apply(
+                    plan, planifiable -> new TestWatchParty(
+                            planifiable.getWatchTarget(),
+                            planifiable.getStartingAt(),
+                            planifiable.getEpisodeCount(),
+                            planifiable.getFirstEpisode()
+                    )
+            ));
+        }
+
+        assertEquals(3, created.size(), "Each spot should have created an item.");
+        assertEquals(6, this.scheduler.getState().size(), "Created items should be part of the state.");
+        assertEquals(1, created.get(0).getFirstEpisode(), "Wrong first episode for the first spot.");
+        assertEquals(3, created.get(1).getFirstEpisode(), "Wrong first episode for the second spot.");
+        assertEquals(5, created.get(2).getFirstEpisode(), "Wrong first episode for the third spot.");
+        assertEquals(
+                Optional.of(created.get(1)),
+                this.scheduler.findNext(created.get(0).getStartingAt(), this.data.target2),
+                "Created items should be indexed."
+        );
+    }
+
+    @Test
+    @DisplayName("Scheduler | Apply | Update & Delete")
+    public void testApplyUpdateDelete() {
+
+        SchedulingPlan<Integer> delay = this.scheduler.delay(
+                TestData.BASE_DATETIME,
+                Duration.ofMinutes(60),
+                Duration.ofHours(1)
+        );
+        List<TestWatchParty> moved = this.scheduler.apply(delay, planifiable -> fail("Nothing should be created."));
+
+        assertEquals(List.of(this.data.partyA1), moved, "The delayed item should be returned.");
+        assertEquals(TestData.BASE_DATETIME.plus(1, ChronoUnit.HOURS), this.data.partyA1.getStartingAt());
+        assertEquals(Optional.of(this.data.partyA1), this.scheduler.findNext(TestData.BASE_DATETIME));
+
+        SchedulingPlan<Integer> delete = new SchedulingPlan<>();
+        delete.addAction(new SchedulingAction.DeleteAction<>(this.data.partyB1.getId()));
+
+        assertTrue(this.scheduler.apply(delete, planifiable -> fail("Nothing should be created.")).isEmpty());
+        assertFalse(this.scheduler.getState().contains(this.data.partyB1), "The item should have been removed.");
+        assertEquals(
+                Optional.of(this.data.partyB2),
+                this.scheduler.findNext(this.data.partyA1.getStartingAt(), this.data.target1),
+                "The removed item should not be indexed anymore."
+        );
+        assertThrows(NoSuchElementException.class, () -> this.scheduler.apply(delete, planifiable -> null));
+    }
+
+    @Test
+    @DisplayName("Scheduler | Apply | Compacted Plan")
+    public void testApplyCompacted() {
+
+        SchedulingPlan<Integer> plan = new SchedulingPlan<>();
+        plan.addAction(new SchedulingAction.UpdateAction<>(
+                this.data.partyA1.getId(),
+                item -> item.setStartingAt(item.getStartingAt().minus(1, ChronoUnit.HOURS))
+        ));
+        plan.addAction(new SchedulingAction.UpdateAction<>(this.data.partyB2.getId(), item -> item.setEpisodeCount(1)));
+        plan.addAction(new SchedulingAction.CreateAction<>(
+                new TestWatchParty(this.data.target2, TestData.BASE_DATETIME.plus(8, ChronoUnit.HOURS), 2, 1)
+        ));
+        plan.addAction(new SchedulingAction.UpdateAction<>(
+                this.data.partyA1.getId(),
+                item -> item.setEpisodeCount(item.getEpisodeCount() + 1)
+        ));
+        plan.addAction(new SchedulingAction.DeleteAction<>(this.data.partyB2.getId()));
+        plan.addAction(new SchedulingAction.UpdateAction<>(
+                this.data.partyA1.getId(),
+                item -> item.setStartingAt(item.getStartingAt().minus(1, ChronoUnit.HOURS))
+        ));
+
+        SchedulingPlan<Integer> compacted = plan.compact();
+
+        assertEquals(3, compacted.getActions().size(), "Only one action per target should remain.");
+        assertInstanceOf(SchedulingAction.UpdateAction.class, compacted.getActions().get(0));
+        assertEquals(
+                new SchedulingAction.DeleteAction<>(this.data.partyB2.getId()),
+                compacted.getActions().get(1),
+                "The deleted item should not be updated anymore."
+        );
+        assertInstanceOf(SchedulingAction.CreateAction.class, compacted.getActions().get(2));
+
+        List<TestWatchParty> changed = this.scheduler.apply(compacted, planifiable -> (TestWatchParty) planifiable);
+
+        assertEquals(2, changed.size());
+        assertEquals(TestData.BASE_DATETIME.minus(2, ChronoUnit.HOURS), this.data.partyA1.getStartingAt());
+        assertEquals(3, this.data.partyA1.getEpisodeCount(), "Merged hooks should all run, in order.");
+        assertEquals(2, this.data.partyB2.getEpisodeCount(), "Updates of a deleted item should be dropped.");
+        assertFalse(this.scheduler.getState().contains(this.data.partyB2));
+    }
+
+    @Test
+    @DisplayName("Scheduler | Find Operations | findAvailableSlots - Gaps")
+    void testFindAvailableSlots() {
+
+        Instant  base     = TestData.BASE_DATETIME;
+        Instant  before   = base.plus(6, ChronoUnit.HOURS);
+        Duration duration = this.data.partyA1.getDuration();
+        Duration step     = Duration.ofMinutes(15);
+
+        List<Instant> slots = this.scheduler.findAvailableSlots(this.data.target2, duration, base, before, step, 100);
+
+        assertEquals(this.data.partyA1.getEndingAt(), slots.getFirst(), "Each gap should start right after the previous event.");
+        assertTrue(slots.contains(this.data.partyB1.getEndingAt()));
+        assertTrue(slots.contains(this.data.partyB2.getEndingAt()));
+        assertTrue(slots.size() > 3, "Each gap should hold several candidates.");
+
+        List<Instant> gapStarts = List.of(
+                this.data.partyA1.getEndingAt(),
+                this.data.partyB1.getEndingAt(),
+                this.data.partyB2.getEndingAt()
+        );
+
+        for (int i = 0; i < slots.size(); i++) {
+            Instant slot = slots.get(i);
+            assertTrue(this.scheduler.canSchedule(new TestSpot(this.data.target2, slot, 2)), "Slot should be schedulable.");
+            assertFalse(slot.plus(duration).isAfter(before), "Slot should end in the range.");
+            assertTrue(
+                    gapStarts.contains(slot) || slot.getEpochSecond() % step.toSeconds() == 0,
+                    "Slot should either start a gap or fall on a step."
+            );
+            if (i > 0) {
+                assertTrue(slots.get(i - 1).isBefore(slot), "Slots should be in chronological order.");
+            }
+        }
+
+        Instant inGap = base.plus(50, ChronoUnit.MINUTES);
+
+        assertEquals(2, this.scheduler.findAvailableSlots(this.data.target2, duration, base, before, step, 2).size());
+        assertEquals(
+                inGap,
+                this.scheduler.findAvailableSlots(this.data.target2, duration, inGap, before, step, 10).getFirst(),
+                "A free lower bound should be a candidate itself."
+        );
+    }
+
+    @Test
+    @DisplayName("Scheduler | Find Operations | findAvailableSlots - Merge Points")
+    void testFindAvailableSlotsMergePoints() {
+
+        Instant  base     = TestData.BASE_DATETIME;
+        Instant  before   = base.plus(6, ChronoUnit.HOURS);
+        Duration duration = this.data.partyA1.getDuration();
+        Duration step     = Duration.ofMinutes(5);
+
+        List<Instant> slots = this.scheduler.findAvailableSlots(this.data.target1, duration, base, before, step, 100);
+
+        List<Instant> merges = List.of(
+                this.data.partyA1.getEndingAt(),
+                this.data.partyB1.getStartingAt().minus(duration),
+                this.data.partyB1.getEndingAt(),
+                this.data.partyB2.getStartingAt().minus(duration),
+                this.data.partyB2.getEndingAt()
+        );
+
+        assertEquals(merges, slots.subList(0, merges.size()), "Merge points should come first.");
+
+        for (Instant slot : slots.subList(merges.size(), slots.size())) {
+            for (TestWatchParty party : this.data.dataBank()) {
+                Duration afterParty  = Duration.between(party.getEndingAt(), slot);
+                Duration beforeParty = Duration.between(slot.plus(duration), party.getStartingAt());
+
+                assertFalse(
+                        !afterParty.isNegative() && afterParty.compareTo(EventScheduler.MERGE_MAGNET_LIMIT) <= 0,
+                        "A slot merged into a previous party should only be offered as its merge point."
+                );
+                assertFalse(
+                        !beforeParty.isNegative() && beforeParty.compareTo(EventScheduler.MERGE_MAGNET_LIMIT) <= 0,
+                        "A slot merged into a next party should only be offered as its merge point."
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Scheduler | Find Operations | findAvailableSlots - Too Short")
+    void testFindAvailableSlotsTooShort() {
+
+        Instant  base     = TestData.BASE_DATETIME;
+        Duration duration = Duration.ofMinutes(90);
+        Duration step     = Duration.ofMinutes(15);
+
+        assertTrue(this.scheduler.findAvailableSlots(this.data.target2, duration, base, base.plus(6, ChronoUnit.HOURS), step, 10).isEmpty());
+
+        List<Instant> slots = this.scheduler.findAvailableSlots(this.data.target2, duration, base, base.plus(7, ChronoUnit.HOURS), step, 10);
+        assertEquals(this.data.partyB2.getEndingAt(), slots.getFirst());
+        assertTrue(
+                slots.stream().noneMatch(slot -> slot.isBefore(this.data.partyB2.getEndingAt())),
+                "Only the gap after the last event is long enough."
+        );
+
+        assertThrows(
+                InvalidSchedulingDurationException.class,
+                () -> this.scheduler.findAvailableSlots(this.data.target2, Duration.ZERO, base, base.plus(1, ChronoUnit.DAYS), step, 10)
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> this.scheduler.findAvailableSlots(this.data.target2, duration, base, base.plus(1, ChronoUnit.DAYS), Duration.ZERO, 10)
+        );
+    }
+
+    @Test
+    @DisplayName("Scheduler | Find Operations | Matches Linear Search")
+    void testFindMatchesLinearSearch() {
+
+        Random                random  = new Random(42);
+        List<TestWatchTarget> targets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            targets.add(new TestWatchTarget(0, 12, 24));
+        }
+
+        for (int size : new int[]{100, 1_000, 10_000}) {
+            List<TestWatchParty> parties = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                TestWatchTarget target = targets.get(random.nextInt(targets.size()));
+                parties.add(new TestWatchParty(target, TestData.BASE_DATETIME.plus(i, ChronoUnit.HOURS), 1, 1));
+            }
+
+            int       queries = 200;
+            Instant[] times   = new Instant[queries];
+            for (int i = 0; i < queries; i++) {
+                times[i] = TestData.BASE_DATETIME.plus(random.nextInt(size * 60), ChronoUnit.MINUTES);
+            }
+
+            // What every lookup used to do: filter the whole state, then pick the closest item.
+            List<Optional<TestWatchParty>> linearResults = new ArrayList<>();
+            for (int i = 0; i < queries; i++) {
+                Instant         when   = times[i];
+                TestWatchTarget target = targets.get(i % targets.size());
+                linearResults.add(parties.stream()
+                                         .filter(item -> item.getStartingAt().isBefore(when))
+                                         .max(Comparator.comparing(Planifiable::getStartingAt)));
+                linearResults.add(parties.stream()
+                                         .filter(item -> item.getStartingAt().isAfter(when))
+                                         .min(Comparator.comparing(Planifiable::getStartingAt)));
+                linearResults.add(parties.stream()
+                                         .filter(item -> item.getStartingAt().isBefore(when))
+                                         .filter(item -> item.getWatchTarget().equals(target))
+                                         .max(Comparator.comparing(Planifiable::getStartingAt)));
+                linearResults.add(parties.stream()
+                                         .filter(item -> item.getStartingAt().isAfter(when))
+                                         .filter(item -> item.getWatchTarget().equals(target))
+                                         .min(Comparator.comparing(Planifiable::getStartingAt)));
+            }
+
+            Scheduler<TestWatchTarget, TestWatchParty, Integer> indexed = new EventScheduler<>(
+                    parties,
+                    TestWatchParty::getId
+            );
+
+            List<Optional<TestWatchParty>> indexedResults = new ArrayList<>();
+            for (int i = 0; i < queries; i++) {
+                Instant         when   = times[i];
+                TestWatchTarget target = targets.get(i % targets.size());
+                indexedResults.add(indexed.findPrevious(when));
+                indexedResults.add(indexed.findNext(when));
+                indexedResults.add(indexed.findPrevious(when, target));
+                indexedResults.add(indexed.findNext(when, target));
+            }
+
+            assertEquals(linearResults, indexedResults, "Lookups differ from a linear search among " + size + " events");
+        }
+    }
+
 }
@@ -0,0 +1,266 @@
+package fr.anisekai.server.planifier;
+
+import fr.anisekai.core.internal.plannifier.interfaces.SchedulePlanner;
+import fr.anisekai.server.domain.entities.Anime;
+import fr.anisekai.server.domain.entities.Broadcast;
+import fr.anisekai.server.domain.enums.BroadcastStatus;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BroadcastSchedule")
+@Tags({@Tag("unit-test"), @Tag("broadcast-schedule")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class BroadcastScheduleTests {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T20:00:00Z");
+
+    private static final List<BroadcastStatus> STATUSES = List.of(
+            BroadcastStatus.SCHEDULED,
+            BroadcastStatus.ACTIVE,
+            BroadcastStatus.UNSCHEDULED
+    );
+
+    private static Anime anime(long id) {
+
+        return withId(new Anime(), id);
+    }
+
+    private static Broadcast broadcast(long id, Anime anime, Instant startingAt, BroadcastStatus status) {
+
+        Broadcast broadcast = withId(new Broadcast(), id);
+        broadcast.setWatchTarget(anime);
+        broadcast.setStartingAt(startingAt);
+        broadcast.setStatus(status);
+        broadcast.setEpisodeCount(2);
+        broadcast.setFirstEpisode(1);
+        return broadcast;
+    }
+
+    private static BroadcastSchedule.Entry entry(long id, Anime anime, Instant startingAt) {
+
+        return BroadcastSchedule.Entry.of(broadcast(id, anime, startingAt, BroadcastStatus.SCHEDULED));
+    }
+
+    private static List<Long> ids(BroadcastSchedule schedule) {
+
+        return schedule.getBroadcasts().stream().map(PlannedBroadcast::getId).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("Schedule | Inactive Broadcast Is Removed")
+    public void testInactiveRemoved() {
+
+        BroadcastSchedule schedule  = new BroadcastSchedule(STATUSES);
+        Broadcast         broadcast = broadcast(1, anime(1), NOW, BroadcastStatus.SCHEDULED);
+
+        schedule.put(broadcast);
+        assertEquals(1, schedule.size());
+
+        broadcast.setStatus(BroadcastStatus.COMPLETED);
+        schedule.put(broadcast);
+        assertEquals(0, schedule.size());
+
+        schedule.put(broadcast(2, anime(1), NOW, BroadcastStatus.CANCELED));
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    @DisplayName("Schedule | Copies Are Detached")
+    public void testDetachedCopies() {
+
+        BroadcastSchedule schedule  = new BroadcastSchedule(STATUSES);
+        Broadcast         broadcast = broadcast(1, anime(1), NOW, BroadcastStatus.SCHEDULED);
+        schedule.put(broadcast);
+
+        PlannedBroadcast copy = schedule.getBroadcasts().getFirst();
+        assertNotSame(broadcast, copy);
+        assertEquals(NOW, copy.getStartingAt());
+
+        copy.setStartingAt(NOW.plus(Duration.ofDays(1)));
+        broadcast.setStartingAt(NOW.plus(Duration.ofDays(2)));
+        assertEquals(NOW, schedule.getBroadcasts().getFirst().getStartingAt());
+    }
+
+    @Test
+    @DisplayName("Schedule | Has Previous")
+    public void testHasPrevious() {
+
+        BroadcastSchedule schedule = new BroadcastSchedule(STATUSES);
+        Anime             first    = anime(1);
+        Anime             second   = anime(2);
+
+        schedule.put(broadcast(1, first, NOW, BroadcastStatus.SCHEDULED));
+        schedule.put(broadcast(2, first, NOW.plus(Duration.ofDays(7)), BroadcastStatus.UNSCHEDULED));
+        schedule.put(broadcast(3, second, NOW.plus(Duration.ofDays(7)), BroadcastStatus.UNSCHEDULED));
+
+        assertFalse(schedule.hasPrevious(first, NOW));
+        assertTrue(schedule.hasPrevious(first, NOW.plus(Duration.ofDays(7))));
+        assertFalse(schedule.hasPrevious(second, NOW.plus(Duration.ofDays(7))));
+        assertFalse(schedule.hasPrevious(anime(3), NOW.plus(Duration.ofDays(7))));
+
+        // Moving the first broadcast after the second one.
+        schedule.put(broadcast(1, first, NOW.plus(Duration.ofDays(14)), BroadcastStatus.SCHEDULED));
+        assertFalse(schedule.hasPrevious(first, NOW.plus(Duration.ofDays(7))));
+
+        schedule.remove(2);
+        assertFalse(schedule.hasPrevious(first, NOW.plus(Duration.ofDays(14))));
+    }
+
+    @Test
+    @DisplayName("Schedule | Reconcile Keeps Recent Changes")
+    public void testReconcile() {
+
+        BroadcastSchedule schedule = new BroadcastSchedule(STATUSES);
+        Anime             anime    = anime(1);
+
+        schedule.put(broadcast(1, anime, NOW, BroadcastStatus.SCHEDULED));
+        schedule.put(broadcast(2, anime, NOW.plus(Duration.ofDays(1)), BroadcastStatus.SCHEDULED));
+        schedule.put(broadcast(3, anime, NOW.plus(Duration.ofDays(2)), BroadcastStatus.SCHEDULED));
+
+        long marker = schedule.mark();
+
+        // Changed on this node while the snapshot was loading.
+        schedule.put(broadcast(4, anime, NOW.plus(Duration.ofDays(3)), BroadcastStatus.UNSCHEDULED));
+        schedule.remove(3);
+
+        // Broadcast 1 has been deleted in bulk, broadcast 2 has been moved and broadcast 5 has been created without
+        // any event.
+        int drift = schedule.reconcile(
+                marker, List.of(
+                        entry(2, anime, NOW.plus(Duration.ofHours(30))),
+                        entry(3, anime, NOW.plus(Duration.ofDays(2))),
+                        entry(5, anime, NOW.plus(Duration.ofDays(4)))
+                )
+        );
+
+        assertEquals(3, drift);
+        assertEquals(List.of(2L, 4L, 5L), ids(schedule));
+
+        Predicate<PlannedBroadcast> moved = broadcast -> broadcast.getId() == 2L;
+        assertEquals(
+                NOW.plus(Duration.ofHours(30)),
+                schedule.getBroadcasts().stream().filter(moved).findFirst().orElseThrow().getStartingAt()
+        );
+
+        // Once the deletion is older than the snapshot, the database wins again.
+        marker = schedule.mark();
+        drift  = schedule.reconcile(
+                marker, List.of(
+                        entry(3, anime, NOW.plus(Duration.ofDays(2)))
+                )
+        );
+
+        assertEquals(4, drift);
+        assertEquals(List.of(3L), ids(schedule));
+    }
+
+    @Test
+    @DisplayName("Schedule | Scheduler Is A Snapshot")
+    public void testSchedulerSnapshot() {
+
+        BroadcastSchedule schedule = new BroadcastSchedule(STATUSES);
+        Anime             anime    = anime(1);
+
+        schedule.put(broadcast(1, anime, NOW, BroadcastStatus.SCHEDULED));
+        SchedulePlanner<Anime, PlannedBroadcast, Long> before = schedule.getScheduler();
+
+        assertSame(before, schedule.getScheduler(), "Unchanged versions should share their scheduler.");
+
+        Broadcast moved = broadcast(2, anime, NOW.plus(Duration.ofDays(1)), BroadcastStatus.SCHEDULED);
+        schedule.update(List.of(moved), List.of(1L));
+        SchedulePlanner<Anime, PlannedBroadcast, Long> after = schedule.getScheduler();
+
+        assertEquals(List.of(1L), before.getState().stream().map(PlannedBroadcast::getId).toList());
+        assertEquals(List.of(2L), after.getState().stream().map(PlannedBroadcast::getId).toList());
+        assertEquals(Optional.empty(), after.findPrevious(NOW.plus(Duration.ofHours(1))));
+    }
+
+    @Test
+    @DisplayName("Schedule | Readers See Whole Versions")
+    public void testConcurrentReaders() throws InterruptedException {
+
+        int               batch    = 10;
+        int               batches  = 200;
+        BroadcastSchedule schedule = new BroadcastSchedule(STATUSES);
+        Anime             anime    = anime(1);
+        AtomicBoolean     writing  = new AtomicBoolean(true);
+        List<String>      errors   = Collections.synchronizedList(new ArrayList<>());
+
+        Runnable reader = () -> {
+            while (writing.get()) {
+                int scheduled = schedule.getScheduler().getState().size();
+                int copied    = schedule.getBroadcasts().size();
+                if (scheduled % batch != 0 || copied % batch != 0) {
+                    errors.add("Read a partial version: " + scheduled + " / " + copied);
+                }
+            }
+        };
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread thread = new Thread(reader);
+            readers.add(thread);
+            thread.start();
+        }
+
+        for (int i = 0; i < batches; i++) {
+            List<Broadcast> saved = new ArrayList<>(batch);
+            for (int j = 0; j < batch; j++) {
+                long id = (long) i * batch + j + 1;
+                saved.add(broadcast(id, anime, NOW.plus(Duration.ofHours(id)), BroadcastStatus.SCHEDULED));
+            }
+            schedule.update(saved, List.of());
+        }
+
+        writing.set(false);
+        for (Thread thread : readers) {
+            thread.join();
+        }
+
+        assertEquals(List.of(), errors);
+        assertEquals(batch * batches, schedule.getScheduler().getState().size());
+    }
+
+    @Test
+    @DisplayName("Schedule | Has Previous Matches Scan")
+    public void testHasPreviousMatchesScan() {
+
+        int             size       = 5_000;
+        int             lookups    = 500;
+        Random          random     = new Random(7);
+        List<Anime>     animes     = new ArrayList<>();
+        List<Broadcast> broadcasts = new ArrayList<>(size);
+
+        for (int i = 0; i < 100; i++) {
+            animes.add(anime(i + 1));
+        }
+
+        for (int i = 0; i < size; i++) {
+            Anime   anime      = animes.get(random.nextInt(animes.size()));
+            Instant startingAt = NOW.plus(Duration.ofMinutes(random.nextInt(525_600)));
+            broadcasts.add(broadcast(i + 1, anime, startingAt, BroadcastStatus.SCHEDULED));
+        }
+
+        BroadcastSchedule schedule = new BroadcastSchedule(STATUSES);
+        broadcasts.forEach(schedule::put);
+
+        for (int i = 0; i < lookups; i++) {
+            Broadcast probe = broadcasts.get(random.nextInt(size));
+            boolean expected = broadcasts.stream().anyMatch(
+                    broadcast -> broadcast.getWatchTarget().getId().equals(probe.getWatchTarget().getId()) &&
+                            broadcast.getStartingAt().isBefore(probe.getStartingAt())
+            );
+
+            assertEquals(expected, schedule.hasPrevious(probe.getWatchTarget(), probe.getStartingAt()));
+        }
+    }
+
+}
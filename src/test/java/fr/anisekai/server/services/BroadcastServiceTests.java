@@ -0,0 +1,291 @@
+package fr.anisekai.server.services;
+
+import fr.anisekai.core.persistence.exceptions.RequirementViolationException;
+import fr.anisekai.server.domain.entities.Anime;
+import fr.anisekai.server.domain.entities.Broadcast;
+import fr.anisekai.server.domain.enums.BroadcastStatus;
+import fr.anisekai.server.enums.BroadcastFrequency;
+import fr.anisekai.server.planifier.PlannedBroadcast;
+import fr.anisekai.server.repositories.BroadcastRepository;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BroadcastService")
+@Tags({@Tag("unit-test"), @Tag("broadcast-service")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class BroadcastServiceTests {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T20:00:00Z");
+
+    /**
+     * Synthetic broadcast table, generating ids on save like the database would.
+     */
+    static class Store {
+
+        private final Map<Long, Broadcast> broadcasts = new TreeMap<>();
+        private       long                 nextId     = 1;
+        private       int                  fullLoads  = 0;
+
+        BroadcastRepository repository() {
+
+            return (BroadcastRepository) Proxy.newProxyInstance(
+                    BroadcastRepository.class.getClassLoader(),
+                    new Class<?>[]{BroadcastRepository.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "findAllByStatusIn" -> {
+                            this.fullLoads++;
+                            Collection<?> statuses = (Collection<?>) args[0];
+                            yield this.broadcasts.values()
+                                                 .stream()
+                                                 .filter(broadcast -> statuses.contains(broadcast.getStatus()))
+                                                 .toList();
+                        }
+                        case "findAllById" -> {
+                            List<Broadcast> found = new ArrayList<>();
+                            for (Object id : (Iterable<?>) args[0]) {
+                                Optional.ofNullable(this.broadcasts.get((Long) id)).ifPresent(found::add);
+                            }
+                            yield found;
+                        }
+                        case "saveAll" -> {
+                            List<Broadcast> saved = new ArrayList<>();
+                            for (Object item : (Iterable<?>) args[0]) {
+                                saved.add(this.save((Broadcast) item));
+                            }
+                            yield saved;
+                        }
+                        case "deleteAllById" -> {
+                            for (Object id : (Iterable<?>) args[0]) {
+                                this.broadcasts.remove((Long) id);
+                            }
+                            yield null;
+                        }
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "BroadcastRepository";
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+            );
+        }
+
+        Broadcast save(Broadcast broadcast) {
+
+            if (broadcast.isNew()) {
+                withId(broadcast, this.nextId++);
+            }
+            this.broadcasts.put(broadcast.getId(), broadcast);
+            return broadcast;
+        }
+
+        Broadcast get(long id) {
+
+            return this.broadcasts.get(id);
+        }
+
+        void delete(long id) {
+
+            this.broadcasts.remove(id);
+        }
+
+        int size() {
+
+            return this.broadcasts.size();
+        }
+
+    }
+
+    private Store            store;
+    private BroadcastService service;
+
+    private static Anime anime(long id) {
+
+        Anime anime = withId(new Anime(), id);
+        anime.setTotal(12);
+        anime.setWatched(0);
+        anime.setEpisodeDuration(24);
+        return anime;
+    }
+
+    private Broadcast broadcast(Anime anime, Instant startingAt, int firstEpisode) {
+
+        Broadcast broadcast = new Broadcast();
+        broadcast.setWatchTarget(anime);
+        broadcast.setStartingAt(startingAt);
+        broadcast.setStatus(BroadcastStatus.SCHEDULED);
+        broadcast.setEpisodeCount(2);
+        broadcast.setFirstEpisode(firstEpisode);
+        return this.store.save(broadcast);
+    }
+
+    private static TransactionTemplate transaction() {
+
+        // Without any resource to commit, only the transaction synchronization remains.
+        return new TransactionTemplate(new AbstractPlatformTransactionManager() {
+
+            @Override
+            protected @NotNull Object doGetTransaction() {
+
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(@NotNull Object transaction, @NotNull TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(@NotNull DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(@NotNull DefaultTransactionStatus status) {}
+
+        });
+    }
+
+    private List<Long> scheduled() {
+
+        return this.service.getScheduler()
+                           .getState()
+                           .stream()
+                           .map(PlannedBroadcast::getId)
+                           .sorted()
+                           .toList();
+    }
+
+    @BeforeEach
+    public void setUp() {
+
+        this.store   = new Store();
+        this.service = new BroadcastService(this.store.repository(), null, null);
+    }
+
+    @Test
+    @DisplayName("Service | Schedule Around Existing Broadcasts")
+    public void testScheduleAroundExisting() {
+
+        Anime first  = anime(1);
+        Anime second = anime(2);
+
+        this.broadcast(first, NOW, 1);
+        this.broadcast(first, NOW.plus(Duration.ofDays(7)), 3);
+        this.service.reconcileSchedule();
+        int loads = this.store.fullLoads;
+
+        List<Broadcast> saved = this.service.schedule(second, NOW.plus(Duration.ofHours(2)), BroadcastFrequency.WEEKLY, 6);
+
+        assertEquals(2, saved.size());
+        assertTrue(saved.stream().noneMatch(Broadcast::isNew), "Created broadcasts should have been saved.");
+        assertEquals(List.of(1, 7), saved.stream().map(Broadcast::getFirstEpisode).sorted().toList());
+        assertEquals(4, this.store.size());
+        assertEquals(List.of(1L, 2L, 3L, 4L), this.scheduled());
+        assertEquals(loads, this.store.fullLoads, "Scheduling should not load every broadcast.");
+    }
+
+    @Test
+    @DisplayName("Service | Schedule Merges Into Existing Broadcast")
+    public void testScheduleMergesExisting() {
+
+        Anime anime = anime(1);
+
+        Broadcast existing = this.broadcast(anime, NOW, 1);
+        this.service.reconcileSchedule();
+
+        Instant         after = existing.getEndingAt().plus(Duration.ofMinutes(5));
+        List<Broadcast> saved = this.service.schedule(anime, after, BroadcastFrequency.ONCE, 2);
+
+        assertEquals(1, saved.size());
+        assertSame(existing, saved.getFirst(), "The managed entity should have been updated.");
+        assertEquals(4, this.store.get(existing.getId()).getEpisodeCount());
+        assertEquals(1, this.store.size());
+        assertEquals(4, this.service.getScheduler().getState().iterator().next().getEpisodeCount());
+    }
+
+    @Test
+    @DisplayName("Service | Delay")
+    public void testDelay() {
+
+        Anime first  = anime(1);
+        Anime second = anime(2);
+
+        Broadcast early = this.broadcast(first, NOW.plus(Duration.ofHours(1)), 1);
+        Broadcast later = this.broadcast(second, NOW.plus(Duration.ofHours(3)), 1);
+        Broadcast next  = this.broadcast(first, NOW.plus(Duration.ofDays(7)), 3);
+        this.service.reconcileSchedule();
+
+        List<Broadcast> saved = this.service.delay(NOW, Duration.ofDays(1), Duration.ofMinutes(30));
+
+        assertEquals(2, saved.size());
+        assertEquals(NOW.plus(Duration.ofMinutes(90)), this.store.get(early.getId()).getStartingAt());
+        assertEquals(NOW.plus(Duration.ofMinutes(210)), this.store.get(later.getId()).getStartingAt());
+        assertEquals(NOW.plus(Duration.ofDays(7)), this.store.get(next.getId()).getStartingAt());
+        assertEquals(
+                Optional.of(early.getId()),
+                this.service.getScheduler().findNext(NOW.plus(Duration.ofMinutes(45))).map(PlannedBroadcast::getId)
+        );
+    }
+
+    @Test
+    @DisplayName("Service | Schedule Published After Commit")
+    public void testSchedulePublishedAfterCommit() {
+
+        Anime anime = anime(1);
+
+        this.broadcast(anime, NOW, 1);
+        this.service.reconcileSchedule();
+
+        List<Broadcast> saved = transaction().execute(status -> {
+            List<Broadcast> created = this.service.schedule(anime, NOW.plus(Duration.ofDays(1)), BroadcastFrequency.ONCE, 2);
+            assertEquals(List.of(1L), this.scheduled(), "Uncommitted broadcasts should not be scheduled.");
+            return created;
+        });
+
+        assertEquals(1, saved.size());
+        assertEquals(List.of(1L, saved.getFirst().getId()), this.scheduled());
+    }
+
+    @Test
+    @DisplayName("Service | Schedule Discarded On Rollback")
+    public void testScheduleDiscardedOnRollback() {
+
+        Anime anime = anime(1);
+
+        this.broadcast(anime, NOW, 1);
+        this.service.reconcileSchedule();
+
+        transaction().executeWithoutResult(status -> {
+            this.service.schedule(anime, NOW.plus(Duration.ofDays(1)), BroadcastFrequency.ONCE, 2);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(1L), this.scheduled(), "Rolled back broadcasts should not be scheduled.");
+    }
+
+    @Test
+    @DisplayName("Service | Schedule Rejects Missing Broadcast")
+    public void testScheduleRejectsMissing() {
+
+        Anime anime = anime(1);
+
+        Broadcast existing = this.broadcast(anime, NOW, 1);
+        this.service.reconcileSchedule();
+        this.store.delete(existing.getId());
+
+        Instant after = existing.getEndingAt().plus(Duration.ofMinutes(5));
+        assertThrows(
+                RequirementViolationException.class,
+                () -> this.service.schedule(anime, after, BroadcastFrequency.ONCE, 2)
+        );
+        assertEquals(0, this.store.size(), "Nothing should have been saved.");
+    }
+
+}
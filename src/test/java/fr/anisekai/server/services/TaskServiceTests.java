@@ -0,0 +1,323 @@
+package fr.anisekai.server.services;
+
+import fr.anisekai.ApplicationConfiguration;
+import fr.anisekai.core.annotations.FatalTask;
+import fr.anisekai.core.internal.sentry.ITimedAction;
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.domain.enums.TaskStatus;
+import fr.anisekai.server.enums.TaskPipeline;
+import fr.anisekai.server.repositories.TaskRepository;
+import fr.anisekai.server.tasking.TaskArguments;
+import fr.anisekai.server.tasking.TaskBuilder;
+import fr.anisekai.server.tasking.TaskExecutor;
+import fr.anisekai.server.tasking.TaskFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskService")
+@Tags({@Tag("unit-test"), @Tag("task-service")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskServiceTests {
+
+    private static final long TIMEOUT = 5;
+
+    @FatalTask
+    static class FatalException extends RuntimeException {}
+
+    record DummyFactory(String name, TaskExecutor executor) implements TaskFactory<TaskExecutor> {
+
+        @Override
+        public @NotNull String getName() {
+
+            return this.name;
+        }
+
+        @Override
+        public @NotNull TaskExecutor create() {
+
+            return this.executor;
+        }
+
+        @Override
+        public boolean hasNamedTask() {
+
+            return true;
+        }
+
+    }
+
+    /**
+     * Synthetic task table. Rows are copied on every read and write, so the service only ever sees its changes through
+     * the repository, like it would with the database.
+     */
+    static class Store {
+
+        private final Map<Long, Task>    rows      = new TreeMap<>();
+        private final Map<Long, Instant> createdAt = new HashMap<>();
+        private       long               nextId    = 1;
+
+        TaskRepository repository() {
+
+            return (TaskRepository) Proxy.newProxyInstance(
+                    TaskRepository.class.getClassLoader(),
+                    new Class<?>[]{TaskRepository.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "TaskRepository";
+                        default -> this.invoke(method, args);
+                    }
+            );
+        }
+
+        private synchronized Object invoke(Method method, Object[] args) {
+
+            return switch (method.getName()) {
+                case "saveAll" -> {
+                    List<Task> saved = new ArrayList<>();
+                    for (Object item : (Iterable<?>) args[0]) {
+                        saved.add(this.save((Task) item));
+                    }
+                    yield saved;
+                }
+                case "findById" -> Optional.ofNullable(this.rows.get((Long) args[0])).map(Store::copy);
+                case "findAllById" -> {
+                    List<Task> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        Optional.ofNullable(this.rows.get((Long) id)).map(Store::copy).ifPresent(found::add);
+                    }
+                    yield found;
+                }
+                case "findAllByNameInAndStatus" -> this.rows.values()
+                                                            .stream()
+                                                            .filter(task -> ((Collection<?>) args[0]).contains(task.getName()))
+                                                            .filter(task -> task.getStatus() == args[1])
+                                                            .map(Store::copy)
+                                                            .toList();
+                case "findReadyOf" -> this.readyRows(task -> task.getStatus() == args[0] && ((Collection<?>) args[1]).contains(task.getFactoryName()));
+                case "findReadyByIdIn" -> this.readyRows(task -> ((Collection<?>) args[0]).contains(task.getId()) && task.getStatus() == args[1]);
+                case "findReadyByParent" -> this.readyRows(task -> Objects.equals(task.getParentId(), args[0]) && task.getStatus() == args[1]);
+                case "findIdsByParentIn" -> this.rows.values()
+                                                     .stream()
+                                                     .filter(task -> task.getParentId() != null)
+                                                     .filter(task -> ((Collection<?>) args[0]).contains(task.getParentId()))
+                                                     .filter(task -> task.getStatus() == args[1])
+                                                     .map(Task::getId)
+                                                     .toList();
+                case "claim" -> {
+                    Task    task = this.rows.get((Long) args[0]);
+                    Instant now  = (Instant) args[4];
+                    if (task == null || task.getStatus() != args[1] || (task.getNextAttemptAt() != null && task.getNextAttemptAt().isAfter(now))) {
+                        yield 0;
+                    }
+                    task.setStatus((TaskStatus) args[2]);
+                    task.setLeaseOwner((String) args[3]);
+                    yield 1;
+                }
+                case "finish" -> {
+                    Task task = this.rows.get((Long) args[0]);
+                    if (task == null || task.getStatus() != args[1] || !Objects.equals(task.getLeaseOwner(), args[2])) {
+                        yield 0;
+                    }
+                    task.setStatus((TaskStatus) args[3]);
+                    task.setFailureCount((Byte) args[4]);
+                    task.setNextAttemptAt((Instant) args[5]);
+                    task.setLeaseOwner(null);
+                    yield 1;
+                }
+                case "releaseDependents" -> this.update(
+                        task -> Objects.equals(task.getParentId(), args[0]) && task.getStatus() == args[1],
+                        (TaskStatus) args[2]
+                );
+                case "cancelWaiting" -> this.update(
+                        task -> ((Collection<?>) args[0]).contains(task.getId()) && task.getStatus() == args[1],
+                        (TaskStatus) args[2]
+                );
+                case "updateProgress" -> 0;
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+
+        private static Task copy(Task source) {
+
+            Task task = withId(new Task(), source.getId());
+            task.setFactoryName(source.getFactoryName());
+            task.setName(source.getName());
+            task.setStatus(source.getStatus());
+            task.setPriority(source.getPriority());
+            task.setArguments(source.getArguments());
+            task.setArgumentsData(source.getArgumentsData());
+            task.setParentId(source.getParentId());
+            task.setFailureCount(source.getFailureCount());
+            task.setNextAttemptAt(source.getNextAttemptAt());
+            task.setLeaseOwner(source.getLeaseOwner());
+            return task;
+        }
+
+        private Task save(Task task) {
+
+            if (task.isNew()) {
+                withId(task, this.nextId++);
+                this.createdAt.put(task.getId(), Instant.now());
+            }
+            this.rows.put(task.getId(), copy(task));
+            return task;
+        }
+
+        private List<Object[]> readyRows(Predicate<Task> filter) {
+
+            return this.rows.values().stream().filter(filter).map(task -> new Object[]{
+                    task.getId(),
+                    task.getFactoryName(),
+                    task.getPriority(),
+                    task.getNextAttemptAt() != null ? task.getNextAttemptAt() : this.createdAt.get(task.getId())
+            }).toList();
+        }
+
+        private int update(Predicate<Task> filter, TaskStatus status) {
+
+            List<Task> matching = this.rows.values().stream().filter(filter).toList();
+            matching.forEach(task -> task.setStatus(status));
+            return matching.size();
+        }
+
+        synchronized TaskStatus getStatus(long id) {
+
+            return this.rows.get(id).getStatus();
+        }
+
+    }
+
+    private Store        store;
+    private TaskService  service;
+    private List<String> executed;
+
+    private static PlatformTransactionManager transactionManager() {
+
+        // Without any resource to commit, only the transaction synchronization remains, as after-commit work would.
+        return new AbstractPlatformTransactionManager() {
+
+            @Override
+            protected @NotNull Object doGetTransaction() {
+
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(@NotNull Object transaction, @NotNull TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(@NotNull DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(@NotNull DefaultTransactionStatus status) {}
+
+        };
+    }
+
+    private DummyFactory factory(TaskPipeline pipeline, String name, TaskExecutor executor) {
+
+        DummyFactory factory = new DummyFactory(name, (ITimedAction timer, TaskArguments params) -> {
+            this.executed.add(name);
+            executor.execute(timer, params);
+        });
+
+        this.service.registerFactory(pipeline, factory);
+        return factory;
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.SECONDS), "The task has not been executed in time.");
+    }
+
+    @BeforeEach
+    public void setUp() {
+
+        ApplicationConfiguration configuration = new ApplicationConfiguration();
+        // Virtual threads do not keep the test run alive once it is over.
+        configuration.getTasking().setVirtualThreads(EnumSet.allOf(TaskPipeline.class));
+
+        this.store    = new Store();
+        this.executed = Collections.synchronizedList(new ArrayList<>());
+        this.service  = new TaskService(
+                this.store.repository(),
+                null,
+                configuration,
+                new SimpleMeterRegistry(),
+                transactionManager()
+        );
+    }
+
+    @Test
+    @DisplayName("Service | Dependent Released On Success")
+    public void testDependentReleasedOnSuccess() throws Exception {
+
+        CountDownLatch parentStarted = new CountDownLatch(1);
+        CountDownLatch parentAllowed = new CountDownLatch(1);
+        CountDownLatch childDone     = new CountDownLatch(1);
+
+        DummyFactory parentFactory = this.factory(TaskPipeline.HEAVY, "dummy:parent", (timer, params) -> {
+            parentStarted.countDown();
+            await(parentAllowed);
+        });
+        DummyFactory childFactory = this.factory(TaskPipeline.SOFT, "dummy:child", (timer, params) -> childDone.countDown());
+        this.service.freezeFactories();
+
+        TaskBuilder child  = TaskBuilder.of(childFactory).name("1:1");
+        Task        parent = this.service.queue(TaskBuilder.of(parentFactory).name("1:1").then(child));
+
+        await(parentStarted);
+        long childId = parent.getId() + 1;
+        assertEquals(TaskStatus.WAITING, this.store.getStatus(childId), "The child must wait for its parent.");
+
+        parentAllowed.countDown();
+        await(childDone);
+
+        assertEquals(List.of("dummy:parent", "dummy:child"), this.executed);
+        assertEquals(TaskStatus.SUCCEEDED, this.store.getStatus(parent.getId()));
+    }
+
+    @Test
+    @DisplayName("Service | Dependent Canceled On Failure")
+    public void testDependentCanceledOnFailure() throws Exception {
+
+        CountDownLatch parentDone = new CountDownLatch(1);
+
+        DummyFactory parentFactory = this.factory(TaskPipeline.HEAVY, "dummy:parent", (timer, params) -> {
+            parentDone.countDown();
+            throw new FatalException();
+        });
+        DummyFactory childFactory = this.factory(TaskPipeline.SOFT, "dummy:child", (timer, params) -> {});
+        this.service.freezeFactories();
+
+        Task parent  = this.service.queue(TaskBuilder.of(parentFactory).name("1:1").then(TaskBuilder.of(childFactory).name("1:1")));
+        long childId = parent.getId() + 1;
+
+        await(parentDone);
+        for (int i = 0; i < TIMEOUT * 100 && this.store.getStatus(childId) == TaskStatus.WAITING; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(TaskStatus.FAILED, this.store.getStatus(parent.getId()));
+        assertEquals(TaskStatus.CANCELED, this.store.getStatus(childId));
+        assertEquals(List.of("dummy:parent"), this.executed);
+    }
+
+}
@@ -0,0 +1,147 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskAging")
+@Tags({@Tag("unit-test"), @Tag("task-aging")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskAgingTests {
+
+    private static final Instant  ORIGIN   = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration TICK     = Duration.ofMinutes(1);
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+
+    /**
+     * Synthetic pipeline executing one task per tick while receiving {@code arrivals} new urgent tasks per tick.
+     */
+    static class Simulation {
+
+        private final List<Task> queue  = new ArrayList<>();
+        private final Duration   interval;
+        private       long       nextId = 1;
+
+        Simulation(Duration interval) {
+
+            this.interval = interval;
+        }
+
+        Task add(byte priority, Instant readySince) {
+
+            Task task = withId(new Task(), this.nextId++);
+            task.setName("task:" + task.getId());
+            task.setPriority(priority);
+            task.setNextAttemptAt(readySince);
+            this.queue.add(task);
+            return task;
+        }
+
+        /**
+         * Run the simulation until the provided task is executed.
+         *
+         * @return The amount of ticks the task waited, empty if it never ran within {@code maxTicks}.
+         */
+        OptionalLong waitFor(Task target, int arrivals, int maxTicks) {
+
+            for (int tick = 0; tick < maxTicks; tick++) {
+                Instant now = ORIGIN.plus(TICK.multipliedBy(tick));
+
+                for (int i = 0; i < arrivals; i++) {
+                    this.add(Task.PRIORITY_URGENT, now);
+                }
+
+                Task next = this.queue.stream().min(TaskAging.comparator(now, this.interval)).orElseThrow();
+                this.queue.remove(next);
+
+                if (next == target) {
+                    return OptionalLong.of(tick);
+                }
+            }
+            return OptionalLong.empty();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Aging | Effective Priority")
+    public void testEffectivePriority() {
+
+        assertEquals(1, TaskAging.getEffectivePriority((byte) 1, ORIGIN, ORIGIN, INTERVAL));
+        assertEquals(1, TaskAging.getEffectivePriority((byte) 1, ORIGIN, ORIGIN.plus(Duration.ofMinutes(9)), INTERVAL));
+        assertEquals(2, TaskAging.getEffectivePriority((byte) 1, ORIGIN, ORIGIN.plus(Duration.ofMinutes(10)), INTERVAL));
+        assertEquals(7, TaskAging.getEffectivePriority((byte) 1, ORIGIN, ORIGIN.plus(Duration.ofHours(1)), INTERVAL));
+        // A task cannot lose priority because it is not ready yet.
+        assertEquals(1, TaskAging.getEffectivePriority((byte) 1, ORIGIN, ORIGIN.minus(Duration.ofHours(1)), INTERVAL));
+    }
+
+    @Test
+    @DisplayName("Aging | Ordering Without Waiting")
+    public void testOrderingWithoutWaiting() {
+
+        Simulation simulation = new Simulation(INTERVAL);
+        Task       low        = simulation.add(Task.PRIORITY_AUTOMATIC_LOW, ORIGIN);
+        Task       high       = simulation.add(Task.PRIORITY_MANUAL_HIGH, ORIGIN);
+        Task       other      = simulation.add(Task.PRIORITY_MANUAL_HIGH, ORIGIN);
+
+        List<Task> sorted = simulation.queue.stream().sorted(TaskAging.comparator(ORIGIN, INTERVAL)).toList();
+        assertEquals(List.of(high, other, low), sorted);
+    }
+
+    @Test
+    @DisplayName("Aging | Older Task Overtakes Fresh Urgent Task")
+    public void testOlderOvertakes() {
+
+        Instant    now        = ORIGIN.plus(Duration.ofHours(1));
+        Simulation simulation = new Simulation(INTERVAL);
+        Task       low        = simulation.add(Task.PRIORITY_AUTOMATIC_LOW, ORIGIN);
+        Task       urgent     = simulation.add(Task.PRIORITY_URGENT, now);
+
+        List<Task> sorted = simulation.queue.stream().sorted(TaskAging.comparator(now, INTERVAL)).toList();
+        assertEquals(List.of(low, urgent), sorted);
+    }
+
+    @Test
+    @DisplayName("Aging | Bounded Wait Under Sustained Load")
+    public void testBoundedWait() {
+
+        int backlog = 20;
+
+        Simulation simulation = new Simulation(INTERVAL);
+        for (int i = 0; i < backlog; i++) {
+            simulation.add(Task.PRIORITY_URGENT, ORIGIN);
+        }
+        Task low = simulation.add(Task.PRIORITY_AUTOMATIC_LOW, ORIGIN);
+
+        // One urgent task per tick, as much as the pipeline can process: the queue never shrinks.
+        OptionalLong waited = simulation.waitFor(low, 1, 10_000);
+
+        // The low task can only be overtaken by the initial backlog and by the tasks that arrived within the time it
+        // needs to catch up on the priority difference.
+        long gap   = Task.PRIORITY_URGENT - Task.PRIORITY_AUTOMATIC_LOW + 1;
+        long bound = backlog + gap * (INTERVAL.toSeconds() / TICK.toSeconds());
+
+        assertTrue(waited.isPresent(), "The low priority task has starved.");
+        assertTrue(waited.getAsLong() <= bound, "Waited " + waited.getAsLong() + " ticks, expected at most " + bound);
+    }
+
+    @Test
+    @DisplayName("Aging | Starvation Without Aging")
+    public void testStarvationWithoutAging() {
+
+        // An interval way longer than the simulation is equivalent to strict priority ordering.
+        Simulation simulation = new Simulation(Duration.ofDays(3650));
+        Task       low        = simulation.add(Task.PRIORITY_AUTOMATIC_LOW, ORIGIN);
+
+        assertTrue(simulation.waitFor(low, 1, 5_000).isEmpty(), "Strict priority ordering should starve the task.");
+    }
+
+}
@@ -0,0 +1,134 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.json.AnisekaiJson;
+import fr.anisekai.core.internal.json.exceptions.JSONValidationException;
+import fr.anisekai.core.internal.json.validation.JsonObjectRule;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskArgumentCodec")
+@Tags({@Tag("unit-test"), @Tag("task-argument-codec")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskArgumentCodecTests {
+
+    private static final String OPTION_SOURCE  = "source";
+    private static final String OPTION_EPISODE = "episode";
+    private static final String OPTION_DELETE  = "delete";
+
+    private static final TaskArgumentCodec CODEC = new TaskArgumentCodec(
+            TaskArgumentCodec.Field.required(OPTION_SOURCE, TaskArgumentCodec.Type.STRING),
+            TaskArgumentCodec.Field.required(OPTION_EPISODE, TaskArgumentCodec.Type.LONG),
+            TaskArgumentCodec.Field.optional(OPTION_DELETE, TaskArgumentCodec.Type.BOOLEAN)
+    );
+
+    private static AnisekaiJson arguments() {
+
+        AnisekaiJson json = new AnisekaiJson();
+        json.put(OPTION_SOURCE, "/downloads/Épisode 12.mkv");
+        json.put(OPTION_EPISODE, 3_000_000_000L);
+        json.put(TaskExecutor.OPTION_PRIORITY, 4);
+        return json;
+    }
+
+    @Test
+    @DisplayName("Codec | Round Trip")
+    public void testRoundTrip() {
+
+        TaskArguments decoded = CODEC.decode(CODEC.encode(CODEC.read(arguments())));
+
+        assertEquals("/downloads/Épisode 12.mkv", decoded.getString(OPTION_SOURCE));
+        assertEquals(3_000_000_000L, decoded.getLong(OPTION_EPISODE));
+        assertEquals(4, decoded.getInt(TaskExecutor.OPTION_PRIORITY));
+        assertFalse(decoded.has(OPTION_DELETE));
+        assertFalse(decoded.optBoolean(OPTION_DELETE, false));
+        assertEquals(arguments().toString(), decoded.toJson().toString());
+    }
+
+    @Test
+    @DisplayName("Codec | Parsed JSON Is Accepted")
+    public void testParsedJson() {
+
+        // Small numbers are parsed back as integers.
+        TaskArguments arguments = CODEC.read(new AnisekaiJson("{\"source\":\"a\",\"episode\":12,\"delete\":true}"));
+
+        assertEquals(12, arguments.getLong(OPTION_EPISODE));
+        assertTrue(arguments.getBoolean(OPTION_DELETE));
+        assertFalse(arguments.has(TaskExecutor.OPTION_PRIORITY));
+    }
+
+    @Test
+    @DisplayName("Codec | Invalid Arguments Fail")
+    public void testInvalidArguments() {
+
+        AnisekaiJson missing = arguments();
+        missing.remove(OPTION_EPISODE);
+        assertThrows(JSONValidationException.class, () -> CODEC.read(missing));
+
+        AnisekaiJson mistyped = arguments();
+        mistyped.put(OPTION_EPISODE, "12");
+        assertThrows(JSONValidationException.class, () -> CODEC.read(mistyped));
+
+        AnisekaiJson undeclared = arguments();
+        undeclared.put("anime", 12);
+        assertThrows(IllegalArgumentException.class, () -> CODEC.read(undeclared));
+    }
+
+    @Test
+    @DisplayName("Codec | Getters Check The Declared Type")
+    public void testTypedGetters() {
+
+        TaskArguments arguments = CODEC.read(arguments());
+
+        assertThrows(IllegalArgumentException.class, () -> arguments.getInt(OPTION_EPISODE));
+        assertThrows(IllegalArgumentException.class, () -> arguments.getString("anime"));
+        assertThrows(NoSuchElementException.class, () -> arguments.getBoolean(OPTION_DELETE));
+    }
+
+    @Test
+    @DisplayName("Codec | Other Schema Is Not Decoded")
+    public void testOtherSchema() {
+
+        byte[] data = CODEC.encode(CODEC.read(arguments()));
+
+        TaskArgumentCodec reordered = new TaskArgumentCodec(
+                TaskArgumentCodec.Field.required(OPTION_EPISODE, TaskArgumentCodec.Type.LONG),
+                TaskArgumentCodec.Field.required(OPTION_SOURCE, TaskArgumentCodec.Type.STRING),
+                TaskArgumentCodec.Field.optional(OPTION_DELETE, TaskArgumentCodec.Type.BOOLEAN)
+        );
+
+        assertTrue(CODEC.canDecode(data));
+        assertFalse(reordered.canDecode(data));
+        assertThrows(IllegalArgumentException.class, () -> reordered.decode(data));
+        assertThrows(IllegalArgumentException.class, () -> new TaskArgumentCodec(
+                TaskArgumentCodec.Field.required(TaskExecutor.OPTION_PRIORITY, TaskArgumentCodec.Type.LONG)
+        ));
+    }
+
+    @Test
+    @DisplayName("Codec | Decode Matches JSON")
+    public void testDecodeMatchesJson() {
+
+        TaskArgumentCodec codec = new TaskArgumentCodec(
+                TaskArgumentCodec.Field.required(OPTION_EPISODE, TaskArgumentCodec.Type.LONG)
+        );
+
+        AnisekaiJson source = new AnisekaiJson();
+        source.put(OPTION_EPISODE, 1_234L);
+        source.put(TaskExecutor.OPTION_PRIORITY, 1);
+
+        String json = source.toString();
+        byte[] data = codec.encode(codec.read(source));
+
+        // What every execution attempt used to do: parse the stored JSON, then validate it.
+        AnisekaiJson params = new AnisekaiJson(json);
+        params.validate(new JsonObjectRule(OPTION_EPISODE, true, int.class, long.class, Integer.class, Long.class));
+
+        assertEquals(params.getLong(OPTION_EPISODE), codec.decode(data).getLong(OPTION_EPISODE));
+        assertTrue(data.length < json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+}
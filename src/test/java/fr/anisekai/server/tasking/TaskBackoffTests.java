@@ -0,0 +1,59 @@
+package fr.anisekai.server.tasking;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskBackoff")
+@Tags({@Tag("unit-test"), @Tag("task-backoff")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskBackoffTests {
+
+    private static final Duration BASE = Duration.ofSeconds(30);
+
+    @Test
+    @DisplayName("Backoff | No Failure")
+    public void testNoFailure() {
+
+        assertEquals(Duration.ZERO, TaskBackoff.compute(BASE, 0, 0.5));
+        assertEquals(Duration.ZERO, TaskBackoff.compute(Duration.ZERO, 3, 0.5));
+    }
+
+    @Test
+    @DisplayName("Backoff | Exponential Growth")
+    public void testExponentialGrowth() {
+
+        // Without jitter, only the fixed half of the delay remains.
+        assertEquals(Duration.ofSeconds(15), TaskBackoff.compute(BASE, 1, 0));
+        assertEquals(Duration.ofSeconds(30), TaskBackoff.compute(BASE, 2, 0));
+        assertEquals(Duration.ofSeconds(60), TaskBackoff.compute(BASE, 3, 0));
+        assertEquals(Duration.ofSeconds(120), TaskBackoff.compute(BASE, 4, 0));
+    }
+
+    @Test
+    @DisplayName("Backoff | Jitter Bounds")
+    public void testJitterBounds() {
+
+        for (int failures = 1; failures < 10; failures++) {
+            Duration low  = TaskBackoff.compute(BASE, failures, 0);
+            Duration high = TaskBackoff.compute(BASE, failures, 0.999999);
+
+            for (int i = 0; i < 100; i++) {
+                Duration delay = TaskBackoff.compute(BASE, failures);
+                assertTrue(delay.compareTo(low) >= 0, "Delay below the fixed half: " + delay);
+                assertTrue(delay.compareTo(high) <= 0, "Delay above the ceiling: " + delay);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Backoff | Capped Delay")
+    public void testCappedDelay() {
+
+        assertEquals(TaskBackoff.MAX_DELAY.dividedBy(2), TaskBackoff.compute(BASE, 20, 0));
+        assertTrue(TaskBackoff.compute(BASE, Integer.MAX_VALUE, 0.999999).compareTo(TaskBackoff.MAX_DELAY) <= 0);
+    }
+
+}
@@ -0,0 +1,100 @@
+package fr.anisekai.server.tasking;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskBuckets")
+@Tags({@Tag("unit-test"), @Tag("task-buckets")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskBucketsTests {
+
+    private static final String WATCHLIST    = "discord:watchlist-channel";
+    private static final String ANNOUNCEMENT = "discord:announcement-channel";
+
+    @Test
+    @DisplayName("Buckets | Invalid Capacity")
+    public void testInvalidCapacity() {
+
+        assertThrows(IllegalArgumentException.class, () -> new TaskBuckets(0));
+    }
+
+    @Test
+    @DisplayName("Buckets | No Bucket Is Never Limited")
+    public void testNoBucket() {
+
+        TaskBuckets buckets = new TaskBuckets(1);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buckets.tryAcquire(null));
+        }
+        assertFalse(buckets.isSaturated(null));
+        assertFalse(buckets.release(null));
+    }
+
+    @Test
+    @DisplayName("Buckets | Saturated Bucket Does Not Block Others")
+    public void testSaturation() {
+
+        TaskBuckets buckets = new TaskBuckets(1);
+
+        assertTrue(buckets.tryAcquire(WATCHLIST));
+        assertTrue(buckets.isSaturated(WATCHLIST));
+        assertFalse(buckets.tryAcquire(WATCHLIST));
+
+        assertFalse(buckets.isSaturated(ANNOUNCEMENT));
+        assertTrue(buckets.tryAcquire(ANNOUNCEMENT));
+
+        assertEquals(1, buckets.getLoad(WATCHLIST));
+        assertEquals(1, buckets.getLoad(ANNOUNCEMENT));
+    }
+
+    @Test
+    @DisplayName("Buckets | Release Reports Contention")
+    public void testContention() {
+
+        TaskBuckets buckets = new TaskBuckets(2);
+
+        assertTrue(buckets.tryAcquire(WATCHLIST));
+        assertTrue(buckets.tryAcquire(WATCHLIST));
+        assertFalse(buckets.tryAcquire(WATCHLIST));
+
+        assertTrue(buckets.release(WATCHLIST), "A task has been skipped while the bucket was saturated.");
+        assertFalse(buckets.release(WATCHLIST), "Nothing has been skipped since the last release.");
+        assertEquals(0, buckets.getLoad(WATCHLIST));
+    }
+
+    @Test
+    @DisplayName("Buckets | Interleaving")
+    public void testInterleaving() {
+
+        // Two workers, a backlog made only of watchlist tasks followed by announcement tasks: the second worker must
+        // serve announcements instead of waiting behind the watchlist channel.
+        TaskBuckets buckets = new TaskBuckets(1);
+        String[]    backlog = {WATCHLIST, WATCHLIST, WATCHLIST, ANNOUNCEMENT, ANNOUNCEMENT};
+        boolean[]   claimed = new boolean[backlog.length];
+
+        int first  = claimNext(buckets, backlog, claimed);
+        int second = claimNext(buckets, backlog, claimed);
+        int third  = claimNext(buckets, backlog, claimed);
+
+        assertEquals(0, first);
+        assertEquals(3, second);
+        assertEquals(-1, third, "Every remaining task targets a saturated bucket.");
+
+        assertTrue(buckets.release(WATCHLIST));
+        assertEquals(1, claimNext(buckets, backlog, claimed));
+    }
+
+    private static int claimNext(TaskBuckets buckets, String[] backlog, boolean[] claimed) {
+
+        for (int i = 0; i < backlog.length; i++) {
+            if (!claimed[i] && !buckets.isSaturated(backlog[i]) && buckets.tryAcquire(backlog[i])) {
+                claimed[i] = true;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,175 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.sentry.ITimedAction;
+import fr.anisekai.server.domain.entities.Task;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskDebouncer")
+@Tags({@Tag("unit-test"), @Tag("task-debouncer")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskDebouncerTests {
+
+    private static final Duration WINDOW  = Duration.ofMillis(100);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static final TaskFactory<TaskExecutor> DEBOUNCED = new DummyFactory("dummy:debounced", true, WINDOW);
+    private static final TaskFactory<TaskExecutor> IMMEDIATE = new DummyFactory("dummy:immediate", true, Duration.ZERO);
+    private static final TaskFactory<TaskExecutor> UNNAMED   = new DummyFactory("dummy:unnamed", false, WINDOW);
+
+    record DummyFactory(String name, boolean named, Duration window) implements TaskFactory<TaskExecutor> {
+
+        @Override
+        public @NotNull String getName() {
+
+            return this.name;
+        }
+
+        @Override
+        public @NotNull TaskExecutor create() {
+
+            return (ITimedAction timer, TaskArguments params) -> {};
+        }
+
+        @Override
+        public boolean hasNamedTask() {
+
+            return this.named;
+        }
+
+        @Override
+        public Duration debounce() {
+
+            return this.window;
+        }
+
+    }
+
+    private final List<TaskBuilder> released = new CopyOnWriteArrayList<>();
+
+    private void collect(Collection<TaskBuilder> builders) {
+
+        this.released.addAll(builders);
+    }
+
+    private void awaitReleased(int count) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (this.released.size() < count) {
+            if (System.nanoTime() > deadline) {
+                fail("The debounced tasks were not released in time.");
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    private static TaskBuilder builder(String name, byte priority) {
+
+        return TaskBuilder.of(DEBOUNCED).name(name).priority(priority);
+    }
+
+    @BeforeEach
+    public void setup() {
+
+        this.released.clear();
+    }
+
+    @Test
+    @DisplayName("Debouncer | Eligibility")
+    public void testEligibility() {
+
+        assertTrue(TaskDebouncer.isDebounced(TaskBuilder.of(DEBOUNCED).name("a")));
+        assertFalse(TaskDebouncer.isDebounced(TaskBuilder.of(DEBOUNCED)), "Unnamed tasks cannot be coalesced.");
+        assertFalse(TaskDebouncer.isDebounced(TaskBuilder.of(IMMEDIATE).name("a")), "No window means no debounce.");
+        assertFalse(TaskDebouncer.isDebounced(TaskBuilder.of(UNNAMED).name("a")), "Duplicates are allowed.");
+    }
+
+    @Test
+    @DisplayName("Debouncer | Burst Is Coalesced")
+    public void testBurstCoalesced() throws InterruptedException {
+
+        try (TaskDebouncer debouncer = new TaskDebouncer(this::collect)) {
+            for (int i = 0; i < 50; i++) {
+                debouncer.submit(builder("a", Task.PRIORITY_AUTOMATIC_LOW));
+            }
+
+            assertEquals(1, debouncer.getPendingCount());
+            this.awaitReleased(1);
+            TimeUnit.MILLISECONDS.sleep(WINDOW.toMillis() * 2);
+
+            assertEquals(1, this.released.size());
+            assertEquals(0, debouncer.getPendingCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Debouncer | Window Restarts On Trigger")
+    public void testWindowRestarts() throws InterruptedException {
+
+        try (TaskDebouncer debouncer = new TaskDebouncer(this::collect)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                debouncer.submit(builder("a", Task.PRIORITY_AUTOMATIC_LOW));
+                TimeUnit.MILLISECONDS.sleep(WINDOW.toMillis() / 2);
+            }
+            long lastTrigger = System.nanoTime();
+
+            this.awaitReleased(1);
+            long end = System.nanoTime();
+
+            assertTrue(end - lastTrigger >= WINDOW.toNanos() / 2, "The task should run after the last trigger.");
+            assertTrue(end - start >= WINDOW.toNanos() * 2, "The window should have been restarted.");
+            assertEquals(1, this.released.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Debouncer | Highest Priority Is Kept")
+    public void testHighestPriorityKept() throws InterruptedException {
+
+        try (TaskDebouncer debouncer = new TaskDebouncer(this::collect)) {
+            debouncer.submit(builder("a", Task.PRIORITY_AUTOMATIC_LOW));
+            debouncer.submit(builder("a", Task.PRIORITY_MANUAL_HIGH));
+            debouncer.submit(builder("a", Task.PRIORITY_DEFAULT));
+
+            this.awaitReleased(1);
+            assertEquals(Task.PRIORITY_MANUAL_HIGH, this.released.getFirst().getPriority());
+        }
+    }
+
+    @Test
+    @DisplayName("Debouncer | Distinct Names Are Kept")
+    public void testDistinctNames() throws InterruptedException {
+
+        try (TaskDebouncer debouncer = new TaskDebouncer(this::collect)) {
+            debouncer.submit(builder("a", Task.PRIORITY_DEFAULT));
+            debouncer.submit(builder("b", Task.PRIORITY_DEFAULT));
+            debouncer.submit(builder("a", Task.PRIORITY_DEFAULT));
+
+            this.awaitReleased(2);
+            assertEquals(2, this.released.stream().map(TaskBuilder::getName).distinct().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Debouncer | Close Flushes Pending")
+    public void testCloseFlushes() {
+
+        TaskDebouncer debouncer = new TaskDebouncer(this::collect);
+        debouncer.submit(builder("a", Task.PRIORITY_DEFAULT));
+        debouncer.submit(builder("b", Task.PRIORITY_DEFAULT));
+        debouncer.close();
+
+        assertEquals(2, this.released.size());
+        assertEquals(0, debouncer.getPendingCount());
+    }
+
+}
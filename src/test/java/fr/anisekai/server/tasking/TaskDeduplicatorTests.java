@@ -0,0 +1,311 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.sentry.ITimedAction;
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.domain.enums.TaskStatus;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskDeduplicator")
+@Tags({@Tag("unit-test"), @Tag("task-deduplicator")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskDeduplicatorTests {
+
+    private static final TaskFactory<TaskExecutor> NAMED   = new DummyFactory("dummy:named", true);
+    private static final TaskFactory<TaskExecutor> UNNAMED = new DummyFactory("dummy:unnamed", false);
+
+    record DummyFactory(String name, boolean named) implements TaskFactory<TaskExecutor> {
+
+        @Override
+        public @NotNull String getName() {
+
+            return this.name;
+        }
+
+        @Override
+        public @NotNull TaskExecutor create() {
+
+            return (ITimedAction timer, TaskArguments params) -> {};
+        }
+
+        @Override
+        public boolean hasNamedTask() {
+
+            return this.named;
+        }
+
+    }
+
+    /**
+     * Synthetic task table, counting every round trip that would hit the database.
+     */
+    static class Store {
+
+        private final Map<String, Task> scheduled  = new HashMap<>();
+        private       long              nextId     = 1;
+        private       int               roundTrips = 0;
+
+        Optional<Task> findScheduled(String name) {
+
+            this.roundTrips++;
+            return Optional.ofNullable(this.scheduled.get(name));
+        }
+
+        List<Task> findAllScheduled(Collection<String> names) {
+
+            this.roundTrips++;
+            return names.stream().map(this.scheduled::get).filter(Objects::nonNull).toList();
+        }
+
+        Task save(Task task) {
+
+            // Task ids are generated by the database, so each insert is its own statement.
+            this.roundTrips++;
+            if (task.getId() == null) {
+                withId(task, this.nextId++);
+            }
+            this.scheduled.put(task.getName(), task);
+            return task;
+        }
+
+        List<Task> saveAll(List<Task> tasks) {
+
+            return tasks.stream().map(this::save).toList();
+        }
+
+    }
+
+    private static TaskBuilder builder(TaskFactory<?> factory, String name, byte priority) {
+
+        return TaskBuilder.of(factory).name(name).priority(priority);
+    }
+
+    private static Task scheduled(String name, byte priority) {
+
+        return withId(builder(NAMED, name, priority).build(), name.hashCode());
+    }
+
+    /**
+     * Reproduction of the previous {@code TaskService.queue()} algorithm, called in a loop.
+     */
+    private static List<Task> queueLoop(Store store, List<TaskBuilder> builders) {
+
+        List<Task> result = new ArrayList<>();
+        for (TaskBuilder builder : builders) {
+            Optional<Task> optionalTask = store.findScheduled(builder.getName());
+            if (optionalTask.isPresent()) {
+                Task task = optionalTask.get();
+                if (task.getPriority() < builder.getPriority()) {
+                    task.setPriority(builder.getPriority());
+                    store.save(task);
+                }
+                result.add(task);
+                continue;
+            }
+            result.add(store.save(builder.build()));
+        }
+        return result;
+    }
+
+    private static List<Task> queueBatch(Store store, List<TaskBuilder> builders) {
+
+        TaskDeduplicator deduplicator = new TaskDeduplicator(store.findAllScheduled(TaskDeduplicator.getLookupNames(builders)));
+        List<Task>       result       = builders.stream().map(deduplicator::offer).toList();
+        store.saveAll(deduplicator.getPending());
+        return result;
+    }
+
+    private static List<TaskBuilder> burst(int size, int distinctNames) {
+
+        Random            random   = new Random(size);
+        List<TaskBuilder> builders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            builders.add(builder(NAMED, "task:" + (i % distinctNames), (byte) random.nextInt(Task.PRIORITY_URGENT + 1)));
+        }
+        return builders;
+    }
+
+    @Test
+    @DisplayName("Deduplicator | New Task")
+    public void testNewTask() {
+
+        TaskDeduplicator deduplicator = new TaskDeduplicator(Collections.emptyList());
+        Task             task         = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT));
+
+        assertEquals("a", task.getName());
+        assertEquals(TaskStatus.SCHEDULED, task.getStatus());
+        assertEquals(1, deduplicator.getPending().size());
+        assertSame(task, deduplicator.getPending().getFirst());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Lower Priority Is Dropped")
+    public void testLowerPriorityDropped() {
+
+        Task             existing     = scheduled("a", Task.PRIORITY_MANUAL_HIGH);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        Task             task         = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_AUTOMATIC_LOW));
+
+        assertSame(existing, task);
+        assertEquals(Task.PRIORITY_MANUAL_HIGH, task.getPriority());
+        assertTrue(deduplicator.getPending().isEmpty(), "Nothing should have to be saved.");
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Higher Priority Is Upgraded")
+    public void testHigherPriorityUpgraded() {
+
+        Task             existing     = scheduled("a", Task.PRIORITY_AUTOMATIC_LOW);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        Task             task         = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_MANUAL_HIGH));
+
+        assertSame(existing, task);
+        assertEquals(Task.PRIORITY_MANUAL_HIGH, task.getPriority());
+        assertEquals(1, deduplicator.getPending().size());
+        assertSame(existing, deduplicator.getPending().getFirst());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Earlier Run Is Brought Forward")
+    public void testEarlierRunBroughtForward() {
+
+        Instant          later        = Instant.now().plus(Duration.ofHours(1));
+        Task             existing     = scheduled("a", Task.PRIORITY_MANUAL_HIGH);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        existing.setNextAttemptAt(later);
+
+        deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT).at(later.plusSeconds(60)));
+        assertEquals(later, existing.getNextAttemptAt());
+        assertTrue(deduplicator.getPending().isEmpty(), "A later run should not change anything.");
+
+        deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT));
+        assertEquals(later, existing.getNextAttemptAt());
+        assertTrue(deduplicator.getPending().isEmpty(), "A plain re-queue should not change anything.");
+
+        Instant earlier = later.minusSeconds(60);
+        deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT).at(earlier));
+        assertEquals(earlier, existing.getNextAttemptAt());
+        assertEquals(Task.PRIORITY_MANUAL_HIGH, existing.getPriority());
+        assertEquals(1, deduplicator.getPending().size());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Retry Backoff Is Kept")
+    public void testRetryBackoffKept() {
+
+        Instant          retry        = Instant.now().plus(Duration.ofMinutes(5));
+        Task             existing     = scheduled("a", Task.PRIORITY_DEFAULT);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        existing.setFailureCount((byte) 2);
+        existing.setNextAttemptAt(retry);
+
+        deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT));
+        deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT).at(Instant.now()));
+
+        assertEquals(retry, existing.getNextAttemptAt());
+        assertTrue(deduplicator.getPending().isEmpty(), "Queuing a task again should not skip its backoff.");
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Duplicates Within Batch")
+    public void testDuplicatesWithinBatch() {
+
+        TaskDeduplicator deduplicator = new TaskDeduplicator(Collections.emptyList());
+        Task             first        = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_AUTOMATIC_LOW));
+        Task             second       = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_URGENT));
+        Task             third        = deduplicator.offer(builder(NAMED, "a", Task.PRIORITY_DEFAULT));
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(Task.PRIORITY_URGENT, first.getPriority());
+        assertEquals(1, deduplicator.getPending().size());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Duplicates Allowed")
+    public void testDuplicatesAllowed() {
+
+        TaskDeduplicator deduplicator = new TaskDeduplicator(Collections.emptyList());
+        Task             first        = deduplicator.offer(builder(UNNAMED, "a", Task.PRIORITY_DEFAULT));
+        Task             second       = deduplicator.offer(builder(UNNAMED, "a", Task.PRIORITY_DEFAULT));
+
+        assertNotSame(first, second);
+        assertEquals(2, deduplicator.getPending().size());
+        assertTrue(TaskDeduplicator.getLookupNames(List.of(builder(UNNAMED, "a", Task.PRIORITY_DEFAULT))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Dependent Is Always Created")
+    public void testDependentAlwaysCreated() {
+
+        Task             parent       = scheduled("parent", Task.PRIORITY_DEFAULT);
+        Task             existing     = scheduled("a", Task.PRIORITY_DEFAULT);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        TaskBuilder      dependent    = builder(NAMED, "a", Task.PRIORITY_DEFAULT).dependsOn(parent);
+        Task             task         = deduplicator.offer(dependent);
+
+        assertNotSame(existing, task, "A dependent task must not run before its parent.");
+        assertEquals(TaskStatus.WAITING, task.getStatus());
+        assertEquals(parent.getId(), task.getParentId());
+        assertTrue(TaskDeduplicator.getLookupNames(List.of(dependent)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Same Name Of Another Factory")
+    public void testSameNameOtherFactory() {
+
+        Task             existing     = scheduled("a", Task.PRIORITY_DEFAULT);
+        TaskDeduplicator deduplicator = new TaskDeduplicator(List.of(existing));
+        Task             task         = deduplicator.offer(builder(UNNAMED, "a", Task.PRIORITY_MANUAL_HIGH));
+
+        assertNotSame(existing, task);
+        assertEquals(UNNAMED.getName(), task.getFactoryName());
+        assertEquals(Task.PRIORITY_DEFAULT, existing.getPriority());
+        assertEquals(List.of(task), deduplicator.getPending());
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Same Outcome As Loop")
+    public void testSameOutcomeAsLoop() {
+
+        Store loopStore  = new Store();
+        Store batchStore = new Store();
+        queueLoop(loopStore, burst(1_000, 100));
+        queueBatch(batchStore, burst(1_000, 100));
+
+        assertEquals(loopStore.scheduled.keySet(), batchStore.scheduled.keySet());
+        for (String name : loopStore.scheduled.keySet()) {
+            assertEquals(
+                    loopStore.scheduled.get(name).getPriority(),
+                    batchStore.scheduled.get(name).getPriority(),
+                    "Priority mismatch for " + name
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Deduplicator | Round Trips")
+    public void testRoundTrips() {
+
+        for (int size : new int[]{1_000, 10_000}) {
+            for (int distinct : new int[]{size, size / 100}) {
+                Store loopStore  = new Store();
+                Store batchStore = new Store();
+                queueLoop(loopStore, burst(size, distinct));
+                queueBatch(batchStore, burst(size, distinct));
+
+                // The batch only saves each distinct task once and needs a single lookup.
+                assertEquals(1 + distinct, batchStore.roundTrips);
+                assertTrue(batchStore.roundTrips < loopStore.roundTrips);
+            }
+        }
+    }
+
+}
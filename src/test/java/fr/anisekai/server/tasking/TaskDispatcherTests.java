@@ -0,0 +1,210 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskDispatcher")
+@Tags({@Tag("unit-test"), @Tag("task-dispatcher")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskDispatcherTests {
+
+    private static final int      BACKLOG_SIZE = 300;
+    private static final Duration TASK_RUNTIME = Duration.ofMillis(5);
+    private static final Duration DRAIN_LIMIT  = Duration.ofSeconds(30);
+
+    /**
+     * Synthetic pipeline backlog, standing in for the task table.
+     */
+    static class Backlog {
+
+        private static final ThreadLocal<String> LAST_TASK = new ThreadLocal<>();
+
+        private final Queue<Task>   queue     = new ConcurrentLinkedQueue<>();
+        private final Set<String>   processed = ConcurrentHashMap.newKeySet();
+        private final Set<Thread>   threads   = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger running   = new AtomicInteger(0);
+        private final AtomicInteger peak      = new AtomicInteger(0);
+        private final AtomicInteger leaks     = new AtomicInteger(0);
+
+        Backlog(int size) {
+
+            for (int i = 0; i < size; i++) {
+                Task task = new Task();
+                task.setName("task:" + i);
+                this.queue.add(task);
+            }
+        }
+
+        Optional<Task> claim(TaskPipeline pipeline) {
+
+            return Optional.ofNullable(this.queue.poll());
+        }
+
+        void run(Task task) {
+
+            this.threads.add(Thread.currentThread());
+            if (LAST_TASK.get() != null) {
+                this.leaks.incrementAndGet();
+            }
+            LAST_TASK.set(task.getName());
+
+            int current = this.running.incrementAndGet();
+            this.peak.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(TASK_RUNTIME);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.running.decrementAndGet();
+            }
+            assertTrue(this.processed.add(task.getName()), "A task has been executed twice.");
+        }
+
+    }
+
+    private static void drain(Backlog backlog, int concurrency) throws InterruptedException {
+
+        drain(backlog, concurrency, false);
+    }
+
+    private static void drain(Backlog backlog, int concurrency, boolean virtual) throws InterruptedException {
+
+        try (TaskDispatcher dispatcher = new TaskDispatcher(TaskPipeline.SOFT, concurrency, virtual, backlog::claim, backlog::run)) {
+            dispatcher.wake();
+
+            long deadline = System.nanoTime() + DRAIN_LIMIT.toNanos();
+            while (!backlog.queue.isEmpty() || dispatcher.getActiveWorkers() > 0) {
+                if (System.nanoTime() > deadline) {
+                    fail("The backlog was not drained in time.");
+                }
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Invalid Concurrency")
+    public void testInvalidConcurrency() {
+
+        Backlog backlog = new Backlog(0);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TaskDispatcher(TaskPipeline.SOFT, 0, backlog::claim, backlog::run)
+        );
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Single Wake-up Drains Backlog")
+    public void testSingleWakeUpDrainsBacklog() throws InterruptedException {
+
+        Backlog backlog = new Backlog(BACKLOG_SIZE);
+        drain(backlog, 4);
+
+        assertEquals(BACKLOG_SIZE, backlog.processed.size(), "Every task should have been executed once.");
+        assertTrue(backlog.peak.get() <= 4, "Concurrency limit should be respected.");
+        assertTrue(backlog.peak.get() > 1, "Workers should have joined while the backlog was not empty.");
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Virtual Threads Drain Backlog")
+    public void testVirtualThreadsDrainBacklog() throws InterruptedException {
+
+        Backlog backlog = new Backlog(BACKLOG_SIZE);
+        drain(backlog, 8, true);
+
+        assertEquals(BACKLOG_SIZE, backlog.processed.size(), "Every task should have been executed once.");
+        assertTrue(backlog.peak.get() <= 8, "Concurrency limit should be respected.");
+        assertTrue(backlog.peak.get() > 1, "Workers should have joined while the backlog was not empty.");
+        assertTrue(backlog.threads.stream().allMatch(Thread::isVirtual), "Tasks should run on virtual threads.");
+        assertEquals(BACKLOG_SIZE, backlog.threads.size(), "Each task should run on its own thread.");
+        assertEquals(0, backlog.leaks.get(), "Thread local state should not leak between tasks.");
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Empty Pipeline Spawns A Single Worker")
+    public void testEmptyPipelineSingleClaim() throws InterruptedException {
+
+        AtomicInteger claims = new AtomicInteger(0);
+        Backlog       backlog = new Backlog(0);
+
+        try (TaskDispatcher dispatcher = new TaskDispatcher(
+                TaskPipeline.SOFT,
+                4,
+                pipeline -> {
+                    claims.incrementAndGet();
+                    return backlog.claim(pipeline);
+                },
+                backlog::run
+        )) {
+            dispatcher.wake();
+            while (dispatcher.getActiveWorkers() > 0) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+
+        assertEquals(1, claims.get(), "An empty pipeline should only be looked up once per wake-up.");
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Wake-up During Empty Claim Is Not Lost")
+    public void testWakeUpDuringEmptyClaim() throws InterruptedException {
+
+        Backlog                         backlog    = new Backlog(0);
+        AtomicInteger                   claims     = new AtomicInteger(0);
+        AtomicReference<TaskDispatcher> dispatcher = new AtomicReference<>();
+
+        // The first claim sees an empty pipeline while a task gets queued (and committed) concurrently.
+        Function<TaskPipeline, Optional<Task>> claimer = pipeline -> {
+            if (claims.incrementAndGet() == 1) {
+                Optional<Task> result = backlog.claim(pipeline);
+                Task           task   = new Task();
+                task.setName("late");
+                backlog.queue.add(task);
+                dispatcher.get().wake();
+                return result;
+            }
+            return backlog.claim(pipeline);
+        };
+
+        try (TaskDispatcher instance = new TaskDispatcher(TaskPipeline.HEAVY, 1, claimer, backlog::run)) {
+            dispatcher.set(instance);
+            instance.wake();
+
+            long deadline = System.nanoTime() + DRAIN_LIMIT.toNanos();
+            while (backlog.processed.isEmpty()) {
+                if (System.nanoTime() > deadline) {
+                    fail("The task queued during the claim has never been executed.");
+                }
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+
+        assertTrue(backlog.processed.contains("late"), "The late task should have been executed.");
+    }
+
+    @Test
+    @DisplayName("Dispatcher | Single Worker Drains Backlog")
+    public void testSingleWorkerDrainsBacklog() throws InterruptedException {
+
+        Backlog backlog = new Backlog(BACKLOG_SIZE);
+        drain(backlog, 1);
+
+        assertEquals(BACKLOG_SIZE, backlog.processed.size(), "Every task should have been executed once.");
+        assertEquals(1, backlog.peak.get(), "A single worker should never run tasks concurrently.");
+    }
+
+}
@@ -0,0 +1,143 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.sentry.ITimedAction;
+import fr.anisekai.server.domain.entities.Task;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskExecution")
+@Tags({@Tag("unit-test"), @Tag("task-execution")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskExecutionTests {
+
+    private static final long TIMEOUT = 5;
+
+    /**
+     * Executor blocking until interrupted, counting how many times it has been canceled.
+     */
+    static class BlockingExecutor implements TaskExecutor {
+
+        private final AtomicInteger  cancellations = new AtomicInteger(0);
+        private final CountDownLatch started       = new CountDownLatch(1);
+
+        @Override
+        public void execute(ITimedAction timer, TaskArguments params) throws InterruptedException {
+
+            this.started.countDown();
+            new CountDownLatch(1).await();
+        }
+
+        @Override
+        public void cancel() {
+
+            this.cancellations.incrementAndGet();
+        }
+
+    }
+
+    private static Task task() {
+
+        Task task = withId(new Task(), 1L);
+        task.setName("task");
+        return task;
+    }
+
+    @AfterEach
+    public void clearInterruption() {
+
+        //noinspection ResultOfMethodCallIgnored
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("Execution | Deadline")
+    public void testDeadline() {
+
+        TaskExecution bounded   = new TaskExecution(task(), Duration.ofMinutes(1));
+        TaskExecution unbounded = new TaskExecution(task(), Duration.ZERO);
+        Instant       later     = Instant.now().plus(Duration.ofMinutes(2));
+
+        assertFalse(bounded.isOverdue(Instant.now()));
+        assertTrue(bounded.isOverdue(later));
+        assertTrue(unbounded.getDeadline().isEmpty());
+        assertFalse(unbounded.isOverdue(later));
+    }
+
+    @Test
+    @DisplayName("Execution | Interrupt Running Executor")
+    public void testInterruptRunning() throws InterruptedException {
+
+        BlockingExecutor               executor = new BlockingExecutor();
+        AtomicReference<TaskExecution> holder   = new AtomicReference<>();
+        AtomicReference<Throwable>     thrown   = new AtomicReference<>();
+        AtomicReference<Boolean>       leftover = new AtomicReference<>();
+        CountDownLatch                 finished = new CountDownLatch(1);
+
+        Thread worker = Thread.ofPlatform().start(() -> {
+            TaskExecution execution = new TaskExecution(task(), Duration.ZERO);
+            holder.set(execution);
+            execution.attach(executor);
+            try {
+                executor.execute(null, null);
+            } catch (InterruptedException e) {
+                thrown.set(e);
+            } finally {
+                execution.finish();
+                leftover.set(Thread.currentThread().isInterrupted());
+                finished.countDown();
+            }
+        });
+
+        assertTrue(executor.started.await(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(holder.get().interrupt(TaskExecution.Interruption.CANCELED));
+        assertFalse(holder.get().interrupt(TaskExecution.Interruption.TIMEOUT), "An execution is interrupted once.");
+        assertTrue(finished.await(TIMEOUT, TimeUnit.SECONDS));
+        worker.join();
+
+        assertInstanceOf(InterruptedException.class, thrown.get());
+        assertEquals(1, executor.cancellations.get());
+        assertEquals(TaskExecution.Interruption.CANCELED, holder.get().getInterruption().orElseThrow());
+        assertFalse(leftover.get(), "The interruption must not leak onto the next task.");
+    }
+
+    @Test
+    @DisplayName("Execution | No Interrupt After Finish")
+    public void testNoInterruptAfterFinish() {
+
+        BlockingExecutor executor  = new BlockingExecutor();
+        TaskExecution    execution = new TaskExecution(task(), Duration.ZERO);
+
+        execution.attach(executor);
+        execution.finish();
+
+        assertFalse(execution.interrupt(TaskExecution.Interruption.TIMEOUT));
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(0, executor.cancellations.get());
+        assertTrue(execution.getInterruption().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Execution | Late Attach Is Canceled")
+    public void testLateAttach() {
+
+        BlockingExecutor executor  = new BlockingExecutor();
+        TaskExecution    execution = new TaskExecution(task(), Duration.ZERO);
+
+        assertTrue(execution.interrupt(TaskExecution.Interruption.TIMEOUT));
+        execution.attach(executor);
+        execution.finish();
+
+        assertEquals(1, executor.cancellations.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+}
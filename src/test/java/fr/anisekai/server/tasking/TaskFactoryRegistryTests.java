@@ -0,0 +1,198 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.core.internal.sentry.ITimedAction;
+import fr.anisekai.server.enums.TaskPipeline;
+import fr.anisekai.server.exceptions.task.FactoryAlreadyRegisteredException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskFactoryRegistry")
+@Tags({@Tag("unit-test"), @Tag("task-factory-registry")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskFactoryRegistryTests {
+
+    private static final String WATCHLIST = "discord:watchlist-channel";
+
+    static class DummyFactory implements TaskFactory<TaskExecutor> {
+
+        private final String name;
+        private final String bucket;
+
+        DummyFactory(String name, String bucket) {
+
+            this.name   = name;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public @NotNull String getName() {
+
+            return this.name;
+        }
+
+        @Override
+        public @NotNull TaskExecutor create() {
+
+            return (ITimedAction timer, TaskArguments params) -> {};
+        }
+
+        @Override
+        public boolean hasNamedTask() {
+
+            return true;
+        }
+
+        @Override
+        public String rateBucket() {
+
+            return this.bucket;
+        }
+
+    }
+
+    static class WatchlistFactory extends DummyFactory {
+
+        WatchlistFactory() {
+
+            super("watchlist:update", WATCHLIST);
+        }
+
+    }
+
+    static class AnnouncementFactory extends DummyFactory {
+
+        AnnouncementFactory() {
+
+            super("announcement:update", WATCHLIST);
+        }
+
+    }
+
+    static class ImportFactory extends DummyFactory {
+
+        ImportFactory() {
+
+            super("media:import", null);
+        }
+
+    }
+
+    static class OtherImportFactory extends DummyFactory {
+
+        OtherImportFactory() {
+
+            super("media:import", null);
+        }
+
+    }
+
+    private static TaskFactoryRegistry registry() {
+
+        TaskFactoryRegistry registry = new TaskFactoryRegistry();
+        registry.register(TaskPipeline.MESSAGING, new WatchlistFactory());
+        registry.register(TaskPipeline.SOFT, new AnnouncementFactory());
+        registry.register(TaskPipeline.HEAVY, new ImportFactory());
+        return registry;
+    }
+
+    /**
+     * Reproduction of the previous {@code TaskService.getFactory()} lookup.
+     */
+    private static <T extends TaskFactory<?>> T scan(Map<TaskPipeline, Collection<TaskFactory<?>>> factories, Class<T> factoryClass) {
+
+        return factories.values()
+                        .stream()
+                        .flatMap(Collection::stream)
+                        .filter(factoryClass::isInstance)
+                        .map(factoryClass::cast)
+                        .findAny()
+                        .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Registry | Lookups")
+    public void testLookups() {
+
+        TaskFactoryRegistry registry  = registry();
+        WatchlistFactory    watchlist = registry.getByClass(WatchlistFactory.class);
+
+        assertNotNull(watchlist);
+        assertSame(watchlist, registry.getByName("watchlist:update"));
+        assertEquals(TaskPipeline.MESSAGING, registry.getPipeline(watchlist));
+        assertEquals(TaskPipeline.HEAVY, registry.getPipeline("media:import"));
+        assertEquals(List.of("announcement:update"), registry.getFactoryNames(TaskPipeline.SOFT));
+        assertEquals(EnumSet.of(TaskPipeline.MESSAGING, TaskPipeline.SOFT), registry.getPipelinesOfBucket(WATCHLIST));
+
+        assertNull(registry.getByClass(OtherImportFactory.class));
+        assertNull(registry.getByName("unknown"));
+        assertNull(registry.getPipeline(new OtherImportFactory()), "An unregistered instance has no pipeline.");
+    }
+
+    @Test
+    @DisplayName("Registry | Duplicate Name Fails")
+    public void testDuplicateName() {
+
+        TaskFactoryRegistry registry = registry();
+
+        FactoryAlreadyRegisteredException exception = assertThrows(
+                FactoryAlreadyRegisteredException.class,
+                () -> registry.register(TaskPipeline.SOFT, new OtherImportFactory())
+        );
+
+        assertEquals(TaskPipeline.HEAVY, exception.getPipeline());
+        assertInstanceOf(ImportFactory.class, registry.getByName("media:import"));
+    }
+
+    @Test
+    @DisplayName("Registry | Duplicate Instance Fails")
+    public void testDuplicateInstance() {
+
+        TaskFactoryRegistry registry = new TaskFactoryRegistry();
+        ImportFactory       factory  = new ImportFactory();
+        registry.register(TaskPipeline.HEAVY, factory);
+
+        assertThrows(FactoryAlreadyRegisteredException.class, () -> registry.register(TaskPipeline.SOFT, factory));
+        assertEquals(List.of(factory), registry.getFactories(TaskPipeline.HEAVY));
+        assertTrue(registry.getFactories(TaskPipeline.SOFT).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Registry | Frozen Rejects Registration")
+    public void testFrozen() {
+
+        TaskFactoryRegistry registry = new TaskFactoryRegistry();
+        registry.freeze();
+
+        assertTrue(registry.isFrozen());
+        assertThrows(IllegalStateException.class, () -> registry.register(TaskPipeline.HEAVY, new ImportFactory()));
+    }
+
+    @Test
+    @DisplayName("Registry | Listener Path Matches Scan")
+    public void testListenerPathMatchesScan() {
+
+        TaskFactoryRegistry                            registry  = new TaskFactoryRegistry();
+        Map<TaskPipeline, Collection<TaskFactory<?>>> factories = new HashMap<>();
+        TaskPipeline[]                                 pipelines = TaskPipeline.values();
+
+        // As many factories as the application registers, the looked up one being registered last.
+        for (int i = 0; i < 15; i++) {
+            TaskPipeline pipeline = pipelines[i % pipelines.length];
+            DummyFactory factory  = new DummyFactory("dummy:" + i, null);
+            registry.register(pipeline, factory);
+            factories.computeIfAbsent(pipeline, key -> new HashSet<>()).add(factory);
+        }
+        WatchlistFactory target = new WatchlistFactory();
+        registry.register(TaskPipeline.MESSAGING, target);
+        factories.get(TaskPipeline.MESSAGING).add(target);
+        registry.freeze();
+
+        assertSame(target, scan(factories, WatchlistFactory.class));
+        assertSame(target, registry.getByClass(WatchlistFactory.class));
+    }
+
+}
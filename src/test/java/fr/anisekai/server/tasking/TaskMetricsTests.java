@@ -0,0 +1,98 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import fr.anisekai.server.enums.TaskPipeline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskMetrics")
+@Tags({@Tag("unit-test"), @Tag("task-metrics")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskMetricsTests {
+
+    private MeterRegistry registry;
+    private TaskMetrics   metrics;
+
+    @BeforeEach
+    public void setup() {
+
+        this.registry = new SimpleMeterRegistry();
+        this.metrics  = new TaskMetrics(this.registry);
+    }
+
+    private double gauge(String name, TaskPipeline pipeline) {
+
+        return this.registry.get(name).tag("pipeline", pipeline.name().toLowerCase()).gauge().value();
+    }
+
+    @Test
+    @DisplayName("Metrics | Execution Per Factory")
+    public void testExecutionPerFactory() {
+
+        this.metrics.recordExecution("media:import", Duration.ofSeconds(10), TaskMetrics.Outcome.SUCCEEDED);
+        this.metrics.recordExecution("media:import", Duration.ofSeconds(30), TaskMetrics.Outcome.SUCCEEDED);
+        this.metrics.recordExecution("media:import", Duration.ofSeconds(1), TaskMetrics.Outcome.RETRIED);
+        this.metrics.recordExecution("watchlist:update", Duration.ofMillis(200), TaskMetrics.Outcome.FAILED);
+
+        Timer imports = this.registry.get(TaskMetrics.EXECUTION)
+                                     .tag("factory", "media:import")
+                                     .tag("outcome", "succeeded")
+                                     .timer();
+
+        assertEquals(2, imports.count());
+        assertEquals(40, imports.totalTime(TimeUnit.SECONDS), 0.001);
+
+        assertEquals(2, this.registry.get(TaskMetrics.OUTCOME).tag("factory", "media:import").tag("outcome", "succeeded").counter().count());
+        assertEquals(1, this.registry.get(TaskMetrics.OUTCOME).tag("factory", "media:import").tag("outcome", "retried").counter().count());
+        assertEquals(1, this.registry.get(TaskMetrics.OUTCOME).tag("factory", "watchlist:update").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Metrics | Backlog Gauges")
+    public void testBacklogGauges() {
+
+        TaskReadyQueue heavy = new TaskReadyQueue(factoryName -> null);
+        TaskReadyQueue soft  = new TaskReadyQueue(factoryName -> null);
+
+        this.metrics.monitor(TaskPipeline.HEAVY, heavy);
+        this.metrics.monitor(TaskPipeline.SOFT, soft);
+
+        assertEquals(0, this.gauge(TaskMetrics.DEPTH, TaskPipeline.HEAVY));
+        assertEquals(0, this.gauge(TaskMetrics.OLDEST_AGE, TaskPipeline.HEAVY));
+
+        Instant now = Instant.now();
+        heavy.add(new TaskReadyQueue.Entry(1, "media:import", Task.PRIORITY_DEFAULT, now.minus(Duration.ofMinutes(5))));
+        heavy.add(new TaskReadyQueue.Entry(2, "media:import", Task.PRIORITY_DEFAULT, now));
+        heavy.add(new TaskReadyQueue.Entry(3, "media:import", Task.PRIORITY_DEFAULT, now.plus(Duration.ofHours(1))));
+
+        assertEquals(2, this.gauge(TaskMetrics.DEPTH, TaskPipeline.HEAVY));
+        assertEquals(300, this.gauge(TaskMetrics.OLDEST_AGE, TaskPipeline.HEAVY), 2);
+        assertEquals(0, this.gauge(TaskMetrics.DEPTH, TaskPipeline.SOFT));
+
+        heavy.remove(1);
+        heavy.remove(2);
+
+        assertEquals(0, this.gauge(TaskMetrics.DEPTH, TaskPipeline.HEAVY));
+        assertEquals(0, this.gauge(TaskMetrics.OLDEST_AGE, TaskPipeline.HEAVY));
+    }
+
+    @Test
+    @DisplayName("Metrics | Active Workers")
+    public void testActiveWorkers() {
+
+        try (TaskDispatcher dispatcher = new TaskDispatcher(TaskPipeline.SOFT, 2, pipeline -> Optional.empty(), task -> {})) {
+            this.metrics.monitor(dispatcher);
+            assertEquals(0, this.gauge(TaskMetrics.WORKERS, TaskPipeline.SOFT));
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package fr.anisekai.server.tasking;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskProgress")
+@Tags({@Tag("unit-test"), @Tag("task-progress")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskProgressTests {
+
+    private static final Instant  START    = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration THROTTLE = Duration.ofSeconds(15);
+
+    private final List<TaskProgress.Snapshot> published = new ArrayList<>();
+
+    private TaskProgress progress() {
+
+        this.published.clear();
+        return new TaskProgress(START, THROTTLE, this.published::add);
+    }
+
+    @Test
+    @DisplayName("Progress | Estimated End")
+    public void testEstimatedEnd() {
+
+        TaskProgress progress = this.progress();
+        progress.report(0.25, "Converting", START.plusSeconds(60));
+
+        TaskProgress.Snapshot snapshot = progress.getSnapshot().orElseThrow();
+        assertEquals(0.25, snapshot.progress());
+        assertEquals("Converting", snapshot.message());
+        assertEquals(START.plusSeconds(240), snapshot.estimatedEndAt());
+        assertEquals(START.plusSeconds(60), snapshot.updatedAt());
+    }
+
+    @Test
+    @DisplayName("Progress | No Estimation Without Progress")
+    public void testNoEstimation() {
+
+        TaskProgress progress = this.progress();
+        assertTrue(progress.getSnapshot().isEmpty());
+
+        progress.report(0, null, START.plusSeconds(10));
+        assertNull(progress.getSnapshot().orElseThrow().estimatedEndAt());
+    }
+
+    @Test
+    @DisplayName("Progress | Reports Are Throttled")
+    public void testThrottled() {
+
+        TaskProgress progress = this.progress();
+
+        progress.report(0.1, "a", START.plusSeconds(1));
+        progress.report(0.2, "b", START.plusSeconds(5));
+        progress.report(0.3, "c", START.plusSeconds(10));
+        progress.report(0.4, "d", START.plusSeconds(16));
+
+        assertEquals(List.of("a", "d"), this.published.stream().map(TaskProgress.Snapshot::message).toList());
+        assertEquals("d", progress.getSnapshot().orElseThrow().message(), "The snapshot must not be throttled.");
+    }
+
+    @Test
+    @DisplayName("Progress | Completion Is Always Published")
+    public void testCompletion() {
+
+        TaskProgress progress = this.progress();
+
+        progress.report(0.5, "a", START.plusSeconds(1));
+        progress.report(1, "b", START.plusSeconds(2));
+
+        assertEquals(2, this.published.size());
+        assertEquals(START.plusSeconds(2), this.published.getLast().estimatedEndAt());
+    }
+
+    @Test
+    @DisplayName("Progress | Values Are Sanitized")
+    public void testSanitized() {
+
+        TaskProgress progress = this.progress();
+
+        progress.report(4, "x".repeat(300), START.plusSeconds(1));
+        TaskProgress.Snapshot snapshot = progress.getSnapshot().orElseThrow();
+
+        assertEquals(1, snapshot.progress());
+        assertTrue(snapshot.message().length() <= TaskProgress.MAX_MESSAGE_LENGTH);
+        assertThrows(IllegalArgumentException.class, () -> progress.report(Double.NaN, null, START));
+    }
+
+}
@@ -0,0 +1,201 @@
+package fr.anisekai.server.tasking;
+
+import fr.anisekai.server.domain.entities.Task;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static fr.anisekai.utils.EntityTestUtils.withId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskReadyQueue")
+@Tags({@Tag("unit-test"), @Tag("task-ready-queue")})
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+public class TaskReadyQueueTests {
+
+    private static final Instant  NOW      = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+
+    private static final String WATCHLIST    = "discord:watchlist-channel";
+    private static final String ANNOUNCEMENT = "discord:announcement-channel";
+
+    private static final Map<String, String> BUCKETS = Map.of(
+            "watchlist:update", WATCHLIST,
+            "announcement:update", ANNOUNCEMENT
+    );
+
+    private static final List<String> FACTORIES = List.of("watchlist:update", "announcement:update", "anime:count");
+
+    private static TaskReadyQueue queue() {
+
+        return new TaskReadyQueue(BUCKETS::get);
+    }
+
+    private static Task task(long id, String factoryName, byte priority, Instant readySince) {
+
+        Task task = withId(new Task(), id);
+        task.setName("task:" + id);
+        task.setFactoryName(factoryName);
+        task.setPriority(priority);
+        task.setNextAttemptAt(readySince);
+        return task;
+    }
+
+    private static List<Task> backlog(int size, long seed) {
+
+        Random     random = new Random(seed);
+        List<Task> tasks  = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Mostly ready tasks, waiting up to 2 hours, with a few delayed ones.
+            Instant readySince = NOW.minusSeconds(random.nextInt(7_200)).plusSeconds(random.nextInt(10) == 0 ? 7_200 : 0);
+            tasks.add(task(
+                    i + 1,
+                    FACTORIES.get(random.nextInt(FACTORIES.size())),
+                    (byte) random.nextInt(Task.PRIORITY_URGENT + 1),
+                    readySince
+            ));
+        }
+        return tasks;
+    }
+
+    private static List<Long> drain(TaskReadyQueue queue) {
+
+        List<Long>                     order = new ArrayList<>();
+        Optional<TaskReadyQueue.Entry> next;
+        while ((next = queue.poll(NOW, INTERVAL, bucket -> false)).isPresent()) {
+            order.add(next.get().id());
+        }
+        return order;
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Same Order As Aging Comparator")
+    public void testSameOrderAsComparator() {
+
+        List<Task>     tasks = backlog(5_000, 42);
+        TaskReadyQueue queue = queue();
+        tasks.forEach(task -> queue.add(TaskReadyQueue.Entry.of(task)));
+
+        List<Long> expected = tasks.stream()
+                                   .filter(task -> !task.getNextAttemptAt().isAfter(NOW))
+                                   .sorted(TaskAging.comparator(NOW, INTERVAL))
+                                   .map(Task::getId)
+                                   .toList();
+
+        assertEquals(expected, drain(queue));
+        assertEquals(tasks.size() - expected.size(), queue.size(), "Delayed tasks must be kept for later.");
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Delayed Task Is Not Ready")
+    public void testDelayedTask() {
+
+        TaskReadyQueue queue = queue();
+        queue.add(TaskReadyQueue.Entry.of(task(1, "anime:count", Task.PRIORITY_URGENT, NOW.plusSeconds(60))));
+
+        assertTrue(queue.poll(NOW, INTERVAL, bucket -> false).isEmpty());
+        assertEquals(1, queue.poll(NOW.plusSeconds(60), INTERVAL, bucket -> false).orElseThrow().id());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Saturated Bucket Is Skipped")
+    public void testSaturatedBucket() {
+
+        TaskReadyQueue queue   = queue();
+        Set<String>    skipped = new HashSet<>();
+
+        queue.add(TaskReadyQueue.Entry.of(task(1, "watchlist:update", Task.PRIORITY_URGENT, NOW)));
+        queue.add(TaskReadyQueue.Entry.of(task(2, "announcement:update", Task.PRIORITY_DEFAULT, NOW)));
+
+        TaskReadyQueue.Entry next = queue.poll(NOW, INTERVAL, bucket -> {
+            if (WATCHLIST.equals(bucket)) {
+                skipped.add(bucket);
+                return true;
+            }
+            return false;
+        }).orElseThrow();
+
+        assertEquals(2, next.id());
+        assertEquals(Set.of(WATCHLIST), skipped);
+        assertEquals(1, queue.poll(NOW, INTERVAL, bucket -> false).orElseThrow().id());
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Update Replaces Entry")
+    public void testUpdate() {
+
+        TaskReadyQueue queue = queue();
+        queue.add(TaskReadyQueue.Entry.of(task(1, "anime:count", Task.PRIORITY_DEFAULT, NOW)));
+        queue.add(TaskReadyQueue.Entry.of(task(2, "anime:count", Task.PRIORITY_MANUAL_HIGH, NOW)));
+        queue.add(TaskReadyQueue.Entry.of(task(1, "anime:count", Task.PRIORITY_URGENT, NOW)));
+
+        assertEquals(2, queue.size());
+        assertEquals(List.of(1L, 2L), drain(queue));
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Reconcile Keeps Recent Entries")
+    public void testReconcile() {
+
+        TaskReadyQueue queue = queue();
+        queue.add(TaskReadyQueue.Entry.of(task(1, "anime:count", Task.PRIORITY_DEFAULT, NOW)));
+        queue.add(TaskReadyQueue.Entry.of(task(2, "anime:count", Task.PRIORITY_DEFAULT, NOW)));
+
+        long marker = queue.mark();
+
+        // Queued on this node while the snapshot was loading, and not part of it.
+        queue.add(TaskReadyQueue.Entry.of(task(3, "anime:count", Task.PRIORITY_DEFAULT, NOW)));
+
+        // Task 1 has been claimed by another node, task 4 has been queued by another node.
+        queue.reconcile(marker, List.of(
+                TaskReadyQueue.Entry.of(task(2, "anime:count", Task.PRIORITY_DEFAULT, NOW)),
+                TaskReadyQueue.Entry.of(task(4, "anime:count", Task.PRIORITY_DEFAULT, NOW))
+        ));
+
+        assertEquals(List.of(2L, 3L, 4L), drain(queue));
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Backlog Ignores Delayed Entries")
+    public void testBacklog() {
+
+        TaskReadyQueue queue = queue();
+
+        assertEquals(0, queue.countReady(NOW));
+        assertTrue(queue.findOldestReadySince(NOW).isEmpty());
+
+        queue.add(TaskReadyQueue.Entry.of(task(1, "watchlist:update", Task.PRIORITY_DEFAULT, NOW.minusSeconds(300))));
+        queue.add(TaskReadyQueue.Entry.of(task(2, "anime:count", Task.PRIORITY_URGENT, NOW.minusSeconds(60))));
+        queue.add(TaskReadyQueue.Entry.of(task(3, "anime:count", Task.PRIORITY_URGENT, NOW)));
+        queue.add(TaskReadyQueue.Entry.of(task(4, "anime:count", Task.PRIORITY_DEFAULT, NOW.plusSeconds(60))));
+
+        assertEquals(3, queue.countReady(NOW));
+        assertEquals(NOW.minusSeconds(300), queue.findOldestReadySince(NOW).orElseThrow());
+
+        queue.remove(1);
+
+        assertEquals(2, queue.countReady(NOW));
+        assertEquals(NOW.minusSeconds(60), queue.findOldestReadySince(NOW).orElseThrow());
+        assertEquals(3, queue.countReady(NOW.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("ReadyQueue | Next Delayed Entry")
+    public void testNextReadySince() {
+
+        TaskReadyQueue queue = queue();
+        queue.add(TaskReadyQueue.Entry.of(task(1, "watchlist:update", Task.PRIORITY_DEFAULT, NOW)));
+
+        assertTrue(queue.findNextReadySince(NOW).isEmpty());
+
+        queue.add(TaskReadyQueue.Entry.of(task(2, "watchlist:update", Task.PRIORITY_DEFAULT, NOW.plusSeconds(600))));
+        queue.add(TaskReadyQueue.Entry.of(task(3, "anime:count", Task.PRIORITY_URGENT, NOW.plusSeconds(60))));
+
+        assertEquals(NOW.plusSeconds(60), queue.findNextReadySince(NOW).orElseThrow());
+        assertEquals(NOW.plusSeconds(600), queue.findNextReadySince(NOW.plusSeconds(60)).orElseThrow());
+    }
+
+}
@@ -0,0 +1,39 @@
+package fr.anisekai.utils;
+
+import fr.anisekai.core.persistence.domain.IncrementableEntity;
+
+import java.lang.reflect.Field;
+
+/**
+ * Test helpers for entities whose identifier is normally generated by the database.
+ */
+public final class EntityTestUtils {
+
+    private EntityTestUtils() {}
+
+    /**
+     * Define the identifier of the provided {@link IncrementableEntity}, as the database would have when saving it.
+     *
+     * @param entity
+     *         The {@link IncrementableEntity}.
+     * @param id
+     *         The identifier to define.
+     * @param <E>
+     *         The type of the {@link IncrementableEntity}.
+     *
+     * @return The same {@link IncrementableEntity}, for chaining.
+     */
+    @SuppressWarnings("deprecation")
+    public static <E extends IncrementableEntity> E withId(E entity, long id) {
+
+        try {
+            Field field = IncrementableEntity.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to define the identifier of the entity.", e);
+        }
+    }
+
+}